@@ -0,0 +1,46 @@
+package com.yelstream.topp.time.benchmark;
+
+import com.yelstream.topp.time.declare.ClockDeclaration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ *   Benchmark of creating clocks from textual declarations.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ClockDeclarationBenchmark {
+    @Param({
+        "systemInZoneUTC",
+        "fixed(instant=2022-01-01T00:00:00Z,zone=UTC)",
+        "systemInDefaultZone(multiplyBy=3,divideBy=2)",
+        "startingAtTime(localDateTime=2022-01-01T00:00,zone=UTC,offset=PT1H,tick=PT15M,multiplyBy=60,adjustable)"
+    })
+    private String declaration;
+
+    @Benchmark
+    public Clock createClock() {
+        return ClockDeclaration.createClock(declaration);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Clock createClockContended() {
+        return ClockDeclaration.createClock(declaration);
+    }
+}
@@ -0,0 +1,175 @@
+package com.yelstream.topp.time.benchmark;
+
+import com.yelstream.topp.time.AdjustableClock;
+import com.yelstream.topp.time.CoarseClock;
+import com.yelstream.topp.time.CompositeClock;
+import com.yelstream.topp.time.ContextClock;
+import com.yelstream.topp.time.EpochNanos;
+import com.yelstream.topp.time.InstantScaledClock;
+import com.yelstream.topp.time.LazyInitializedProxyClock;
+import com.yelstream.topp.time.MonotonicClock;
+import com.yelstream.topp.time.Scale;
+import com.yelstream.topp.time.SimpleProxyClock;
+import com.yelstream.topp.time.SwitchableProxyClock;
+import com.yelstream.topp.time.ZonedDateTimeScaledClock;
+import com.yelstream.topp.time.declare.ClockDeclaration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ *   Benchmark of reading the current time from clocks.
+ * </p>
+ * <p>
+ *   The clock instance is shared by all benchmark threads.
+ *   Variants suffixed {@code Contended} run with as many threads as there are available processors.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ClockReadBenchmark {
+    /**
+     * Kind of clock to read.
+     */
+    public enum ClockKind {
+        /**
+         * Plain system clock, used as reference.
+         */
+        System(Clock::systemUTC),
+
+        /**
+         * Monotonic clock advanced by nano-time.
+         */
+        Monotonic(()->new MonotonicClock(ZoneOffset.UTC)),
+
+        /**
+         * Clock scaled by durations between instants.
+         */
+        InstantScaled(()->new InstantScaledClock(Clock.systemUTC(),duration->duration.multipliedBy(60))),
+
+        /**
+         * Clock scaled by durations between zoned date-times.
+         */
+        ZonedDateTimeScaled(()->new ZonedDateTimeScaledClock(Clock.systemUTC(),duration->duration.multipliedBy(60))),
+
+        /**
+         * Adjustable clock with an adjustment applied.
+         */
+        Adjustable(()->new AdjustableClock(Clock.systemUTC(),instant->instant.plus(Duration.ofHours(1)))),
+
+        /**
+         * Simple proxy clock.
+         */
+        SimpleProxy(()->new SimpleProxyClock(Clock.systemUTC())),
+
+        /**
+         * Lazy initialized proxy clock.
+         */
+        LazyInitializedProxy(()->new LazyInitializedProxyClock(Clock::systemUTC)),
+
+        /**
+         * Context clock resolving to its default clock, as no clock is bound in the benchmark threads.
+         */
+        Context(()->new ContextClock(Clock.systemUTC())),
+
+        /**
+         * Switchable proxy clock holding its target in a call site.
+         */
+        SwitchableProxy(()->SwitchableProxyClock.of(Clock.systemUTC())),
+
+        /**
+         * Coarse clock refreshed every millisecond.
+         */
+        Coarse(()->new CoarseClock(Clock.systemUTC(),Duration.ofMillis(1L))),
+
+        /**
+         * Clock truncated to ticks of 15 minutes, reading the time of the current tick kept by the clock.
+         */
+        Ticked(()->new CompositeClock(Clock.systemUTC(),null,Duration.ofMinutes(15L),null,null)),
+
+        /**
+         * Clock with the full stack of decorations applied by the clock configuration, fused into a composite clock.
+         */
+        Stacked(()->ClockDeclaration.createClock("startingAtTime(localDateTime=2022-01-01T00:00,zone=UTC,offset=PT1H,tick=PT0.001S,multiplyBy=60,adjustable)")),
+
+        /**
+         * Clock with the decorations of {@link #Stacked} layered as separate clocks.
+         */
+        Layered(()->new AdjustableClock(new InstantScaledClock(Clock.tick(Clock.offset(Clock.systemUTC(),Duration.ofHours(1L)),Duration.ofMillis(1L)),Scale.of(60L))));
+
+        private final Supplier<Clock> clockFactory;
+
+        ClockKind(Supplier<Clock> clockFactory) {
+            this.clockFactory=clockFactory;
+        }
+
+        /**
+         * Creates a clock of this kind.
+         * @return Clock.
+         */
+        public Clock createClock() {
+            return clockFactory.get();
+        }
+    }
+
+    @Param
+    private ClockKind clockKind;
+
+    private Clock clock;
+
+    @Setup
+    public void setup() {
+        clock=clockKind.createClock();
+    }
+
+    @Benchmark
+    public Instant instant() {
+        return clock.instant();
+    }
+
+    @Benchmark
+    public long millis() {
+        return clock.millis();
+    }
+
+    @Benchmark
+    public long epochNanos() {
+        return EpochNanos.of(clock);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Instant instantContended() {
+        return clock.instant();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public long millisContended() {
+        return clock.millis();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public long epochNanosContended() {
+        return EpochNanos.of(clock);
+    }
+}
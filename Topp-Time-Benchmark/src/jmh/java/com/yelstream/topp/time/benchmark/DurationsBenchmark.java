@@ -0,0 +1,72 @@
+package com.yelstream.topp.time.benchmark;
+
+import com.yelstream.topp.time.Durations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ *   Benchmark of computing durations from calendar dates.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DurationsBenchmark {
+    @Param({"UTC", "Europe/Copenhagen"})
+    private String zone;
+
+    private ZoneId zoneId;
+    private Instant endInstant;
+    private LocalDate[] startDates;
+    private int index;
+
+    private static final int COLUMN_LENGTH=1<<20;
+
+    private int[] startEpochDays;
+    private long[] durationNanos;
+
+    @Setup
+    public void setup() {
+        zoneId=ZoneId.of(zone);
+        endInstant=Instant.parse("2022-06-01T12:00:00Z");
+        startDates=new LocalDate[1024];
+        for (int i=0; i<startDates.length; i++) {
+            startDates[i]=LocalDate.of(2021, 1, 1).plusDays(i%500);
+        }
+        startEpochDays=new int[COLUMN_LENGTH];
+        for (int i=0; i<startEpochDays.length; i++) {
+            startEpochDays[i]=(int)startDates[i&(startDates.length-1)].toEpochDay();
+        }
+        durationNanos=new long[COLUMN_LENGTH];
+    }
+
+    @Benchmark
+    public Duration getDurationFromStartDateExclusive() {
+        LocalDate startDate=startDates[index++&(startDates.length-1)];
+        return Durations.getDurationFromStartDateExclusive(startDate, zoneId, endInstant);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COLUMN_LENGTH)
+    public long[] getDurationNanosFromStartDateExclusiveBulk() {
+        Durations.getDurationNanosFromStartDateExclusive(startEpochDays, zoneId, endInstant, durationNanos);
+        return durationNanos;
+    }
+}
@@ -0,0 +1,75 @@
+package com.yelstream.topp.time.benchmark;
+
+import com.yelstream.topp.time.schedule.TimerWheel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ *   Benchmark of scheduling and cancelling timers with many timers pending.
+ * </p>
+ * <p>
+ *   The timer wheel is compared to a priority queue ordered by deadline.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TimerWheelBenchmark {
+    @Param({"10000", "1000000"})
+    private int pendingCount;
+
+    private static final Runnable TASK=()->{};
+
+    private TimerWheel timerWheel;
+    private PriorityQueue<long[]> priorityQueue;
+    private long[] delayMillis;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        delayMillis=new long[1024];
+        for (int i=0; i<delayMillis.length; i++) {
+            delayMillis[i]=1_000L+(i*7919L)%3_600_000L;
+        }
+        timerWheel=new TimerWheel(Clock.systemUTC());
+        priorityQueue=new PriorityQueue<>((a, b)->Long.compare(a[0], b[0]));
+        for (int i=0; i<pendingCount; i++) {
+            timerWheel.schedule(TASK, Duration.ofMillis(delayMillis[i&(delayMillis.length-1)]));
+            priorityQueue.add(new long[]{delayMillis[i&(delayMillis.length-1)]});
+        }
+        timerWheel.advance();
+    }
+
+    @Benchmark
+    public boolean timerWheelScheduleAndCancel() {
+        TimerWheel.Timer timer=timerWheel.schedule(TASK, Duration.ofMillis(delayMillis[index++&(delayMillis.length-1)]));
+        boolean cancelled=timer.cancel();
+        if ((index&1023)==0) {
+            timerWheel.advance();
+        }
+        return cancelled;
+    }
+
+    @Benchmark
+    public boolean priorityQueueScheduleAndCancel() {
+        long[] timer=new long[]{delayMillis[index++&(delayMillis.length-1)]};
+        priorityQueue.add(timer);
+        return priorityQueue.remove(timer);
+    }
+}
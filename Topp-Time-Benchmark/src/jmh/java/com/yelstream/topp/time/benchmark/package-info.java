@@ -0,0 +1,9 @@
+/**
+ * <p>
+ *     Benchmarks of timelines.
+ * </p>
+ * <p>
+ *     This addresses the cost of reading and creating {@link java.time.Clock} instances.
+ * </p>
+ */
+package com.yelstream.topp.time.benchmark;
@@ -15,7 +15,7 @@ import java.time.ZoneId;
  * @since 2021-12-25
  */
 @NoArgsConstructor
-public abstract class AbstractProxyClock extends Clock {
+public abstract class AbstractProxyClock extends Clock implements EpochNanosSource {
     /**
      * Gets the wrapped instance.
      * @return Wrapped instance.
@@ -32,6 +32,16 @@ public abstract class AbstractProxyClock extends Clock {
         return getClock().withZone(zone);
     }
 
+    @Override
+    public long epochNanos() {
+        return EpochNanos.of(getClock());
+    }
+
+    @Override
+    public long millis() {
+        return getClock().millis();
+    }
+
     @Override
     public Instant instant() {
         return getClock().instant();
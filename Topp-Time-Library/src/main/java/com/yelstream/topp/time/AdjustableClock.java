@@ -1,11 +1,17 @@
 package com.yelstream.topp.time;
 
+import com.yelstream.topp.time.event.ClockAdjustmentEvent;
 import lombok.*;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.InstantSource;
 import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.UnaryOperator;
 
 /**
@@ -16,22 +22,58 @@ import java.util.function.UnaryOperator;
  * <p>
  *   This does not touch upon the timezone which is fixed.
  * </p>
+ * <p>
+ *   Adjustments are held as an immutable {@link Adjustment} of primitive nanosecond anchors and a rate.
+ *   The adjustment is replaced atomically by compare-and-set and may be changed by any number of threads without locking.
+ *   Reading the clock does not allocate beyond the returned {@link Instant}.
+ * </p>
+ * <p>
+ *   Clocks returned by {@link #withZone(ZoneId)} share the adjustments of this clock.
+ *   Listeners registered by {@link #addAdjustmentListener(AdjustmentListener)} are notified of every change of the adjustments.
+ * </p>
  * @author Morten Sabroe Mortenen
  * @version 1.0
  * @since 2021-12-24
  */
-@RequiredArgsConstructor
-@AllArgsConstructor
 @EqualsAndHashCode(callSuper=true)
 @ToString
-public class AdjustableClock extends Clock {
+public class AdjustableClock extends Clock implements EpochNanosSource {
 
     private final ZoneId zone;
     private final InstantSource instantSource;
 
-    @Getter
-    @Setter
-    private UnaryOperator<Instant> adjustmentOperator;
+    @ToString.Exclude
+    private final State state;
+
+    /**
+     * Constructor.
+     * @param zone Time-zone.
+     * @param instantSource Source of timestamps.
+     */
+    public AdjustableClock(ZoneId zone,
+                           InstantSource instantSource) {
+        this(zone, instantSource, (UnaryOperator<Instant>)null);
+    }
+
+    /**
+     * Constructor.
+     * @param zone Time-zone.
+     * @param instantSource Source of timestamps.
+     * @param adjustmentOperator Function adjusting timestamps.
+     */
+    public AdjustableClock(ZoneId zone,
+                           InstantSource instantSource,
+                           UnaryOperator<Instant> adjustmentOperator) {
+        this(zone, instantSource, new State(adjustmentOperator));
+    }
+
+    private AdjustableClock(ZoneId zone,
+                            InstantSource instantSource,
+                            State state) {
+        this.zone=zone;
+        this.instantSource=instantSource;
+        this.state=state;
+    }
 
     /**
      * Constructor.
@@ -61,7 +103,187 @@ public class AdjustableClock extends Clock {
         if (zone.equals(this.getZone())) {
             return this;
         }
-        return new AdjustableClock(zone, instantSource, adjustmentOperator);
+        return new AdjustableClock(zone, instantSource, state);
+    }
+
+    /**
+     * Gets the source of the timestamps adjusted.
+     * @return Source of timestamps.
+     */
+    public InstantSource getInstantSource() {
+        return instantSource;
+    }
+
+    /**
+     * Gets the function adjusting timestamps.
+     * This is applied after the current {@link Adjustment}.
+     * @return Function adjusting timestamps.
+     *         This may be {@code null}.
+     */
+    public UnaryOperator<Instant> getAdjustmentOperator() {
+        return state.adjustmentOperator;
+    }
+
+    /**
+     * Sets the function adjusting timestamps.
+     * This is applied after the current {@link Adjustment}.
+     * <p>
+     *   Note that an operator prevents the allocation-free reading of epoch nanoseconds and milliseconds.
+     * </p>
+     * @param adjustmentOperator Function adjusting timestamps.
+     *                           This may be {@code null}.
+     */
+    public void setAdjustmentOperator(UnaryOperator<Instant> adjustmentOperator) {
+        state.adjustmentOperator=adjustmentOperator;
+        Adjustment adjustment=state.adjustment;
+        fireAdjusted(adjustment, adjustment);
+    }
+
+    /**
+     * Registers a listener notified of changes of the adjustments.
+     * @param listener Listener.
+     */
+    public void addAdjustmentListener(AdjustmentListener listener) {
+        state.listeners.add(listener);
+    }
+
+    /**
+     * Unregisters a listener notified of changes of the adjustments.
+     * @param listener Listener.
+     */
+    public void removeAdjustmentListener(AdjustmentListener listener) {
+        state.listeners.remove(listener);
+    }
+
+    private void fireAdjusted(Adjustment previousAdjustment,
+                              Adjustment adjustment) {
+        ClockAdjustmentEvent event=new ClockAdjustmentEvent();
+        if (event.isEnabled()) {
+            event.commit(toString(), previousAdjustment.toString(), adjustment.toString(), String.valueOf(state.adjustmentOperator), getJumpNanos(previousAdjustment, adjustment));
+        }
+        for (AdjustmentListener listener: state.listeners) {
+            listener.adjusted(this, previousAdjustment, adjustment);
+        }
+    }
+
+    /**
+     * Gets the change of the time read caused by a change of adjustment.
+     * @param previousAdjustment Previous adjustment.
+     * @param adjustment New adjustment.
+     * @return Change of the time read in nanoseconds.
+     *         This is zero if the change cannot be represented.
+     */
+    private long getJumpNanos(Adjustment previousAdjustment,
+                              Adjustment adjustment) {
+        try {
+            long sourceNanos=EpochNanos.of(instantSource);
+            return Math.subtractExact(adjustment.applyAsLong(sourceNanos), previousAdjustment.applyAsLong(sourceNanos));
+        } catch (ArithmeticException ex) {
+            return 0L;
+        }
+    }
+
+    /**
+     * Gets the current adjustment.
+     * @return Current adjustment.
+     */
+    public Adjustment getAdjustment() {
+        return state.adjustment;
+    }
+
+    /**
+     * Replaces the current adjustment if it is an expected instance.
+     * @param expectedAdjustment Expected current adjustment.
+     * @param adjustment New adjustment.
+     * @return Indicates if the adjustment was replaced.
+     */
+    public boolean compareAndSet(Adjustment expectedAdjustment,
+                                 Adjustment adjustment) {
+        if (adjustment==null) {
+            throw new IllegalArgumentException("Failure to set adjustment; adjustment is null!");
+        }
+        boolean set=State.ADJUSTMENT.compareAndSet(state, expectedAdjustment, adjustment);
+        if (set) {
+            fireAdjusted(expectedAdjustment, adjustment);
+        }
+        return set;
+    }
+
+    /**
+     * Replaces the current adjustment.
+     * @param adjustment New adjustment.
+     * @return Previous adjustment.
+     */
+    public Adjustment setAdjustment(Adjustment adjustment) {
+        if (adjustment==null) {
+            throw new IllegalArgumentException("Failure to set adjustment; adjustment is null!");
+        }
+        Adjustment previousAdjustment=(Adjustment)State.ADJUSTMENT.getAndSet(state, adjustment);
+        fireAdjusted(previousAdjustment, adjustment);
+        return previousAdjustment;
+    }
+
+    private Adjustment updateAdjustment(UnaryOperator<Adjustment> updateOperator) {
+        while (true) {
+            Adjustment adjustment=state.adjustment;
+            Adjustment updatedAdjustment=updateOperator.apply(adjustment);
+            if (State.ADJUSTMENT.compareAndSet(state, adjustment, updatedAdjustment)) {
+                fireAdjusted(adjustment, updatedAdjustment);
+                return updatedAdjustment;
+            }
+        }
+    }
+
+    /**
+     * Moves the timeline by a number of nanoseconds.
+     * @param nanos Number of nanoseconds to move the timeline.
+     *              This may be negative.
+     * @return New adjustment.
+     */
+    public Adjustment adjustByNanos(long nanos) {
+        return updateAdjustment(adjustment->adjustment.withTargetAnchorNanos(Math.addExact(adjustment.getTargetAnchorNanos(), nanos)));
+    }
+
+    /**
+     * Moves the timeline by a duration.
+     * @param duration Duration to move the timeline.
+     *                 This may be negative.
+     * @return New adjustment.
+     */
+    public Adjustment adjustBy(Duration duration) {
+        return adjustByNanos(duration.toNanos());
+    }
+
+    /**
+     * Sets the timeline to a specific timestamp at the current time of the source.
+     * The rate of the current adjustment is kept.
+     * @param timestamp Timestamp.
+     * @return New adjustment.
+     */
+    public Adjustment setTo(Instant timestamp) {
+        long targetNanos=EpochNanos.of(timestamp);
+        return updateAdjustment(adjustment->Adjustment.of(EpochNanos.of(instantSource), targetNanos, adjustment.getRate()));
+    }
+
+    /**
+     * Sets the rate of the timeline relative to the source.
+     * The timeline is re-anchored at the current time of the source, so the timeline stays continuous.
+     * @param rate Rate.
+     * @return New adjustment.
+     */
+    public Adjustment setRate(Scale rate) {
+        return updateAdjustment(adjustment->{
+            long sourceNanos=EpochNanos.of(instantSource);
+            return Adjustment.of(sourceNanos, adjustment.applyAsLong(sourceNanos), rate);
+        });
+    }
+
+    /**
+     * Removes all adjustments set by {@link #adjustBy(Duration)}, {@link #setTo(Instant)} and {@link #setRate(Scale)}.
+     * @return Previous adjustment.
+     */
+    public Adjustment reset() {
+        return setAdjustment(Adjustment.NONE);
     }
 
     private static Instant getAdjustedTimestamp(Instant timestamp,
@@ -79,11 +301,168 @@ public class AdjustableClock extends Clock {
      * @return Adjusted timestamp.
      */
     public Instant getAdjustedTimestamp(Instant timestamp) {
-        return getAdjustedTimestamp(timestamp, adjustmentOperator);
+        Adjustment adjustment=state.adjustment;
+        Instant adjustedTimestamp=timestamp;
+        if (adjustment!=Adjustment.NONE) {
+            adjustedTimestamp=EpochNanos.toInstant(adjustment.applyAsLong(EpochNanos.of(timestamp)));
+        }
+        return getAdjustedTimestamp(adjustedTimestamp, state.adjustmentOperator);
+    }
+
+    @Override
+    public long epochNanos() {
+        if (state.adjustmentOperator==null) {
+            Adjustment adjustment=state.adjustment;
+            long sourceNanos=EpochNanos.of(instantSource);
+            return adjustment==Adjustment.NONE?sourceNanos:adjustment.applyAsLong(sourceNanos);
+        }
+        return EpochNanos.of(instant());
+    }
+
+    @Override
+    public long millis() {
+        if (state.adjustmentOperator==null) {
+            if (state.adjustment==Adjustment.NONE) {
+                return instantSource.millis();
+            }
+            return EpochNanos.toEpochMillis(epochNanos());
+        }
+        return instant().toEpochMilli();
     }
 
     @Override
     public Instant instant() {
-        return getAdjustedTimestamp(instantSource.instant());
+        UnaryOperator<Instant> adjustmentOperator=state.adjustmentOperator;
+        Adjustment adjustment=state.adjustment;
+        if (adjustment==Adjustment.NONE) {
+            return getAdjustedTimestamp(instantSource.instant(), adjustmentOperator);
+        }
+        Instant timestamp=EpochNanos.toInstant(adjustment.applyAsLong(EpochNanos.of(instantSource)));
+        return getAdjustedTimestamp(timestamp, adjustmentOperator);
+    }
+
+    /**
+     * Adjustments shared by an adjustable clock and its variants in other zones.
+     */
+    private static final class State {
+        private static final VarHandle ADJUSTMENT;
+
+        static {
+            try {
+                ADJUSTMENT=MethodHandles.lookup().findVarHandle(State.class, "adjustment", Adjustment.class);
+            } catch (ReflectiveOperationException ex) {
+                throw new ExceptionInInitializerError(ex);
+            }
+        }
+
+        @SuppressWarnings("FieldMayBeFinal")
+        private volatile Adjustment adjustment=Adjustment.NONE;
+
+        private volatile UnaryOperator<Instant> adjustmentOperator;
+
+        private final List<AdjustmentListener> listeners=new CopyOnWriteArrayList<>();
+
+        private State(UnaryOperator<Instant> adjustmentOperator) {
+            this.adjustmentOperator=adjustmentOperator;
+        }
+    }
+
+    /**
+     * Listener notified of changes of the adjustments of an adjustable clock.
+     * Listeners are called by the thread changing the adjustments, after the change has been made.
+     */
+    @FunctionalInterface
+    public interface AdjustmentListener {
+        /**
+         * Notifies of a change of adjustments.
+         * For changes of the adjustment operator, the previous and the new adjustment are the same.
+         * @param clock Clock adjusted.
+         * @param previousAdjustment Previous adjustment.
+         * @param adjustment New adjustment.
+         */
+        void adjusted(AdjustableClock clock,
+                      Adjustment previousAdjustment,
+                      Adjustment adjustment);
+    }
+
+    /**
+     * <p>
+     *   Immutable adjustment of a timeline.
+     * </p>
+     * <p>
+     *   The adjusted time in epoch nanoseconds for a source time {@code s} is {@code targetAnchorNanos+rate(s-sourceAnchorNanos)}.
+     * </p>
+     */
+    @Getter
+    @EqualsAndHashCode
+    @ToString
+    @AllArgsConstructor(access=AccessLevel.PRIVATE)
+    public static final class Adjustment {
+        /**
+         * Adjustment leaving the timeline untouched.
+         */
+        public static final Adjustment NONE=new Adjustment(0L, 0L, Scale.IDENTITY);
+
+        /**
+         * Source time in epoch nanoseconds at which the adjusted time is anchored.
+         */
+        private final long sourceAnchorNanos;
+
+        /**
+         * Adjusted time in epoch nanoseconds at the source anchor.
+         */
+        private final long targetAnchorNanos;
+
+        /**
+         * Rate of the adjusted time relative to the source.
+         */
+        private final Scale rate;
+
+        /**
+         * Creates an adjustment.
+         * @param sourceAnchorNanos Source time in epoch nanoseconds at which the adjusted time is anchored.
+         * @param targetAnchorNanos Adjusted time in epoch nanoseconds at the source anchor.
+         * @param rate Rate of the adjusted time relative to the source.
+         * @return Created adjustment.
+         */
+        public static Adjustment of(long sourceAnchorNanos,
+                                    long targetAnchorNanos,
+                                    Scale rate) {
+            if (rate==null) {
+                throw new IllegalArgumentException("Failure to create adjustment; rate is null!");
+            }
+            if (rate.isIdentity()) {
+                targetAnchorNanos=Math.subtractExact(targetAnchorNanos, sourceAnchorNanos);
+                sourceAnchorNanos=0L;
+                rate=Scale.IDENTITY;
+            }
+            return new Adjustment(sourceAnchorNanos, targetAnchorNanos, rate);
+        }
+
+        /**
+         * Creates an adjustment moving the timeline by a fixed offset.
+         * @param offsetNanos Offset in nanoseconds.
+         * @return Created adjustment.
+         */
+        public static Adjustment ofOffsetNanos(long offsetNanos) {
+            return of(0L, offsetNanos, Scale.IDENTITY);
+        }
+
+        private Adjustment withTargetAnchorNanos(long targetAnchorNanos) {
+            return of(sourceAnchorNanos, targetAnchorNanos, rate);
+        }
+
+        /**
+         * Adjusts a source time.
+         * @param sourceNanos Source time in epoch nanoseconds.
+         * @return Adjusted time in epoch nanoseconds.
+         * @throws ArithmeticException Thrown in case the adjusted time is outside the range of a count of nanoseconds.
+         */
+        public long applyAsLong(long sourceNanos) {
+            if (rate==Scale.IDENTITY) {
+                return Math.addExact(sourceNanos, targetAnchorNanos);
+            }
+            return Math.addExact(targetAnchorNanos, rate.applyAsLong(Math.subtractExact(sourceNanos, sourceAnchorNanos)));
+        }
     }
 }
@@ -0,0 +1,97 @@
+package com.yelstream.topp.time;
+
+import lombok.experimental.UtilityClass;
+
+import java.time.Duration;
+import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * <p>
+ *   Utility addressing chains of clocks decorating each other.
+ * </p>
+ * <p>
+ *   A chain is followed through the clocks of this library referring to another clock.
+ *   The chain ends at the first clock not known to refer to another clock, e.g. a system clock.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@UtilityClass
+public class ClockChains {
+    /**
+     * Gets the sources of time within a chain of clocks.
+     * @param instantSource First source in the chain.
+     * @return Sources of time in the chain, starting with the first source given.
+     */
+    public static List<InstantSource> getChain(InstantSource instantSource) {
+        List<InstantSource> chain=new ArrayList<>();
+        InstantSource source=instantSource;
+        while (source!=null) {
+            chain.add(source);
+            source=getNext(source);
+        }
+        return chain;
+    }
+
+    private static InstantSource getNext(InstantSource source) {
+        if (source instanceof InstantScaledClock scaledClock) {
+            return scaledClock.getClock();
+        } else if (source instanceof CompositeClock compositeClock) {
+            return compositeClock.getClock();
+        } else if (source instanceof ZonedDateTimeScaledClock scaledClock) {
+            return scaledClock.getClock();
+        } else if (source instanceof AdjustableClock adjustableClock) {
+            return adjustableClock.getInstantSource();
+        } else if (source instanceof CoarseClock coarseClock) {
+            return coarseClock.getClock();
+        } else if (source instanceof RandomClock randomClock) {
+            return randomClock.getClock();
+        } else if (source instanceof AbstractProxyClock proxyClock) {
+            return proxyClock.getClock();
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Gets the rate at which the time of a chain of clocks advances relative to the time at the end of the chain.
+     * <p>
+     *   The rate is the product of the scales of scaled and composite clocks and the rates of adjustable clocks within the chain.
+     *   Scale operators not given as a {@link Scale} are approximated by their scaling of one second.
+     *   Clocks not known to refer to another clock are taken to advance at real time.
+     * </p>
+     * @param instantSource First source in the chain.
+     * @return Rate.
+     * @throws ArithmeticException Thrown in case the rate cannot be represented.
+     */
+    public static Scale getRate(InstantSource instantSource) {
+        Scale rate=Scale.IDENTITY;
+        InstantSource source=instantSource;
+        while (source!=null) {
+            if (source instanceof InstantScaledClock scaledClock) {
+                rate=rate.multipliedBy(toScale(scaledClock.getScaleOperator()));
+            } else if (source instanceof CompositeClock compositeClock) {
+                if (compositeClock.getScaleOperator()!=null) {
+                    rate=rate.multipliedBy(toScale(compositeClock.getScaleOperator()));
+                }
+            } else if (source instanceof ZonedDateTimeScaledClock scaledClock) {
+                rate=rate.multipliedBy(toScale(scaledClock.getScaleOperator()));
+            } else if (source instanceof AdjustableClock adjustableClock) {
+                rate=rate.multipliedBy(adjustableClock.getAdjustment().getRate());
+            }
+            source=getNext(source);
+        }
+        return rate;
+    }
+
+    private static Scale toScale(UnaryOperator<Duration> scaleOperator) {
+        if (scaleOperator instanceof Scale scale) {
+            return scale;
+        }
+        return Scale.of(scaleOperator.apply(Duration.ofSeconds(1L)).toNanos(), EpochNanos.NANOS_PER_SECOND);
+    }
+}
@@ -2,7 +2,9 @@ package com.yelstream.topp.time;
 
 import lombok.experimental.UtilityClass;
 
+import java.nio.file.Path;
 import java.time.*;
+import java.util.function.UnaryOperator;
 
 /**
  * <p>
@@ -154,4 +156,48 @@ public class Clocks {
         Clock clock=Clock.system(zoneId);
         return createClockStartingAtTime(startLocalDateTime, zoneId, clock);
     }
+
+    /**
+     * Creates a clock anchored once to wall time and advanced by monotonic nano-time in the specified zone.
+     * The clock is never re-synchronized against wall time.
+     * @param zoneId Time-zone used to convert between an instant and a date-time.
+     * @return Monotonic clock in the specified zone.
+     */
+    public static Clock createClockMonotonicInZone(ZoneId zoneId) {
+        return new MonotonicClock(zoneId);
+    }
+
+    /**
+     * Creates a clock anchored once to wall time and advanced by monotonic nano-time in the specified zone.
+     * The clock is re-synchronized against wall time by bounded corrections.
+     * @param zoneId Time-zone used to convert between an instant and a date-time.
+     * @param resyncInterval Interval between re-synchronizations against wall time.
+     * @return Monotonic clock in the specified zone.
+     */
+    public static Clock createClockMonotonicInZone(ZoneId zoneId, Duration resyncInterval) {
+        return new MonotonicClock(zoneId, resyncInterval);
+    }
+
+    /**
+     * Creates a clock anchored once to wall time and advanced by monotonic nano-time in the default zone.
+     * The clock is never re-synchronized against wall time.
+     * @return Monotonic clock in the default zone.
+     */
+    public static Clock createClockMonotonicInDefaultZone() {
+        ZoneId zoneId=ZoneId.systemDefault();
+        return createClockMonotonicInZone(zoneId);
+    }
+
+    /**
+     * Creates a clock replaying a recorded trace of timestamps in the specified zone.
+     * @param file File holding the trace.
+     * @param zoneId Time-zone used to convert between an instant and a date-time.
+     * @param mode Mode of advancing through the trace.
+     * @param scaleOperator Function defining how to scale the time elapsed into the time of the trace.
+     *                      This may be {@code null} in which case the trace is followed at real time.
+     * @return Replay clock in the specified zone.
+     */
+    public static Clock createClockReplayInZone(Path file, ZoneId zoneId, ReplayClock.Mode mode, UnaryOperator<Duration> scaleOperator) {
+        return new ReplayClock(file, zoneId, mode, scaleOperator);
+    }
 }
@@ -0,0 +1,192 @@
+package com.yelstream.topp.time;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.ref.WeakReference;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ *   Clock returning a cached reading of a reference clock.
+ *   The cached reading is refreshed in the background at a fixed resolution.
+ * </p>
+ * <p>
+ *   Reading the time is a plain read of a volatile field and does not touch the reference clock.
+ *   The time read may lag behind the reference clock by up to the resolution.
+ * </p>
+ * <p>
+ *   All coarse clocks are refreshed by a single, shared daemon thread.
+ *   Refreshing stops when the clock is closed or is no longer referenced.
+ * </p>
+ * <p>
+ *   Clocks returned by {@link #withZone(ZoneId)} share the cached reading and its refreshing with this clock.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@ToString(onlyExplicitlyIncluded=true)
+public class CoarseClock extends Clock implements EpochNanosSource, AutoCloseable {
+    /**
+     * Shared executor refreshing all coarse clocks.
+     */
+    private static final ScheduledExecutorService REFRESH_EXECUTOR=Executors.newSingleThreadScheduledExecutor(runnable->{
+        Thread thread=new Thread(runnable, "topp-time-coarse-clock-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Getter
+    @ToString.Include
+    private final Clock clock;
+
+    @Getter
+    @ToString.Include
+    private final Duration resolution;
+
+    private final State state;
+
+    /**
+     * Single reading of the reference clock.
+     */
+    @AllArgsConstructor
+    private static final class Reading {
+        private final Instant instant;
+        private final long epochNanos;
+        private final long millis;
+    }
+
+    /**
+     * Cached reading shared by a coarse clock and its variants in other zones.
+     */
+    private static final class State {
+        private final Clock clock;
+        private volatile Reading reading;
+        private ScheduledFuture<?> refreshFuture;
+
+        private State(Clock clock) {
+            this.clock=clock;
+            refresh();
+        }
+
+        private void refresh() {
+            reading=read(clock);
+        }
+    }
+
+    /**
+     * Task refreshing the cached reading of coarse clocks for as long as any of the clocks is referenced.
+     */
+    private static final class RefreshTask implements Runnable {
+        private final WeakReference<State> stateReference;
+        private volatile ScheduledFuture<?> future;
+
+        private RefreshTask(State state) {
+            this.stateReference=new WeakReference<>(state);
+        }
+
+        @Override
+        public void run() {
+            State state=stateReference.get();
+            if (state==null) {
+                ScheduledFuture<?> future=this.future;
+                if (future!=null) {
+                    future.cancel(false);
+                }
+            } else {
+                try {
+                    state.refresh();
+                } catch (RuntimeException ex) {
+                    log.warn("Failure to refresh coarse clock; clock is {}!", state.clock, ex);
+                }
+            }
+        }
+    }
+
+    /**
+     * Constructor.
+     * @param clock Reference clock.
+     * @param resolution Interval between refreshes of the cached reading.
+     */
+    public CoarseClock(Clock clock,
+                       Duration resolution) {
+        if (resolution.isNegative() || resolution.isZero()) {
+            throw new IllegalArgumentException(String.format("Failure to create coarse clock; resolution must be positive, resolution is %s!",resolution));
+        }
+        this.clock=clock;
+        this.resolution=resolution;
+        this.state=new State(clock);
+        long resolutionNanos=resolution.toNanos();
+        RefreshTask refreshTask=new RefreshTask(state);
+        state.refreshFuture=REFRESH_EXECUTOR.scheduleAtFixedRate(refreshTask, resolutionNanos, resolutionNanos, TimeUnit.NANOSECONDS);
+        refreshTask.future=state.refreshFuture;
+    }
+
+    private CoarseClock(CoarseClock coarseClock,
+                        ZoneId zone) {
+        this.clock=coarseClock.clock.withZone(zone);
+        this.resolution=coarseClock.resolution;
+        this.state=coarseClock.state;
+    }
+
+    private static Reading read(Clock clock) {
+        Instant instant=clock.instant();
+        long epochNanos=EpochNanos.of(instant);
+        return new Reading(instant, epochNanos, EpochNanos.toEpochMillis(epochNanos));
+    }
+
+    /**
+     * Refreshes the cached reading from the reference clock.
+     */
+    public void refresh() {
+        state.refresh();
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return clock.getZone();
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        if (zone.equals(this.getZone())) {
+            return this;
+        }
+        return new CoarseClock(this, zone);
+    }
+
+    @Override
+    public long epochNanos() {
+        return state.reading.epochNanos;
+    }
+
+    @Override
+    public long millis() {
+        return state.reading.millis;
+    }
+
+    @Override
+    public Instant instant() {
+        return state.reading.instant;
+    }
+
+    /**
+     * Stops refreshing the cached reading, including for clocks in other zones sharing the reading.
+     * The clock keeps returning the last reading.
+     */
+    @Override
+    public void close() {
+        state.refreshFuture.cancel(false);
+    }
+}
@@ -0,0 +1,347 @@
+package com.yelstream.topp.time;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.function.UnaryOperator;
+
+/**
+ * <p>
+ *   Clock applying an offset, a truncation to ticks and a scale to the time of a reference clock in a single pass.
+ * </p>
+ * <p>
+ *   This reads the same time as the layered clocks {@link Clock#offset(Clock, Duration)},
+ *   {@link Clock#tick(Clock, Duration)} and {@link InstantScaledClock} decorating each other in that order,
+ *   but computes the time on nanoseconds since the epoch without creating intermediate instances of {@link Instant}.
+ *   As with {@link Clock#tick(Clock, Duration)}, ticks of whole milliseconds truncate the reading in milliseconds,
+ *   to which the offset is added in whole milliseconds.
+ *   Readings of milliseconds for ticks of fractions of a millisecond are truncated from the instant read.
+ * </p>
+ * <p>
+ *   When the time is truncated to ticks, the time of the current tick is kept together with the window of times of the reference clock
+ *   within which the tick is current.
+ *   Reading the clock within the window returns the same instance of {@link Instant} after a single comparison,
+ *   and the time of the tick is computed only once per tick.
+ *   As the window is checked against every reading of the reference clock, this holds also for reference clocks being adjusted,
+ *   and scales and adjustments applied on top of the ticks apply to the time of the tick only.
+ * </p>
+ * <p>
+ *   Each step is optional.
+ *   Times outside the range of a count of nanoseconds since the epoch, i.e. outside the years 1677 and 2262,
+ *   are computed on instances of {@link Instant} and {@link Duration} as by the layered clocks, and are not kept per tick.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@EqualsAndHashCode(callSuper=false)
+public class CompositeClock extends Clock implements EpochNanosSource {
+    /**
+     * Reference clock.
+     */
+    @Getter
+    private final Clock clock;
+
+    /**
+     * Offset added to the time of the reference clock.
+     * This is {@code null} if no offset is added.
+     */
+    @Getter
+    private final Duration offsetDuration;
+
+    /**
+     * Duration of ticks to which the time is truncated.
+     * This is {@code null} if the time is not truncated.
+     */
+    @Getter
+    private final Duration tickDuration;
+
+    /**
+     * Function defining how to scale time.
+     * This is {@code null} if the time is not scaled.
+     */
+    @Getter
+    private final UnaryOperator<Duration> scaleOperator;
+
+    /**
+     * Timestamp at which the scaled timeline coincides with the time offset and truncated.
+     * This is {@code null} if the time is not scaled.
+     */
+    @Getter
+    private final Instant timestamp0;
+
+    @EqualsAndHashCode.Exclude
+    private final long offsetNanos;
+
+    @EqualsAndHashCode.Exclude
+    private final long offsetMillis;
+
+    /**
+     * Offset added to the start of a tick in the time of the reference clock.
+     * For ticks of whole milliseconds this is the offset in whole milliseconds.
+     */
+    @EqualsAndHashCode.Exclude
+    private final long tickOffsetNanos;
+
+    @EqualsAndHashCode.Exclude
+    private final long tickNanos;
+
+    @EqualsAndHashCode.Exclude
+    private final long tickMillis;
+
+    @EqualsAndHashCode.Exclude
+    private final Scale scale;
+
+    @EqualsAndHashCode.Exclude
+    private final long timestamp0Nanos;
+
+    /**
+     * Indicates if the offset and the initial timestamp are representable as nanoseconds.
+     */
+    @EqualsAndHashCode.Exclude
+    private final boolean epochNanosEnabled;
+
+    /**
+     * Current tick.
+     * This is published without synchronization, as windows are immutable and racing threads at most compute the same window twice.
+     */
+    @EqualsAndHashCode.Exclude
+    private TickWindow tickWindow;
+
+    /**
+     * Constructor.
+     * @param clock Reference clock.
+     * @param offsetDuration Offset added to the time of the reference clock.
+     *                       This may be {@code null} in which case no offset is added.
+     * @param tickDuration Duration of ticks to which the time is truncated.
+     *                     This may be {@code null} in which case the time is not truncated.
+     * @param scaleOperator Function defining how to scale time.
+     *                      This may be {@code null} in which case the time is not scaled.
+     * @param timestamp0 Timestamp at which the scaled timeline coincides with the time offset and truncated.
+     *                   This may be {@code null} in which case the time offset and truncated when the clock is created is used.
+     * @throws IllegalArgumentException Thrown in case the duration of ticks is invalid as for {@link Clock#tick(Clock, Duration)}.
+     */
+    public CompositeClock(Clock clock,
+                          Duration offsetDuration,
+                          Duration tickDuration,
+                          UnaryOperator<Duration> scaleOperator,
+                          Instant timestamp0) {
+        this.clock=clock;
+        this.offsetDuration=offsetDuration==null || offsetDuration.isZero()?null:offsetDuration;
+        this.offsetMillis=this.offsetDuration==null?0L:this.offsetDuration.toMillis();
+        long nanos=tickDuration==null?0L:tickDuration.toNanos();
+        if (tickDuration!=null && (tickDuration.isNegative() || (nanos%EpochNanos.NANOS_PER_MILLI!=0L && EpochNanos.NANOS_PER_SECOND%nanos!=0L))) {
+            throw new IllegalArgumentException(String.format("Failure to create composite clock; duration of ticks must be whole milliseconds or divide one second, duration is %s!",tickDuration));
+        }
+        this.tickDuration=nanos>1L?tickDuration:null;
+        this.tickNanos=nanos>1L?nanos:0L;
+        this.tickMillis=nanos>1L && nanos%EpochNanos.NANOS_PER_MILLI==0L?nanos/EpochNanos.NANOS_PER_MILLI:0L;
+        boolean enabled=true;
+        long offsetNanos=0L;
+        long tickOffsetNanos=0L;
+        if (this.offsetDuration!=null) {
+            try {
+                offsetNanos=this.offsetDuration.toNanos();
+                tickOffsetNanos=tickMillis!=0L?Math.multiplyExact(offsetMillis, EpochNanos.NANOS_PER_MILLI):offsetNanos;
+            } catch (ArithmeticException ex) {
+                enabled=false;
+            }
+        }
+        this.offsetNanos=offsetNanos;
+        this.tickOffsetNanos=tickOffsetNanos;
+        this.scaleOperator=scaleOperator;
+        this.scale=scaleOperator instanceof Scale rationalScale?rationalScale:null;
+        Instant initialTimestamp=null;
+        long initialTimestampNanos=0L;
+        if (scaleOperator!=null) {
+            initialTimestamp=timestamp0!=null?timestamp0:getTruncatedInstant();
+            try {
+                initialTimestampNanos=EpochNanos.of(initialTimestamp);
+            } catch (ArithmeticException ex) {
+                enabled=false;
+            }
+        }
+        this.timestamp0=initialTimestamp;
+        this.timestamp0Nanos=initialTimestampNanos;
+        this.epochNanosEnabled=enabled;
+    }
+
+    private CompositeClock(CompositeClock clock,
+                           ZoneId zone) {
+        this.clock=clock.clock.withZone(zone);
+        this.offsetDuration=clock.offsetDuration;
+        this.offsetNanos=clock.offsetNanos;
+        this.offsetMillis=clock.offsetMillis;
+        this.tickOffsetNanos=clock.tickOffsetNanos;
+        this.tickDuration=clock.tickDuration;
+        this.tickNanos=clock.tickNanos;
+        this.tickMillis=clock.tickMillis;
+        this.scaleOperator=clock.scaleOperator;
+        this.scale=clock.scale;
+        this.timestamp0=clock.timestamp0;
+        this.timestamp0Nanos=clock.timestamp0Nanos;
+        this.epochNanosEnabled=clock.epochNanosEnabled;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return clock.getZone();
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        if (zone.equals(this.getZone())) {
+            return this;
+        }
+        return new CompositeClock(this, zone);
+    }
+
+    /**
+     * Gets the time elapsed within the current tick.
+     * @param clockNanos Time of the reference clock in epoch nanoseconds.
+     * @return Time elapsed within the current tick in nanoseconds of the reference clock.
+     *         This is zero if the time is not truncated.
+     */
+    private long getNanosIntoTick(long clockNanos) {
+        if (tickMillis!=0L) {
+            long millis=EpochNanos.toEpochMillis(clockNanos)+offsetMillis;
+            return Math.floorMod(millis, tickMillis)*EpochNanos.NANOS_PER_MILLI+Math.floorMod(clockNanos, EpochNanos.NANOS_PER_MILLI);
+        }
+        return tickNanos==0L?0L:Math.floorMod(Math.addExact(clockNanos, offsetNanos), tickNanos);
+    }
+
+    /**
+     * Offsets and truncates a time of the reference clock.
+     * @param clockNanos Time of the reference clock in epoch nanoseconds.
+     * @return Time offset and truncated in epoch nanoseconds.
+     */
+    private long getTruncatedEpochNanos(long clockNanos) {
+        return Math.addExact(clockNanos-getNanosIntoTick(clockNanos), tickOffsetNanos);
+    }
+
+    private long getScaledEpochNanos(long truncatedNanos) {
+        return scaleOperator==null?truncatedNanos:InstantScaledClock.getScaledEpochNanos(timestamp0Nanos, truncatedNanos, scale, scaleOperator);
+    }
+
+    /**
+     * Gets the current tick.
+     * @return Current tick.
+     */
+    private TickWindow getTickWindow() {
+        long clockNanos=EpochNanos.of(clock);
+        TickWindow window=tickWindow;
+        if (window==null || Long.compareUnsigned(clockNanos-window.startNanos, tickNanos)>=0) {
+            long startNanos=clockNanos-getNanosIntoTick(clockNanos);
+            long epochNanos=getScaledEpochNanos(Math.addExact(startNanos, tickOffsetNanos));
+            window=new TickWindow(startNanos, epochNanos, EpochNanos.toInstant(epochNanos));
+            tickWindow=window;
+        }
+        return window;
+    }
+
+    /**
+     * Offsets and truncates the time of the reference clock by computation on instances of {@link Instant}.
+     * This applies to times outside the range of a count of nanoseconds since the epoch.
+     * @return Time offset and truncated.
+     */
+    private Instant getTruncatedInstant() {
+        if (tickMillis!=0L) {
+            long millis=Math.addExact(clock.millis(), offsetMillis);
+            return Instant.ofEpochMilli(millis-Math.floorMod(millis, tickMillis));
+        }
+        Instant instant=clock.instant();
+        if (offsetDuration!=null) {
+            instant=instant.plus(offsetDuration);
+        }
+        return tickNanos==0L?instant:instant.minusNanos(Math.floorMod(instant.getNano(), tickNanos));
+    }
+
+    /**
+     * Gets the current time by computation on instances of {@link Instant} and {@link Duration}.
+     * This applies to times outside the range of a count of nanoseconds since the epoch.
+     * @return Current time.
+     */
+    private Instant getInstant() {
+        Instant instant=getTruncatedInstant();
+        return scaleOperator==null?instant:timestamp0.plus(scaleOperator.apply(Duration.between(timestamp0, instant)));
+    }
+
+    @Override
+    public long epochNanos() {
+        if (epochNanosEnabled) {
+            try {
+                if (tickNanos!=0L) {
+                    return getTickWindow().epochNanos;
+                }
+                return getScaledEpochNanos(getTruncatedEpochNanos(EpochNanos.of(clock)));
+            } catch (ArithmeticException ex) {
+                //Outside the range of a count of nanoseconds; computed on instants instead.
+            }
+        }
+        return EpochNanos.of(getInstant());
+    }
+
+    @Override
+    public long millis() {
+        if (scaleOperator==null && tickNanos==0L) {
+            return Math.addExact(clock.millis(), offsetMillis);
+        }
+        if (epochNanosEnabled) {
+            try {
+                return EpochNanos.toEpochMillis(tickNanos!=0L?getTickWindow().epochNanos:getScaledEpochNanos(getTruncatedEpochNanos(EpochNanos.of(clock))));
+            } catch (ArithmeticException ex) {
+                //Outside the range of a count of nanoseconds; computed on instants instead.
+            }
+        }
+        return getInstant().toEpochMilli();
+    }
+
+    @Override
+    public Instant instant() {
+        if (epochNanosEnabled) {
+            try {
+                if (tickNanos!=0L) {
+                    return getTickWindow().instant;
+                }
+                return EpochNanos.toInstant(getScaledEpochNanos(getTruncatedEpochNanos(EpochNanos.of(clock))));
+            } catch (ArithmeticException ex) {
+                //Outside the range of a count of nanoseconds; computed on instants instead.
+            }
+        }
+        return getInstant();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb=new StringBuilder("CompositeClock(clock=").append(clock);
+        if (offsetDuration!=null) {
+            sb.append(" -> offset ").append(offsetDuration);
+        }
+        if (tickDuration!=null) {
+            sb.append(" -> tick ").append(tickDuration);
+        }
+        if (scaleOperator!=null) {
+            sb.append(" -> scale ").append(scaleOperator).append(" from ").append(timestamp0);
+        }
+        return sb.append(")").toString();
+    }
+
+    /**
+     * Time of a tick together with the window of times of the reference clock within which the tick is current.
+     */
+    @AllArgsConstructor
+    private static final class TickWindow {
+        /**
+         * Start of the window in epoch nanoseconds of the reference clock.
+         * The window lasts for the duration of a tick.
+         */
+        private final long startNanos;
+        private final long epochNanos;
+        private final Instant instant;
+    }
+}
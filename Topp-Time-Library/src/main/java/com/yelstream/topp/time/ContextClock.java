@@ -0,0 +1,161 @@
+package com.yelstream.topp.time;
+
+import com.yelstream.topp.time.declare.ClockDeclarations;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Clock;
+import java.time.ZoneId;
+import java.util.concurrent.Callable;
+
+/**
+ * <p>
+ *   Proxy for the {@link Clock} instance bound to the current context.
+ * </p>
+ * <p>
+ *   A clock is bound for the duration of {@link #runWith(Clock, Runnable)} or {@link #callWith(Clock, Callable)},
+ *   in the thread running the action only.
+ *   Bindings nest, and the previous binding is restored when the action completes.
+ *   Outside of any binding, the default clock is used.
+ *   This lets each request, thread or virtual thread run on its own timeline while sharing a single clock instance without synchronization.
+ * </p>
+ * <p>
+ *   Bindings are kept by a {@link ThreadLocal}, as scoped values are not available on the Java platform targeted.
+ *   Resolving the clock of the current context is a single lookup of the thread-local value and does not allocate.
+ * </p>
+ * <p>
+ *   Clocks returned by {@link #withZone(ZoneId)} share the bindings of this clock, and report the zone given instead of the zone of the clock resolved.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ToString(onlyExplicitlyIncluded=true)
+public class ContextClock extends AbstractProxyClock {
+    /**
+     * Clock used outside of any binding.
+     */
+    @Getter
+    @ToString.Include
+    private final Clock defaultClock;
+
+    @ToString.Include
+    private final ZoneId zone;
+
+    private final ThreadLocal<Clock> binding;
+
+    /**
+     * Constructor.
+     * The default clock is the clock declared by the environment as read by {@link ClockDeclarations#getClockFromEnvironment(String)},
+     * or the system clock in the default zone if no clock is declared.
+     */
+    public ContextClock() {
+        this(getClockFromEnvironment());
+    }
+
+    /**
+     * Constructor.
+     * @param defaultClock Clock used outside of any binding.
+     */
+    public ContextClock(Clock defaultClock) {
+        if (defaultClock==null) {
+            throw new IllegalArgumentException("Failure to create context clock; default clock is null!");
+        }
+        this.defaultClock=defaultClock;
+        this.zone=null;
+        this.binding=new ThreadLocal<>();
+    }
+
+    private ContextClock(ContextClock clock,
+                         ZoneId zone) {
+        this.defaultClock=clock.defaultClock;
+        this.zone=zone;
+        this.binding=clock.binding;
+    }
+
+    private static Clock getClockFromEnvironment() {
+        Clock clock=ClockDeclarations.getClockFromEnvironment(null);
+        return clock!=null?clock:Clock.systemDefaultZone();
+    }
+
+    /**
+     * Gets the clock of the current context.
+     * @return Clock bound in the current context, or the default clock if none is bound.
+     */
+    @Override
+    public Clock getClock() {
+        Clock clock=binding.get();
+        return clock!=null?clock:defaultClock;
+    }
+
+    /**
+     * Indicates if a clock is bound in the current context.
+     * @return Indication.
+     */
+    public boolean isBound() {
+        return binding.get()!=null;
+    }
+
+    /**
+     * Runs an action with a clock bound in the current thread.
+     * @param clock Clock to bind.
+     * @param action Action.
+     */
+    public void runWith(Clock clock,
+                        Runnable action) {
+        Clock previousClock=bind(clock);
+        try {
+            action.run();
+        } finally {
+            restore(previousClock);
+        }
+    }
+
+    /**
+     * Calls an action with a clock bound in the current thread.
+     * @param clock Clock to bind.
+     * @param action Action.
+     * @param <T> Type of result.
+     * @return Result of action.
+     * @throws Exception Thrown by the action.
+     */
+    public <T> T callWith(Clock clock,
+                          Callable<T> action) throws Exception {
+        Clock previousClock=bind(clock);
+        try {
+            return action.call();
+        } finally {
+            restore(previousClock);
+        }
+    }
+
+    private Clock bind(Clock clock) {
+        if (clock==null) {
+            throw new IllegalArgumentException("Failure to bind clock; clock is null!");
+        }
+        Clock previousClock=binding.get();
+        binding.set(clock);
+        return previousClock;
+    }
+
+    private void restore(Clock previousClock) {
+        if (previousClock==null) {
+            binding.remove();
+        } else {
+            binding.set(previousClock);
+        }
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone!=null?zone:getClock().getZone();
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        if (zone.equals(this.zone)) {
+            return this;
+        }
+        return new ContextClock(this, zone);
+    }
+}
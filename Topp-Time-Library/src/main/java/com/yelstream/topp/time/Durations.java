@@ -7,14 +7,22 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * <p>
  *   Utility addressing instances of {@link Duration}.
  * </p>
+ * <p>
+ *   Dates are resolved within zones by {@link ZoneOffsetCache} and durations are computed on the instant time-line.
+ * </p>
+ * <p>
+ *   Bulk variants operate on columns of primitive values without creating objects per row.
+ *   Columns of at least {@value #PARALLEL_THRESHOLD} rows are split into chunks processed in parallel by the common fork-join pool.
+ * </p>
  * @author Morten Sabroe Mortenen
  * @version 1.0
  * @since 2021-12-19
@@ -22,6 +30,24 @@ import java.time.ZonedDateTime;
 @Slf4j
 @UtilityClass
 public class Durations {
+    private static final long SECONDS_PER_DAY=86400L;
+
+    private static final long NANOS_PER_SECOND=1_000_000_000L;
+
+    private static final long NANOS_PER_MILLI=1_000_000L;
+
+    private static final long MILLIS_PER_SECOND=1_000L;
+
+    /**
+     * Minimum number of rows of columns processed in parallel.
+     */
+    public static final int PARALLEL_THRESHOLD=1<<15;
+
+    /**
+     * Number of rows of chunks of columns processed in parallel.
+     */
+    private static final int CHUNK_SIZE=1<<13;
+
     /**
      * Gets the duration between the end of a specific date and the current time.
      * @param startLocalDateExclusive Date for the start of the duration, exclusive.
@@ -30,9 +56,7 @@ public class Durations {
      */
     public static Duration getDurationFromStartDateExclusive(LocalDate startLocalDateExclusive,
                                                              Clock clock) {
-        LocalDateTime startLocalDateTimeInclusive=startLocalDateExclusive.plusDays(1).atStartOfDay();
-        ZonedDateTime startZonedDateTimeInclusive=ZonedDateTime.of(startLocalDateTimeInclusive, clock.getZone());
-        return getDuration(startZonedDateTimeInclusive, clock);
+        return getDurationFromStartDateExclusive(startLocalDateExclusive, clock.getZone(), clock.instant());
     }
 
     /**
@@ -43,8 +67,7 @@ public class Durations {
      */
     public static Duration getDuration(ZonedDateTime startZonedDateTimeInclusive,
                                        Clock clock) {
-        ZonedDateTime endZonedDateTimeExclusive=ZonedDateTime.now(clock);
-        return Duration.between(startZonedDateTimeInclusive, endZonedDateTimeExclusive);
+        return getDuration(startZonedDateTimeInclusive, clock.instant());
     }
 
     /**
@@ -57,9 +80,8 @@ public class Durations {
     public static Duration getDurationFromStartDateExclusive(LocalDate startLocalDateExclusive,
                                                              ZoneId zoneId,
                                                              Instant endInstantExclusive) {
-        LocalDateTime startLocalDateTimeInclusive=startLocalDateExclusive.plusDays(1).atStartOfDay();
-        ZonedDateTime startZonedDateTimeInclusive=ZonedDateTime.of(startLocalDateTimeInclusive, zoneId);
-        return getDuration(startZonedDateTimeInclusive, endInstantExclusive);
+        long startEpochSecondInclusive=getStartEpochSecondInclusive(startLocalDateExclusive.toEpochDay(), zoneId);
+        return Duration.ofSeconds(Math.subtractExact(endInstantExclusive.getEpochSecond(), startEpochSecondInclusive), endInstantExclusive.getNano());
     }
 
     /**
@@ -70,8 +92,200 @@ public class Durations {
      */
     public static Duration getDuration(ZonedDateTime startZonedDateTimeInclusive,
                                        Instant endInstantExclusive) {
-        ZoneId zoneId=startZonedDateTimeInclusive.getZone();
-        ZonedDateTime endDateTimeExclusive=ZonedDateTime.ofInstant(endInstantExclusive, zoneId);
-        return Duration.between(startZonedDateTimeInclusive, endDateTimeExclusive);
+        long seconds=Math.subtractExact(endInstantExclusive.getEpochSecond(), startZonedDateTimeInclusive.toEpochSecond());
+        return Duration.ofSeconds(seconds, endInstantExclusive.getNano()-startZonedDateTimeInclusive.getNano());
+    }
+
+    /**
+     * Gets the start of the day following a specific date as seconds since the epoch.
+     * @param startEpochDayExclusive Date for the start of the duration, exclusive, as days since the epoch.
+     * @param zoneId Zone associated with the date.
+     * @return Start of the following day as seconds since the epoch.
+     */
+    private static long getStartEpochSecondInclusive(long startEpochDayExclusive,
+                                                     ZoneId zoneId) {
+        long startLocalEpochSecondInclusive=Math.multiplyExact(startEpochDayExclusive+1, SECONDS_PER_DAY);
+        return ZoneOffsetCache.toEpochSecond(zoneId, startLocalEpochSecondInclusive);
+    }
+
+    /**
+     * Gets the durations between the starts of specific dates and specific instants.
+     * @param startEpochDaysExclusive Dates for the start of the durations, exclusive, as days since the epoch.
+     * @param zoneId Zone associated with the dates.
+     * @param endEpochMillisExclusive Instants for the end of the durations, exclusive, as milliseconds since the epoch.
+     * @param durationNanos Durations in nanoseconds.
+     *                      This is filled row by row.
+     * @throws ArithmeticException Thrown in case a duration cannot be represented in nanoseconds.
+     */
+    public static void getDurationNanosFromStartDateExclusive(int[] startEpochDaysExclusive,
+                                                              ZoneId zoneId,
+                                                              long[] endEpochMillisExclusive,
+                                                              long[] durationNanos) {
+        checkLengths(startEpochDaysExclusive.length, endEpochMillisExclusive.length, durationNanos.length);
+        apply(durationNanos.length, (fromIndex, toIndex)->{
+            StartEpochSeconds startEpochSeconds=new StartEpochSeconds(zoneId);
+            for (int i=fromIndex; i<toIndex; i++) {
+                long startNanos=Math.multiplyExact(startEpochSeconds.get(startEpochDaysExclusive[i]), NANOS_PER_SECOND);
+                durationNanos[i]=Math.subtractExact(Math.multiplyExact(endEpochMillisExclusive[i], NANOS_PER_MILLI), startNanos);
+            }
+        });
+    }
+
+    /**
+     * Gets the durations between the starts of specific dates and a specific instant.
+     * @param startEpochDaysExclusive Dates for the start of the durations, exclusive, as days since the epoch.
+     * @param zoneId Zone associated with the dates.
+     * @param endInstantExclusive Instant for the end of the durations, exclusive.
+     * @param durationNanos Durations in nanoseconds.
+     *                      This is filled row by row.
+     * @throws ArithmeticException Thrown in case a duration cannot be represented in nanoseconds.
+     */
+    public static void getDurationNanosFromStartDateExclusive(int[] startEpochDaysExclusive,
+                                                              ZoneId zoneId,
+                                                              Instant endInstantExclusive,
+                                                              long[] durationNanos) {
+        checkLengths(startEpochDaysExclusive.length, durationNanos.length);
+        long endEpochSecond=endInstantExclusive.getEpochSecond();
+        int endNano=endInstantExclusive.getNano();
+        apply(durationNanos.length, (fromIndex, toIndex)->{
+            StartEpochSeconds startEpochSeconds=new StartEpochSeconds(zoneId);
+            for (int i=fromIndex; i<toIndex; i++) {
+                long seconds=Math.subtractExact(endEpochSecond, startEpochSeconds.get(startEpochDaysExclusive[i]));
+                durationNanos[i]=Math.addExact(Math.multiplyExact(seconds, NANOS_PER_SECOND), endNano);
+            }
+        });
+    }
+
+    /**
+     * Gets the durations between the starts of specific dates and specific instants in whole seconds.
+     * Fractions of seconds are truncated towards the start.
+     * @param startEpochDaysExclusive Dates for the start of the durations, exclusive, as days since the epoch.
+     * @param zoneId Zone associated with the dates.
+     * @param endEpochMillisExclusive Instants for the end of the durations, exclusive, as milliseconds since the epoch.
+     * @param durationSeconds Durations in seconds.
+     *                        This is filled row by row.
+     */
+    public static void getDurationSecondsFromStartDateExclusive(int[] startEpochDaysExclusive,
+                                                                ZoneId zoneId,
+                                                                long[] endEpochMillisExclusive,
+                                                                long[] durationSeconds) {
+        checkLengths(startEpochDaysExclusive.length, endEpochMillisExclusive.length, durationSeconds.length);
+        apply(durationSeconds.length, (fromIndex, toIndex)->{
+            StartEpochSeconds startEpochSeconds=new StartEpochSeconds(zoneId);
+            for (int i=fromIndex; i<toIndex; i++) {
+                long endEpochSecond=Math.floorDiv(endEpochMillisExclusive[i], MILLIS_PER_SECOND);
+                durationSeconds[i]=Math.subtractExact(endEpochSecond, startEpochSeconds.get(startEpochDaysExclusive[i]));
+            }
+        });
+    }
+
+    /**
+     * Gets the durations between the starts of specific dates and a specific instant in whole seconds.
+     * Fractions of seconds are truncated towards the start.
+     * @param startEpochDaysExclusive Dates for the start of the durations, exclusive, as days since the epoch.
+     * @param zoneId Zone associated with the dates.
+     * @param endInstantExclusive Instant for the end of the durations, exclusive.
+     * @param durationSeconds Durations in seconds.
+     *                        This is filled row by row.
+     */
+    public static void getDurationSecondsFromStartDateExclusive(int[] startEpochDaysExclusive,
+                                                                ZoneId zoneId,
+                                                                Instant endInstantExclusive,
+                                                                long[] durationSeconds) {
+        checkLengths(startEpochDaysExclusive.length, durationSeconds.length);
+        long endEpochSecond=endInstantExclusive.getEpochSecond();
+        apply(durationSeconds.length, (fromIndex, toIndex)->{
+            StartEpochSeconds startEpochSeconds=new StartEpochSeconds(zoneId);
+            for (int i=fromIndex; i<toIndex; i++) {
+                durationSeconds[i]=Math.subtractExact(endEpochSecond, startEpochSeconds.get(startEpochDaysExclusive[i]));
+            }
+        });
+    }
+
+    private static void checkLengths(int startLength,
+                                     int durationLength) {
+        checkLengths(startLength, durationLength, durationLength);
+    }
+
+    private static void checkLengths(int startLength,
+                                     int endLength,
+                                     int durationLength) {
+        if (startLength!=endLength || startLength!=durationLength) {
+            throw new IllegalArgumentException(String.format("Failure to compute durations; columns must have the same length, lengths are %d, %d and %d!",startLength,endLength,durationLength));
+        }
+    }
+
+    /**
+     * Start of the day following a date as seconds since the epoch, remembering the last date resolved.
+     * Columns of dates are often sorted or repeat dates, in which case most dates are not resolved again.
+     */
+    private static final class StartEpochSeconds {
+        private final ZoneId zoneId;
+        private long epochDay=Long.MIN_VALUE;
+        private long epochSecond;
+
+        private StartEpochSeconds(ZoneId zoneId) {
+            this.zoneId=zoneId;
+        }
+
+        private long get(long startEpochDayExclusive) {
+            if (startEpochDayExclusive!=epochDay) {
+                epochSecond=getStartEpochSecondInclusive(startEpochDayExclusive, zoneId);
+                epochDay=startEpochDayExclusive;
+            }
+            return epochSecond;
+        }
+    }
+
+    /**
+     * Action on a range of rows of columns.
+     */
+    @FunctionalInterface
+    private interface RangeAction {
+        void apply(int fromIndex,
+                   int toIndex);
+    }
+
+    /**
+     * Applies an action to all rows of columns, in parallel for large columns.
+     * @param length Number of rows.
+     * @param action Action.
+     */
+    private static void apply(int length,
+                              RangeAction action) {
+        if (length<PARALLEL_THRESHOLD) {
+            action.apply(0, length);
+        } else {
+            ForkJoinPool.commonPool().invoke(new RangeTask(action, 0, length));
+        }
+    }
+
+    /**
+     * Task applying an action to a range of rows, split into chunks executed in parallel.
+     */
+    private static final class RangeTask extends RecursiveAction {
+        private static final long serialVersionUID=1L;
+
+        private final transient RangeAction action;
+        private final int fromIndex;
+        private final int toIndex;
+
+        private RangeTask(RangeAction action,
+                          int fromIndex,
+                          int toIndex) {
+            this.action=action;
+            this.fromIndex=fromIndex;
+            this.toIndex=toIndex;
+        }
+
+        @Override
+        protected void compute() {
+            if (toIndex-fromIndex<=CHUNK_SIZE) {
+                action.apply(fromIndex, toIndex);
+            } else {
+                int middleIndex=(fromIndex+toIndex)>>>1;
+                invokeAll(new RangeTask(action, fromIndex, middleIndex), new RangeTask(action, middleIndex, toIndex));
+            }
+        }
     }
 }
@@ -0,0 +1,70 @@
+package com.yelstream.topp.time;
+
+import lombok.experimental.UtilityClass;
+
+import java.time.Instant;
+import java.time.InstantSource;
+
+/**
+ * <p>
+ *   Utility addressing instants represented as a primitive count of nanoseconds since the epoch.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@UtilityClass
+public class EpochNanos {
+    /**
+     * Number of nanoseconds in a second.
+     */
+    public static final long NANOS_PER_SECOND=1_000_000_000L;
+
+    /**
+     * Number of nanoseconds in a millisecond.
+     */
+    public static final long NANOS_PER_MILLI=1_000_000L;
+
+    /**
+     * Gets the current instant of a source as nanoseconds since the epoch.
+     * This does not allocate in case the source is an {@link EpochNanosSource}.
+     * @param instantSource Source of instants.
+     * @return Current instant as nanoseconds since the epoch.
+     * @throws ArithmeticException Thrown in case the instant is outside the range of a count of nanoseconds.
+     */
+    public static long of(InstantSource instantSource) {
+        if (instantSource instanceof EpochNanosSource epochNanosSource) {
+            return epochNanosSource.epochNanos();
+        }
+        return of(instantSource.instant());
+    }
+
+    /**
+     * Converts an instant to nanoseconds since the epoch.
+     * @param instant Instant.
+     * @return Nanoseconds since the epoch.
+     * @throws ArithmeticException Thrown in case the instant is outside the range of a count of nanoseconds.
+     */
+    public static long of(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), NANOS_PER_SECOND), instant.getNano());
+    }
+
+    /**
+     * Converts nanoseconds since the epoch to an instant.
+     * @param epochNanos Nanoseconds since the epoch.
+     * @return Instant.
+     */
+    public static Instant toInstant(long epochNanos) {
+        return Instant.ofEpochSecond(Math.floorDiv(epochNanos, NANOS_PER_SECOND), Math.floorMod(epochNanos, NANOS_PER_SECOND));
+    }
+
+    /**
+     * Converts nanoseconds since the epoch to milliseconds since the epoch.
+     * This truncates towards the past in the same manner as {@link Instant#toEpochMilli()}.
+     * @param epochNanos Nanoseconds since the epoch.
+     * @return Milliseconds since the epoch.
+     */
+    public static long toEpochMillis(long epochNanos) {
+        return Math.floorDiv(epochNanos, NANOS_PER_MILLI);
+    }
+}
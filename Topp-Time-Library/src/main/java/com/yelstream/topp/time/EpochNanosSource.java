@@ -0,0 +1,36 @@
+package com.yelstream.topp.time;
+
+import java.time.InstantSource;
+
+/**
+ * <p>
+ *   Source of the current instant which is able to deliver the instant as a primitive count of nanoseconds since the epoch.
+ * </p>
+ * <p>
+ *   Reading the time by {@link #epochNanos()} or {@link #millis()} does not allocate.
+ *   Use {@link EpochNanos#of(InstantSource)} to read any source and take advantage of this when possible.
+ * </p>
+ * <p>
+ *   The range of a count of nanoseconds since the epoch is approximately the years 1677 to 2262.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface EpochNanosSource extends InstantSource {
+    /**
+     * Gets the current instant as nanoseconds since the epoch of 1970-01-01T00:00:00Z.
+     * @return Current instant as nanoseconds since the epoch.
+     * @throws ArithmeticException Thrown in case the instant is outside the range of a count of nanoseconds.
+     */
+    long epochNanos();
+
+    /**
+     * Gets the current instant as milliseconds since the epoch of 1970-01-01T00:00:00Z.
+     * @return Current instant as milliseconds since the epoch.
+     */
+    @Override
+    default long millis() {
+        return EpochNanos.toEpochMillis(epochNanos());
+    }
+}
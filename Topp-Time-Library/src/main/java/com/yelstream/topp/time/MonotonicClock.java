@@ -0,0 +1,217 @@
+package com.yelstream.topp.time;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.InstantSource;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>
+ *   Clock anchored once to wall time and advanced by {@link System#nanoTime()}.
+ * </p>
+ * <p>
+ *   Steps of the wall clock, e.g. by NTP, are not seen, so the time read never moves backwards and
+ *   durations between readings are never negative.
+ * </p>
+ * <p>
+ *   Optionally, the clock is re-synchronized against wall time at a fixed interval.
+ *   The difference found is bounded and slewed in over the following interval instead of being applied as a step.
+ *   Re-synchronization is done by the thread reading the clock when the interval has passed.
+ * </p>
+ * <p>
+ *   Clocks returned by {@link #withZone(ZoneId)} share the timeline of this clock.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ToString(onlyExplicitlyIncluded=true)
+public class MonotonicClock extends Clock implements EpochNanosSource {
+    /**
+     * Divisor of the re-synchronization interval giving the default maximum correction per re-synchronization.
+     */
+    public static final long DEFAULT_CORRECTION_DIVISOR=100L;
+
+    @ToString.Include
+    private final ZoneId zone;
+
+    /**
+     * Interval between re-synchronizations against wall time.
+     * This is {@code null} if the clock is never re-synchronized.
+     */
+    @Getter
+    @ToString.Include
+    private final Duration resyncInterval;
+
+    /**
+     * Maximum correction applied per re-synchronization.
+     */
+    @Getter
+    @ToString.Include
+    private final Duration maximumCorrection;
+
+    private final InstantSource wallSource;
+    private final LongSupplier nanoTimeSource;
+    private final long resyncIntervalNanos;
+    private final long maximumCorrectionNanos;
+    private final AtomicReference<Anchor> anchorReference;
+
+    /**
+     * Anchoring of the timeline.
+     * The time read at the nano-time {@code t} is {@code epochNanos+(t-nanoTime)} with a slew added linearly over the slew period.
+     */
+    @AllArgsConstructor
+    private static final class Anchor {
+        private final long nanoTime;
+        private final long epochNanos;
+        private final long slewNanos;
+
+        private long epochNanos(long nanoTime,
+                                long slewPeriodNanos) {
+            long elapsedNanos=nanoTime-this.nanoTime;
+            long value=epochNanos+elapsedNanos;
+            if (slewNanos!=0L) {
+                if (elapsedNanos>=slewPeriodNanos) {
+                    value+=slewNanos;
+                } else if (elapsedNanos>0L) {
+                    value+=(long)((double)slewNanos*elapsedNanos/slewPeriodNanos);
+                }
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Constructor.
+     * The clock is never re-synchronized.
+     * @param zone Time-zone.
+     */
+    public MonotonicClock(ZoneId zone) {
+        this(zone, null, null);
+    }
+
+    /**
+     * Constructor.
+     * The maximum correction per re-synchronization is the interval divided by {@link #DEFAULT_CORRECTION_DIVISOR}.
+     * @param zone Time-zone.
+     * @param resyncInterval Interval between re-synchronizations against wall time.
+     *                       This may be {@code null} in which case the clock is never re-synchronized.
+     */
+    public MonotonicClock(ZoneId zone,
+                          Duration resyncInterval) {
+        this(zone, resyncInterval, resyncInterval==null?null:resyncInterval.dividedBy(DEFAULT_CORRECTION_DIVISOR));
+    }
+
+    /**
+     * Constructor.
+     * @param zone Time-zone.
+     * @param resyncInterval Interval between re-synchronizations against wall time.
+     *                       This may be {@code null} in which case the clock is never re-synchronized.
+     * @param maximumCorrection Maximum correction applied per re-synchronization.
+     *                          This must be less than the interval.
+     */
+    public MonotonicClock(ZoneId zone,
+                          Duration resyncInterval,
+                          Duration maximumCorrection) {
+        this(zone, resyncInterval, maximumCorrection, Clock.systemUTC(), System::nanoTime);
+    }
+
+    /**
+     * Constructor.
+     * @param zone Time-zone.
+     * @param resyncInterval Interval between re-synchronizations against wall time.
+     * @param maximumCorrection Maximum correction applied per re-synchronization.
+     * @param wallSource Source of wall time.
+     * @param nanoTimeSource Source of monotonic nano-time.
+     */
+    MonotonicClock(ZoneId zone,
+                   Duration resyncInterval,
+                   Duration maximumCorrection,
+                   InstantSource wallSource,
+                   LongSupplier nanoTimeSource) {
+        if (resyncInterval!=null) {
+            if (resyncInterval.isNegative() || resyncInterval.isZero()) {
+                throw new IllegalArgumentException(String.format("Failure to create monotonic clock; re-synchronization interval must be positive, interval is %s!",resyncInterval));
+            }
+            if (maximumCorrection==null || maximumCorrection.isNegative() || maximumCorrection.compareTo(resyncInterval)>=0) {
+                throw new IllegalArgumentException(String.format("Failure to create monotonic clock; maximum correction must be non-negative and less than the re-synchronization interval, correction is %s, interval is %s!",maximumCorrection,resyncInterval));
+            }
+        }
+        this.zone=zone;
+        this.resyncInterval=resyncInterval;
+        this.maximumCorrection=resyncInterval==null?null:maximumCorrection;
+        this.wallSource=wallSource;
+        this.nanoTimeSource=nanoTimeSource;
+        this.resyncIntervalNanos=resyncInterval==null?Long.MAX_VALUE:resyncInterval.toNanos();
+        this.maximumCorrectionNanos=resyncInterval==null?0L:maximumCorrection.toNanos();
+        this.anchorReference=new AtomicReference<>(new Anchor(nanoTimeSource.getAsLong(), EpochNanos.of(wallSource), 0L));
+    }
+
+    private MonotonicClock(MonotonicClock clock,
+                           ZoneId zone) {
+        this.zone=zone;
+        this.resyncInterval=clock.resyncInterval;
+        this.maximumCorrection=clock.maximumCorrection;
+        this.wallSource=clock.wallSource;
+        this.nanoTimeSource=clock.nanoTimeSource;
+        this.resyncIntervalNanos=clock.resyncIntervalNanos;
+        this.maximumCorrectionNanos=clock.maximumCorrectionNanos;
+        this.anchorReference=clock.anchorReference;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        if (zone.equals(this.getZone())) {
+            return this;
+        }
+        return new MonotonicClock(this, zone);
+    }
+
+    /**
+     * Re-synchronizes against wall time.
+     * The difference to wall time is bounded by the maximum correction and slewed in over the following interval.
+     * @param anchor Current anchor.
+     * @param nanoTime Current nano-time.
+     * @return Time read at the current nano-time.
+     */
+    private long resync(Anchor anchor,
+                        long nanoTime) {
+        long epochNanos=anchor.epochNanos(nanoTime, resyncIntervalNanos);
+        long wallEpochNanos=EpochNanos.of(wallSource);
+        long slewNanos=Math.max(-maximumCorrectionNanos, Math.min(maximumCorrectionNanos, wallEpochNanos-epochNanos));
+        anchorReference.compareAndSet(anchor, new Anchor(nanoTime, epochNanos, slewNanos));
+        return epochNanos;
+    }
+
+    @Override
+    public long epochNanos() {
+        Anchor anchor=anchorReference.get();
+        long nanoTime=nanoTimeSource.getAsLong();
+        if (nanoTime-anchor.nanoTime>=resyncIntervalNanos) {
+            return resync(anchor, nanoTime);
+        }
+        return anchor.epochNanos(nanoTime, resyncIntervalNanos);
+    }
+
+    @Override
+    public long millis() {
+        return EpochNanos.toEpochMillis(epochNanos());
+    }
+
+    @Override
+    public Instant instant() {
+        return EpochNanos.toInstant(epochNanos());
+    }
+}
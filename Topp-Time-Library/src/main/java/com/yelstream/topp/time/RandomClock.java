@@ -1,7 +1,221 @@
 package com.yelstream.topp.time;
 
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
 /**
- * 
+ * <p>
+ *   Clock adding random jitter to the time of a reference clock.
+ * </p>
+ * <p>
+ *   Every reading is offset by a random jitter drawn from a distribution within a lower and an upper bound.
+ *   The time read may move backwards when the jitter of consecutive readings differ by more than the time elapsed.
+ * </p>
+ * <p>
+ *   Jitter is drawn from a {@link SplittableRandom} seeded once.
+ *   Each thread reading the clock draws from its own stream split off the seeded generator,
+ *   so threads do not contend on a shared generator and reading the time does not allocate.
+ *   For a given seed, the jitter read by the n'th thread to read the clock is reproducible.
+ * </p>
+ * <p>
+ *   Clocks returned by {@link #withZone(ZoneId)} share the streams of jitter of this clock.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
  */
-public class RandomClock {
+@ToString(onlyExplicitlyIncluded=true)
+public class RandomClock extends Clock implements EpochNanosSource {
+    /**
+     * Distribution of jitter within the bounds.
+     */
+    public enum Distribution {
+        /**
+         * Every jitter within the bounds is equally likely.
+         */
+        Uniform,
+
+        /**
+         * Normal distribution centered between the bounds with a standard deviation of a sixth of the range, clamped to the bounds.
+         */
+        Gaussian,
+
+        /**
+         * Exponential distribution starting at the lower bound with a mean of a quarter of the range, clamped to the upper bound.
+         */
+        Exponential;
+
+        /**
+         * Gets enumeration from the textual name while matching with the case ignored.
+         * @param name Name.
+         * @return Enumeration.
+         */
+        public static Distribution valueOfIgnoreCase(String name) {
+            return Arrays.stream(values()).filter(value -> name.equalsIgnoreCase(value.name())).findFirst().orElse(null);
+        }
+    }
+
+    /**
+     * Reference clock.
+     */
+    @Getter
+    @ToString.Include
+    private final Clock clock;
+
+    /**
+     * Lower bound of the jitter, inclusive.
+     */
+    @Getter
+    @ToString.Include
+    private final Duration minimumJitter;
+
+    /**
+     * Upper bound of the jitter, inclusive.
+     */
+    @Getter
+    @ToString.Include
+    private final Duration maximumJitter;
+
+    /**
+     * Distribution of jitter within the bounds.
+     */
+    @Getter
+    @ToString.Include
+    private final Distribution distribution;
+
+    private final long minimumJitterNanos;
+    private final long maximumJitterNanos;
+    private final long rangeNanos;
+    private final ThreadLocal<SplittableRandom> randomReference;
+
+    /**
+     * Constructor.
+     * The jitter is uniformly distributed within plus and minus a bound.
+     * @param clock Reference clock.
+     * @param jitter Bound of the jitter.
+     * @param seed Seed.
+     */
+    public RandomClock(Clock clock,
+                       Duration jitter,
+                       long seed) {
+        this(clock, jitter.negated(), jitter, Distribution.Uniform, new SplittableRandom(seed));
+    }
+
+    /**
+     * Constructor.
+     * @param clock Reference clock.
+     * @param minimumJitter Lower bound of the jitter, inclusive.
+     * @param maximumJitter Upper bound of the jitter, inclusive.
+     * @param distribution Distribution of jitter within the bounds.
+     * @param seed Seed.
+     */
+    public RandomClock(Clock clock,
+                       Duration minimumJitter,
+                       Duration maximumJitter,
+                       Distribution distribution,
+                       long seed) {
+        this(clock, minimumJitter, maximumJitter, distribution, new SplittableRandom(seed));
+    }
+
+    /**
+     * Constructor.
+     * @param clock Reference clock.
+     * @param minimumJitter Lower bound of the jitter, inclusive.
+     * @param maximumJitter Upper bound of the jitter, inclusive.
+     * @param distribution Distribution of jitter within the bounds.
+     * @param random Generator from which the streams of the threads are split.
+     *               This is used by the clock only.
+     */
+    public RandomClock(Clock clock,
+                       Duration minimumJitter,
+                       Duration maximumJitter,
+                       Distribution distribution,
+                       SplittableRandom random) {
+        if (distribution==null || minimumJitter.compareTo(maximumJitter)>0) {
+            throw new IllegalArgumentException(String.format("Failure to create random clock; lower bound of jitter must not exceed upper bound, bounds are %s and %s, distribution is %s!",minimumJitter,maximumJitter,distribution));
+        }
+        this.clock=clock;
+        this.minimumJitter=minimumJitter;
+        this.maximumJitter=maximumJitter;
+        this.distribution=distribution;
+        this.minimumJitterNanos=minimumJitter.toNanos();
+        this.maximumJitterNanos=maximumJitter.toNanos();
+        try {
+            this.rangeNanos=Math.subtractExact(maximumJitterNanos, minimumJitterNanos);
+        } catch (ArithmeticException ex) {
+            throw new IllegalArgumentException(String.format("Failure to create random clock; range of jitter is too large, bounds are %s and %s!",minimumJitter,maximumJitter),ex);
+        }
+        this.randomReference=ThreadLocal.withInitial(()->{
+            synchronized (random) {
+                return random.split();
+            }
+        });
+    }
+
+    private RandomClock(RandomClock clock,
+                        ZoneId zone) {
+        this.clock=clock.clock.withZone(zone);
+        this.minimumJitter=clock.minimumJitter;
+        this.maximumJitter=clock.maximumJitter;
+        this.distribution=clock.distribution;
+        this.minimumJitterNanos=clock.minimumJitterNanos;
+        this.maximumJitterNanos=clock.maximumJitterNanos;
+        this.rangeNanos=clock.rangeNanos;
+        this.randomReference=clock.randomReference;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return clock.getZone();
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        if (zone.equals(this.getZone())) {
+            return this;
+        }
+        return new RandomClock(this, zone);
+    }
+
+    /**
+     * Draws the jitter of a single reading from the stream of the current thread.
+     * @return Jitter in nanoseconds.
+     */
+    public long nextJitterNanos() {
+        if (rangeNanos==0L) {
+            return minimumJitterNanos;
+        }
+        SplittableRandom random=randomReference.get();
+        return switch (distribution) {
+            case Uniform -> rangeNanos==Long.MAX_VALUE?minimumJitterNanos+(random.nextLong()>>>1):minimumJitterNanos+random.nextLong(rangeNanos+1L);
+            case Gaussian -> clamp(minimumJitterNanos+(rangeNanos>>1)+(long)(random.nextGaussian()*(rangeNanos/6.0)));
+            case Exponential -> clamp(minimumJitterNanos+(long)(random.nextExponential()*(rangeNanos/4.0)));
+        };
+    }
+
+    private long clamp(long jitterNanos) {
+        return Math.max(minimumJitterNanos, Math.min(maximumJitterNanos, jitterNanos));
+    }
+
+    @Override
+    public long epochNanos() {
+        return EpochNanos.of(clock)+nextJitterNanos();
+    }
+
+    @Override
+    public long millis() {
+        return EpochNanos.toEpochMillis(epochNanos());
+    }
+
+    @Override
+    public Instant instant() {
+        return clock.instant().plusNanos(nextJitterNanos());
+    }
 }
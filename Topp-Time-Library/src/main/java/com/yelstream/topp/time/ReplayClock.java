@@ -0,0 +1,348 @@
+package com.yelstream.topp.time;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * <p>
+ *   Clock replaying a recorded trace of timestamps.
+ * </p>
+ * <p>
+ *   The trace is a file of timestamps in epoch nanoseconds, each written as 8 bytes in big-endian order.
+ *   The file is read through memory-mapped segments of a bounded size, so traces of any size are replayed without being read into the heap.
+ *   Each segment is mapped when first read and kept for the lifetime of the clock.
+ * </p>
+ * <p>
+ *   In the mode {@link Mode#PerRead}, every reading of the clock returns the next timestamp of the trace.
+ *   In the mode {@link Mode#Elapsed}, the trace is followed in proportion to the time elapsed since the clock was created,
+ *   optionally sped up by a scale operator, and readings return the latest timestamp of the trace reached.
+ *   Bursts and pauses of the trace are replayed as recorded, only compressed or stretched by the scale.
+ *   Traces replayed by elapsed time must be non-decreasing.
+ *   When the end of the trace is reached, readings keep returning the last timestamp.
+ * </p>
+ * <p>
+ *   Clocks returned by {@link #withZone(ZoneId)} share the position in the trace of this clock.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ToString(onlyExplicitlyIncluded=true)
+public class ReplayClock extends Clock implements EpochNanosSource {
+    /**
+     * Default number of timestamps per memory-mapped segment of the trace.
+     */
+    public static final int DEFAULT_SEGMENT_LENGTH=1<<23;
+
+    /**
+     * Mode of advancing through the trace.
+     */
+    public enum Mode {
+        /**
+         * Every reading returns the next timestamp of the trace.
+         */
+        PerRead,
+
+        /**
+         * Readings return the latest timestamp of the trace reached by the time elapsed.
+         */
+        Elapsed;
+
+        /**
+         * Gets enumeration from the textual name while matching with the case ignored.
+         * @param name Name.
+         * @return Enumeration.
+         */
+        public static Mode valueOfIgnoreCase(String name) {
+            return Arrays.stream(values()).filter(value -> name.equalsIgnoreCase(value.name())).findFirst().orElse(null);
+        }
+    }
+
+    /**
+     * File holding the trace.
+     */
+    @Getter
+    @ToString.Include
+    private final Path file;
+
+    @ToString.Include
+    private final ZoneId zone;
+
+    /**
+     * Mode of advancing through the trace.
+     */
+    @Getter
+    @ToString.Include
+    private final Mode mode;
+
+    /**
+     * Function defining how to scale the time elapsed into the time of the trace.
+     * This is {@code null} if the trace is followed at real time.
+     */
+    @Getter
+    @ToString.Include
+    private final UnaryOperator<Duration> scaleOperator;
+
+    private final Trace trace;
+
+    /**
+     * Constructor.
+     * @param file File holding the trace.
+     * @param zone Time-zone.
+     * @param mode Mode of advancing through the trace.
+     * @param scaleOperator Function defining how to scale the time elapsed into the time of the trace.
+     *                      This may be {@code null} in which case the trace is followed at real time.
+     *                      This applies to the mode {@link Mode#Elapsed} only.
+     */
+    public ReplayClock(Path file,
+                       ZoneId zone,
+                       Mode mode,
+                       UnaryOperator<Duration> scaleOperator) {
+        this(file, zone, mode, scaleOperator, DEFAULT_SEGMENT_LENGTH, System::nanoTime);
+    }
+
+    /**
+     * Constructor.
+     * @param file File holding the trace.
+     * @param zone Time-zone.
+     * @param mode Mode of advancing through the trace.
+     * @param scaleOperator Function defining how to scale the time elapsed into the time of the trace.
+     * @param segmentLength Number of timestamps per memory-mapped segment of the trace.
+     * @param nanoTimeSource Source of monotonic nano-time.
+     */
+    ReplayClock(Path file,
+                ZoneId zone,
+                Mode mode,
+                UnaryOperator<Duration> scaleOperator,
+                int segmentLength,
+                LongSupplier nanoTimeSource) {
+        if (mode==null || segmentLength<1 || segmentLength>Integer.MAX_VALUE/Long.BYTES) {
+            throw new IllegalArgumentException(String.format("Failure to create replay clock; mode is %s, segment length is %d!",mode,segmentLength));
+        }
+        this.file=file.toAbsolutePath();
+        this.zone=zone;
+        this.mode=mode;
+        this.scaleOperator=scaleOperator;
+        this.trace=new Trace(this.file, segmentLength, nanoTimeSource);
+    }
+
+    private ReplayClock(ReplayClock clock,
+                        ZoneId zone) {
+        this.file=clock.file;
+        this.zone=zone;
+        this.mode=clock.mode;
+        this.scaleOperator=clock.scaleOperator;
+        this.trace=clock.trace;
+    }
+
+    /**
+     * Writes a trace of timestamps to a file in the format replayed.
+     * @param file File.
+     * @param epochNanos Timestamps in epoch nanoseconds.
+     * @throws IOException Thrown in case of I/O error.
+     */
+    public static void writeTrace(Path file,
+                                  long... epochNanos) throws IOException {
+        try (FileChannel channel=FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer=ByteBuffer.allocate(Math.min(epochNanos.length, 1<<13)*Long.BYTES);
+            for (long value: epochNanos) {
+                if (!buffer.hasRemaining()) {
+                    channel.write(buffer.flip());
+                    buffer.clear();
+                }
+                buffer.putLong(value);
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of timestamps in the trace.
+     * @return Number of timestamps.
+     */
+    public long getLength() {
+        return trace.length;
+    }
+
+    /**
+     * Gets the index within the trace of the latest timestamp returned.
+     * @return Index.
+     */
+    public long getPosition() {
+        long cursor=trace.cursor.get();
+        if (mode==Mode.PerRead) {
+            cursor=Math.max(0L, cursor-1L);
+        }
+        return Math.min(cursor, trace.length-1L);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        if (zone.equals(this.getZone())) {
+            return this;
+        }
+        return new ReplayClock(this, zone);
+    }
+
+    @Override
+    public long epochNanos() {
+        return switch (mode) {
+            case PerRead -> trace.get(Math.min(trace.cursor.getAndIncrement(), trace.length-1L));
+            case Elapsed -> trace.get(trace.indexAt(getTraceNanos()));
+        };
+    }
+
+    private long getTraceNanos() {
+        long elapsedNanos=trace.nanoTimeSource.getAsLong()-trace.startNanoTime;
+        long scaledNanos;
+        try {
+            if (scaleOperator==null) {
+                scaledNanos=elapsedNanos;
+            } else if (scaleOperator instanceof Scale scale) {
+                scaledNanos=scale.applyAsLong(elapsedNanos);
+            } else {
+                scaledNanos=scaleOperator.apply(Duration.ofNanos(elapsedNanos)).toNanos();
+            }
+        } catch (ArithmeticException ex) {
+            scaledNanos=Long.MAX_VALUE;
+        }
+        long traceNanos=trace.firstNanos+scaledNanos;
+        if (scaledNanos>0L && traceNanos<trace.firstNanos) {
+            traceNanos=Long.MAX_VALUE;
+        }
+        return traceNanos;
+    }
+
+    @Override
+    public long millis() {
+        return EpochNanos.toEpochMillis(epochNanos());
+    }
+
+    @Override
+    public Instant instant() {
+        return EpochNanos.toInstant(epochNanos());
+    }
+
+    /**
+     * Trace shared by a replay clock and its variants in other zones.
+     */
+    private static final class Trace {
+        private final Path file;
+        private final long length;
+        private final int segmentLength;
+        private final LongSupplier nanoTimeSource;
+        private final long startNanoTime;
+        private final long firstNanos;
+        private final AtomicLong cursor=new AtomicLong();
+        private final AtomicReferenceArray<MappedByteBuffer> segments;
+
+        private Trace(Path file,
+                      int segmentLength,
+                      LongSupplier nanoTimeSource) {
+            long size;
+            try {
+                size=Files.size(file);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(String.format("Failure to open trace; file is %s!",file),ex);
+            }
+            if (size==0L || size%Long.BYTES!=0L) {
+                throw new IllegalArgumentException(String.format("Failure to open trace; size must be a positive multiple of %d bytes, file is %s, size is %d!",Long.BYTES,file,size));
+            }
+            long length=size/Long.BYTES;
+            long segmentCount=(length-1L)/segmentLength+1L;
+            if (segmentCount>Integer.MAX_VALUE) {
+                throw new IllegalArgumentException(String.format("Failure to open trace; too many segments, file is %s, size is %d, segment length is %d!",file,size,segmentLength));
+            }
+            this.file=file;
+            this.length=length;
+            this.segmentLength=segmentLength;
+            this.segments=new AtomicReferenceArray<>((int)segmentCount);
+            this.nanoTimeSource=nanoTimeSource;
+            this.firstNanos=get(0L);
+            this.startNanoTime=nanoTimeSource.getAsLong();
+        }
+
+        private long get(long index) {
+            int segmentIndex=(int)(index/segmentLength);
+            MappedByteBuffer buffer=segments.get(segmentIndex);
+            if (buffer==null) {
+                buffer=map(segmentIndex);
+                if (!segments.compareAndSet(segmentIndex, null, buffer)) {
+                    buffer=segments.get(segmentIndex);
+                }
+            }
+            return buffer.getLong((int)(index%segmentLength)*Long.BYTES);
+        }
+
+        private MappedByteBuffer map(int segmentIndex) {
+            long firstIndex=(long)segmentIndex*segmentLength;
+            int segmentSize=(int)Math.min(segmentLength, length-firstIndex);
+            try (FileChannel channel=FileChannel.open(file, StandardOpenOption.READ)) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, firstIndex*Long.BYTES, (long)segmentSize*Long.BYTES);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(String.format("Failure to map trace; file is %s, index is %d!",file,firstIndex),ex);
+            }
+        }
+
+        /**
+         * Finds the latest timestamp reached by a time of the trace.
+         * The search gallops forward from the latest position found, as the time of the trace only increases.
+         * @param traceNanos Time of the trace.
+         * @return Index of the latest timestamp not after the time of the trace, or the index of the first timestamp.
+         */
+        private long indexAt(long traceNanos) {
+            long low=Math.min(cursor.get(), length-1L);
+            long high;
+            if (get(low)>traceNanos) {
+                high=low;
+                low=0L;
+            } else {
+                long step=1L;
+                high=low+step;
+                while (high<length && get(high)<=traceNanos) {
+                    low=high;
+                    step<<=1;
+                    high=low+step;
+                }
+                high=Math.min(high, length);
+            }
+            while (high-low>1L) {
+                long middle=(low+high)>>>1;
+                if (get(middle)<=traceNanos) {
+                    low=middle;
+                } else {
+                    high=middle;
+                }
+            }
+            long index=low;
+            cursor.accumulateAndGet(index, Math::max);
+            return index;
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.yelstream.topp.time;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.function.UnaryOperator;
+
+/**
+ * <p>
+ *   Rational scale factor applied to durations.
+ * </p>
+ * <p>
+ *   The factor is kept as a reduced fraction with the sign carried by the numerator and a denominator which is always positive.
+ *   Scaling is done in a single step as a multiplication followed by a division, using 128-bit intermediate results,
+ *   and truncates towards zero in the same manner as {@link Duration#dividedBy(long)}.
+ * </p>
+ * <p>
+ *   This is immutable.
+ *   Being a {@link UnaryOperator} of durations, this may be used wherever a scale operator is accepted,
+ *   and unlike arbitrary operators, instances compare equal by value.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Getter
+@EqualsAndHashCode
+public final class Scale implements UnaryOperator<Duration> {
+    /**
+     * Scale factor leaving durations unchanged.
+     */
+    public static final Scale IDENTITY=new Scale(1L, 1L);
+
+    /**
+     * Scale factor reducing all durations to zero.
+     */
+    public static final Scale ZERO=new Scale(0L, 1L);
+
+    private static final BigInteger NANOS_PER_SECOND=BigInteger.valueOf(EpochNanos.NANOS_PER_SECOND);
+
+    /**
+     * Numerator, carrying the sign.
+     */
+    private final long numerator;
+
+    /**
+     * Denominator, always positive.
+     */
+    private final long denominator;
+
+    private Scale(long numerator,
+                  long denominator) {
+        this.numerator=numerator;
+        this.denominator=denominator;
+    }
+
+    /**
+     * Creates a scale factor.
+     * The factor is reduced.
+     * @param numerator Numerator.
+     * @param denominator Denominator.
+     * @return Scale factor.
+     * @throws ArithmeticException Thrown in case the denominator is zero or the factor cannot be represented.
+     */
+    public static Scale of(long numerator,
+                           long denominator) {
+        if (denominator==0L) {
+            throw new ArithmeticException(String.format("Failure to create scale; denominator is zero, numerator is %d!",numerator));
+        }
+        if (denominator<0L) {
+            numerator=Math.negateExact(numerator);
+            denominator=Math.negateExact(denominator);
+        }
+        long gcd=gcd(numerator, denominator);
+        numerator/=gcd;
+        denominator/=gcd;
+        if (numerator==1L && denominator==1L) {
+            return IDENTITY;
+        }
+        if (numerator==0L) {
+            return ZERO;
+        }
+        return new Scale(numerator, denominator);
+    }
+
+    /**
+     * Creates a scale factor multiplying by an integer.
+     * @param factor Factor.
+     * @return Scale factor.
+     */
+    public static Scale of(long factor) {
+        return of(factor, 1L);
+    }
+
+    private static long gcd(long a,
+                            long b) {
+        a=Math.abs(a);
+        b=Math.abs(b);
+        while (b!=0L) {
+            long t=a%b;
+            a=b;
+            b=t;
+        }
+        return a==0L?1L:a;
+    }
+
+    /**
+     * Gets the scale factor multiplied by another scale factor.
+     * @param other Other scale factor.
+     * @return Scale factor.
+     * @throws ArithmeticException Thrown in case the factor cannot be represented.
+     */
+    public Scale multipliedBy(Scale other) {
+        long gcd1=gcd(numerator, other.denominator);
+        long gcd2=gcd(other.numerator, denominator);
+        return of(Math.multiplyExact(numerator/gcd1, other.numerator/gcd2),
+                  Math.multiplyExact(denominator/gcd2, other.denominator/gcd1));
+    }
+
+    /**
+     * Gets the scale factor multiplied by an integer.
+     * @param factor Factor.
+     * @return Scale factor.
+     * @throws ArithmeticException Thrown in case the factor cannot be represented.
+     */
+    public Scale multipliedBy(long factor) {
+        return multipliedBy(of(factor));
+    }
+
+    /**
+     * Gets the scale factor divided by an integer.
+     * @param divisor Divisor.
+     * @return Scale factor.
+     * @throws ArithmeticException Thrown in case the divisor is zero or the factor cannot be represented.
+     */
+    public Scale dividedBy(long divisor) {
+        return multipliedBy(of(1L, divisor));
+    }
+
+    /**
+     * Gets the scale factor negated.
+     * @return Scale factor.
+     */
+    public Scale negated() {
+        return of(Math.negateExact(numerator), denominator);
+    }
+
+    /**
+     * Gets the inverse scale factor.
+     * @return Scale factor.
+     * @throws ArithmeticException Thrown in case the scale factor is zero.
+     */
+    public Scale inverted() {
+        return of(denominator, numerator);
+    }
+
+    /**
+     * Indicates if this leaves durations unchanged.
+     * @return Indication.
+     */
+    public boolean isIdentity() {
+        return numerator==1L && denominator==1L;
+    }
+
+    /**
+     * Gets the sign of the scale factor.
+     * @return Sign as -1, 0 or 1.
+     */
+    public int signum() {
+        return Long.signum(numerator);
+    }
+
+    /**
+     * Scales a count of nanoseconds.
+     * @param nanos Nanoseconds.
+     * @return Scaled nanoseconds.
+     * @throws ArithmeticException Thrown in case the result does not fit in a long.
+     */
+    public long applyAsLong(long nanos) {
+        return multiplyDivide(nanos, numerator, denominator);
+    }
+
+    @Override
+    public Duration apply(Duration duration) {
+        long seconds=duration.getSeconds();
+        if (seconds>-Long.MAX_VALUE/EpochNanos.NANOS_PER_SECOND && seconds<Long.MAX_VALUE/EpochNanos.NANOS_PER_SECOND) {
+            long nanos=seconds*EpochNanos.NANOS_PER_SECOND+duration.getNano();
+            long high=Math.multiplyHigh(nanos, numerator);
+            long low=nanos*numerator;
+            if ((high==0L && low>=0L) || (high==-1L && low<0L)) {
+                return Duration.ofNanos(low/denominator);
+            }
+        }
+        BigInteger nanos=BigInteger.valueOf(seconds).multiply(NANOS_PER_SECOND).add(BigInteger.valueOf(duration.getNano()));
+        BigInteger[] secondsAndNanos=nanos.multiply(BigInteger.valueOf(numerator)).divide(BigInteger.valueOf(denominator)).divideAndRemainder(NANOS_PER_SECOND);
+        return Duration.ofSeconds(secondsAndNanos[0].longValueExact(), secondsAndNanos[1].longValue());
+    }
+
+    /**
+     * Computes {@code value*numerator/denominator} truncated towards zero using a 128-bit intermediate product.
+     * @param value Value.
+     * @param numerator Numerator.
+     * @param denominator Denominator, positive.
+     * @return Result.
+     * @throws ArithmeticException Thrown in case the result does not fit in a long.
+     */
+    static long multiplyDivide(long value,
+                               long numerator,
+                               long denominator) {
+        long high=Math.multiplyHigh(value, numerator);
+        long low=value*numerator;
+        if ((high==0L && low>=0L) || (high==-1L && low<0L)) {
+            return low/denominator;
+        }
+        boolean negative=high<0L;
+        if (negative) {
+            low=-low;
+            high=~high+(low==0L?1L:0L);
+        }
+        if (Long.compareUnsigned(high, denominator)>=0) {
+            throw new ArithmeticException(String.format("Failure to scale; result overflows, value is %d, scale is %d/%d!",value,numerator,denominator));
+        }
+        long quotient=divideUnsigned(high, low, denominator);
+        if (quotient<0L && !(negative && quotient==Long.MIN_VALUE)) {
+            throw new ArithmeticException(String.format("Failure to scale; result overflows, value is %d, scale is %d/%d!",value,numerator,denominator));
+        }
+        return negative?-quotient:quotient;
+    }
+
+    /**
+     * Divides an unsigned 128-bit value by a positive divisor larger than the high part.
+     * @param high High 64 bits of the dividend.
+     * @param low Low 64 bits of the dividend.
+     * @param divisor Divisor.
+     * @return Quotient as an unsigned value.
+     */
+    private static long divideUnsigned(long high,
+                                       long low,
+                                       long divisor) {
+        long remainder=high;
+        long quotient=0L;
+        for (int i=63; i>=0; i--) {
+            remainder=(remainder<<1)|((low>>>i)&1L);
+            quotient<<=1;
+            if (Long.compareUnsigned(remainder, divisor)>=0) {
+                remainder-=divisor;
+                quotient|=1L;
+            }
+        }
+        return quotient;
+    }
+
+    @Override
+    public String toString() {
+        return denominator==1L?Long.toString(numerator):numerator+"/"+denominator;
+    }
+}
@@ -0,0 +1,157 @@
+package com.yelstream.topp.time;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MutableCallSite;
+import java.time.Clock;
+
+/**
+ * <p>
+ *   Proxy for {@link Clock} instances which may be switched at any time and is read at the cost of a direct call.
+ * </p>
+ * <p>
+ *   The target clock is held as a constant of a {@link MutableCallSite}.
+ *   Switching the target sets a new constant and calls {@link MutableCallSite#syncAll(MutableCallSite[])},
+ *   so the switch is atomic and visible to all threads on their next read.
+ *   Reads in between switches let the JIT compiler inline the target clock, and switching deoptimizes compiled code depending on the target.
+ * </p>
+ * <p>
+ *   For the JIT compiler to treat the call site as a constant, it must be reached through a static final field.
+ *   Instances created by {@link #of(Clock)} are therefore instances of a hidden class defined for each proxy, holding the call site in a static final field.
+ *   If the hidden class cannot be defined, the proxy holds the call site in an instance field, which is correct but not inlined.
+ *   This fits clocks switched rarely and read constantly; creating a proxy costs the definition of a class.
+ * </p>
+ * <p>
+ *   Note that {@link #withZone(java.time.ZoneId)} returns a clock derived from the current target and is not affected by later switches.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+public class SwitchableProxyClock extends AbstractProxyClock {
+    private static final String TEMPLATE_RESOURCE_NAME="SwitchableProxyClockTemplate.class";
+
+    /**
+     * Call site handed over to the static initializer of the hidden class being defined.
+     */
+    private static MutableCallSite pendingCallSite;
+
+    private final MutableCallSite callSite;
+    private final MethodHandle invoker;
+    private Clock clock;
+
+    /**
+     * Constructor.
+     * This creates a proxy holding the call site in an instance field; use {@link #of(Clock)} for proxies which may be inlined.
+     * @param callSite Call site holding the target clock.
+     * @param clock Initial target clock.
+     */
+    SwitchableProxyClock(MutableCallSite callSite,
+                         Clock clock) {
+        this.callSite=callSite;
+        this.invoker=callSite.dynamicInvoker();
+        this.clock=clock;
+    }
+
+    /**
+     * Creates a switchable proxy.
+     * @param clock Initial target clock.
+     * @return Created proxy.
+     */
+    public static SwitchableProxyClock of(Clock clock) {
+        if (clock==null) {
+            throw new IllegalArgumentException("Failure to create switchable proxy clock; clock is null!");
+        }
+        MutableCallSite callSite=new MutableCallSite(MethodHandles.constant(Clock.class, clock));
+        try {
+            return TemplateHolder.create(callSite, clock);
+        } catch (Throwable ex) {
+            log.debug("Failure to define class of switchable proxy clock; proxy will not be inlined!", ex);
+            return new SwitchableProxyClock(callSite, clock);
+        }
+    }
+
+    /**
+     * Takes the call site handed over to the static initializer of the hidden class being defined.
+     * @return Call site, or {@code null} if no hidden class is being defined.
+     */
+    static synchronized MutableCallSite takePendingCallSite() {
+        MutableCallSite callSite=pendingCallSite;
+        pendingCallSite=null;
+        return callSite;
+    }
+
+    /**
+     * Gets the current target clock.
+     * @return Current target clock.
+     */
+    @Override
+    public Clock getClock() {
+        try {
+            return (Clock)invoker.invokeExact();
+        } catch (Throwable ex) {
+            throw new IllegalStateException("Failure to read target of switchable proxy clock!", ex);
+        }
+    }
+
+    /**
+     * Switches the target clock.
+     * @param clock New target clock.
+     * @return Previous target clock.
+     */
+    public synchronized Clock switchTo(Clock clock) {
+        if (clock==null) {
+            throw new IllegalArgumentException("Failure to switch clock; clock is null!");
+        }
+        Clock previousClock=this.clock;
+        this.clock=clock;
+        callSite.setTarget(MethodHandles.constant(Clock.class, clock));
+        MutableCallSite.syncAll(new MutableCallSite[]{callSite});
+        return previousClock;
+    }
+
+    @Override
+    public String toString() {
+        return "SwitchableProxyClock(clock="+getClock()+")";
+    }
+
+    /**
+     * Definition of hidden classes of proxies from the class file of {@link SwitchableProxyClockTemplate}.
+     */
+    private static final class TemplateHolder {
+        private static final byte[] TEMPLATE_BYTES=readTemplate();
+
+        private static byte[] readTemplate() {
+            try (InputStream in=SwitchableProxyClock.class.getResourceAsStream(TEMPLATE_RESOURCE_NAME)) {
+                if (in==null) {
+                    throw new IllegalStateException(String.format("Failure to read class file of switchable proxy clock; resource %s is missing!",TEMPLATE_RESOURCE_NAME));
+                }
+                return in.readAllBytes();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(String.format("Failure to read class file of switchable proxy clock; resource is %s!",TEMPLATE_RESOURCE_NAME),ex);
+            }
+        }
+
+        private static SwitchableProxyClock create(MutableCallSite callSite,
+                                                   Clock clock) throws Throwable {
+            MethodHandles.Lookup lookup;
+            synchronized (SwitchableProxyClock.class) {
+                pendingCallSite=callSite;
+                try {
+                    lookup=MethodHandles.lookup().defineHiddenClass(TEMPLATE_BYTES, true);
+                } finally {
+                    pendingCallSite=null;
+                }
+            }
+            MethodHandle constructor=lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class, MutableCallSite.class, Clock.class));
+            return (SwitchableProxyClock)constructor.invoke(callSite, clock);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.yelstream.topp.time;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MutableCallSite;
+import java.time.Clock;
+
+/**
+ * <p>
+ *   Template of the hidden classes defined for each {@link SwitchableProxyClock} created by {@link SwitchableProxyClock#of(Clock)}.
+ * </p>
+ * <p>
+ *   Each hidden class defined from the class file of this has its own static final invoker of the call site of a single proxy,
+ *   which the JIT compiler treats as a constant.
+ *   This class itself is never instantiated.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class SwitchableProxyClockTemplate extends SwitchableProxyClock {
+    private static final MutableCallSite CALL_SITE=SwitchableProxyClock.takePendingCallSite();
+
+    private static final MethodHandle INVOKER=CALL_SITE==null?null:CALL_SITE.dynamicInvoker();
+
+    SwitchableProxyClockTemplate(MutableCallSite callSite,
+                                 Clock clock) {
+        super(callSite, clock);
+        if (callSite!=CALL_SITE) {
+            throw new IllegalStateException("Failure to create switchable proxy clock; call site does not match the call site of the class!");
+        }
+    }
+
+    @Override
+    public Clock getClock() {
+        try {
+            return (Clock)INVOKER.invokeExact();
+        } catch (Throwable ex) {
+            throw new IllegalStateException("Failure to read target of switchable proxy clock!", ex);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.yelstream.topp.time;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.LongBuffer;
+import java.time.InstantSource;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ *   Sequence of timestamps strictly increasing within and across batches.
+ * </p>
+ * <p>
+ *   A batch of timestamps is stamped by a single reading of the source of time.
+ *   Timestamps within a batch are consecutive, starting at the time read or just after the last timestamp issued, whichever is later.
+ *   Timestamps may therefore run slightly ahead of the source when more timestamps are issued than units of time pass.
+ * </p>
+ * <p>
+ *   This is thread-safe.
+ *   Timestamps are unique across all threads and ranges of timestamps are reserved without locking.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ToString(onlyExplicitlyIncluded=true)
+public final class TimestampSequence {
+    /**
+     * Source of time.
+     */
+    @Getter
+    @ToString.Include
+    private final InstantSource instantSource;
+
+    /**
+     * Indicates if timestamps are milliseconds since the epoch instead of nanoseconds since the epoch.
+     */
+    @Getter
+    @ToString.Include
+    private final boolean millis;
+
+    private final AtomicLong lastTimestamp=new AtomicLong(Long.MIN_VALUE);
+
+    private TimestampSequence(InstantSource instantSource,
+                              boolean millis) {
+        this.instantSource=instantSource;
+        this.millis=millis;
+    }
+
+    /**
+     * Creates a sequence of timestamps as nanoseconds since the epoch.
+     * @param instantSource Source of time.
+     * @return Created sequence.
+     */
+    public static TimestampSequence ofEpochNanos(InstantSource instantSource) {
+        return new TimestampSequence(instantSource, false);
+    }
+
+    /**
+     * Creates a sequence of timestamps as milliseconds since the epoch.
+     * @param instantSource Source of time.
+     * @return Created sequence.
+     */
+    public static TimestampSequence ofEpochMillis(InstantSource instantSource) {
+        return new TimestampSequence(instantSource, true);
+    }
+
+    /**
+     * Reserves a number of consecutive timestamps.
+     * @param count Number of timestamps.
+     *              This must be positive.
+     * @return First timestamp reserved.
+     */
+    private long reserve(int count) {
+        long timestamp=millis?instantSource.millis():EpochNanos.of(instantSource);
+        while (true) {
+            long last=lastTimestamp.get();
+            long first=last==Long.MIN_VALUE?timestamp:Math.max(timestamp, last+1L);
+            if (lastTimestamp.compareAndSet(last, first+(count-1))) {
+                return first;
+            }
+        }
+    }
+
+    /**
+     * Gets the next timestamp.
+     * @return Next timestamp.
+     */
+    public long next() {
+        return reserve(1);
+    }
+
+    /**
+     * Fills a range of an array with the next timestamps.
+     * @param timestamps Timestamps filled.
+     * @param fromIndex Index of the first timestamp filled, inclusive.
+     * @param toIndex Index of the last timestamp filled, exclusive.
+     */
+    public void fill(long[] timestamps,
+                     int fromIndex,
+                     int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, timestamps.length);
+        if (fromIndex<toIndex) {
+            Timestamps.fillIncreasing(timestamps, fromIndex, toIndex, reserve(toIndex-fromIndex));
+        }
+    }
+
+    /**
+     * Fills an array with the next timestamps.
+     * @param timestamps Timestamps filled.
+     */
+    public void fill(long[] timestamps) {
+        fill(timestamps, 0, timestamps.length);
+    }
+
+    /**
+     * Fills the remaining part of a buffer with the next timestamps.
+     * The position of the buffer is moved to its limit.
+     * @param timestamps Timestamps filled.
+     */
+    public void fill(LongBuffer timestamps) {
+        if (timestamps.hasRemaining()) {
+            Timestamps.fillIncreasing(timestamps, reserve(timestamps.remaining()));
+        }
+    }
+}
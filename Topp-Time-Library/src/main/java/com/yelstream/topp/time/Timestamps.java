@@ -0,0 +1,163 @@
+package com.yelstream.topp.time;
+
+import lombok.experimental.UtilityClass;
+
+import java.nio.LongBuffer;
+import java.time.InstantSource;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>
+ *   Utility addressing the stamping of batches of events with timestamps.
+ * </p>
+ * <p>
+ *   A batch is stamped by a single reading of the source of time.
+ *   The decorations of a clock, e.g. offset, scale and adjustment, are thereby applied once per batch and not once per event.
+ *   For clocks implementing {@link EpochNanosSource}, stamping does not allocate.
+ * </p>
+ * <p>
+ *   For timestamps strictly increasing within and across batches, see {@link TimestampSequence}.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@UtilityClass
+public class Timestamps {
+    /**
+     * Fills a range of an array with the current time of a source as nanoseconds since the epoch.
+     * @param instantSource Source of time.
+     * @param timestamps Timestamps filled.
+     * @param fromIndex Index of the first timestamp filled, inclusive.
+     * @param toIndex Index of the last timestamp filled, exclusive.
+     */
+    public static void fillEpochNanos(InstantSource instantSource,
+                                      long[] timestamps,
+                                      int fromIndex,
+                                      int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, timestamps.length);
+        if (fromIndex<toIndex) {
+            Arrays.fill(timestamps, fromIndex, toIndex, EpochNanos.of(instantSource));
+        }
+    }
+
+    /**
+     * Fills an array with the current time of a source as nanoseconds since the epoch.
+     * @param instantSource Source of time.
+     * @param timestamps Timestamps filled.
+     */
+    public static void fillEpochNanos(InstantSource instantSource,
+                                      long[] timestamps) {
+        fillEpochNanos(instantSource, timestamps, 0, timestamps.length);
+    }
+
+    /**
+     * Fills the remaining part of a buffer with the current time of a source as nanoseconds since the epoch.
+     * The position of the buffer is moved to its limit.
+     * @param instantSource Source of time.
+     * @param timestamps Timestamps filled.
+     */
+    public static void fillEpochNanos(InstantSource instantSource,
+                                      LongBuffer timestamps) {
+        if (timestamps.hasRemaining()) {
+            fill(timestamps, EpochNanos.of(instantSource));
+        }
+    }
+
+    /**
+     * Fills a range of an array with the current time of a source as milliseconds since the epoch.
+     * @param instantSource Source of time.
+     * @param timestamps Timestamps filled.
+     * @param fromIndex Index of the first timestamp filled, inclusive.
+     * @param toIndex Index of the last timestamp filled, exclusive.
+     */
+    public static void fillEpochMillis(InstantSource instantSource,
+                                       long[] timestamps,
+                                       int fromIndex,
+                                       int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, timestamps.length);
+        if (fromIndex<toIndex) {
+            Arrays.fill(timestamps, fromIndex, toIndex, instantSource.millis());
+        }
+    }
+
+    /**
+     * Fills an array with the current time of a source as milliseconds since the epoch.
+     * @param instantSource Source of time.
+     * @param timestamps Timestamps filled.
+     */
+    public static void fillEpochMillis(InstantSource instantSource,
+                                       long[] timestamps) {
+        fillEpochMillis(instantSource, timestamps, 0, timestamps.length);
+    }
+
+    /**
+     * Fills the remaining part of a buffer with the current time of a source as milliseconds since the epoch.
+     * The position of the buffer is moved to its limit.
+     * @param instantSource Source of time.
+     * @param timestamps Timestamps filled.
+     */
+    public static void fillEpochMillis(InstantSource instantSource,
+                                       LongBuffer timestamps) {
+        if (timestamps.hasRemaining()) {
+            fill(timestamps, instantSource.millis());
+        }
+    }
+
+    /**
+     * Fills the remaining part of a buffer with a value.
+     * @param buffer Buffer.
+     * @param value Value.
+     */
+    private static void fill(LongBuffer buffer,
+                             long value) {
+        int position=buffer.position();
+        int limit=buffer.limit();
+        if (buffer.hasArray()) {
+            int offset=buffer.arrayOffset();
+            Arrays.fill(buffer.array(), offset+position, offset+limit, value);
+            buffer.position(limit);
+        } else {
+            for (int i=position; i<limit; i++) {
+                buffer.put(i, value);
+            }
+            buffer.position(limit);
+        }
+    }
+
+    /**
+     * Fills the remaining part of a buffer with strictly increasing values.
+     * @param buffer Buffer.
+     * @param value First value.
+     */
+    static void fillIncreasing(LongBuffer buffer,
+                               long value) {
+        int position=buffer.position();
+        int limit=buffer.limit();
+        if (buffer.hasArray()) {
+            fillIncreasing(buffer.array(), buffer.arrayOffset()+position, buffer.arrayOffset()+limit, value);
+        } else {
+            for (int i=position; i<limit; i++) {
+                buffer.put(i, value+(i-position));
+            }
+        }
+        buffer.position(limit);
+    }
+
+    /**
+     * Fills a range of an array with strictly increasing values.
+     * @param values Values filled.
+     * @param fromIndex Index of the first value filled, inclusive.
+     * @param toIndex Index of the last value filled, exclusive.
+     * @param value First value.
+     */
+    static void fillIncreasing(long[] values,
+                               int fromIndex,
+                               int toIndex,
+                               long value) {
+        for (int i=fromIndex; i<toIndex; i++) {
+            values[i]=value+(i-fromIndex);
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.yelstream.topp.time;
+
+import lombok.AllArgsConstructor;
+import lombok.experimental.UtilityClass;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>
+ *   Shared cache of the offsets in effect for zones, kept as intervals between offset transitions.
+ * </p>
+ * <p>
+ *   For each zone the intervals within the years {@value #FIRST_YEAR} to {@value #LAST_YEAR} are resolved once from the {@link ZoneRules}.
+ *   Resolving an instant or a local date-time within the most recently used interval of a zone is a range check and an addition.
+ *   Other instants are found by binary search among the intervals.
+ *   Local date-times within overlaps are resolved to the interval before the overlap, keeping the earlier offset.
+ *   Instants and local date-times outside the years covered and local date-times within gaps are resolved by the zone rules.
+ * </p>
+ * <p>
+ *   The number of zones kept is bounded by {@value #MAXIMUM_ZONE_COUNT}.
+ *   When exceeded, zones not used since the last eviction pass are evicted first.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@UtilityClass
+public class ZoneOffsetCache {
+    /**
+     * First year covered by the cached intervals.
+     */
+    public static final int FIRST_YEAR=1900;
+
+    /**
+     * Last year covered by the cached intervals.
+     */
+    public static final int LAST_YEAR=2100;
+
+    /**
+     * Maximum number of zones kept.
+     */
+    public static final int MAXIMUM_ZONE_COUNT=256;
+
+    private static final long FIRST_EPOCH_SECOND=LocalDateTime.of(FIRST_YEAR, 1, 1, 0, 0).toEpochSecond(ZoneOffset.MIN);
+    private static final long LAST_EPOCH_SECOND=LocalDateTime.of(LAST_YEAR+1, 1, 1, 0, 0).toEpochSecond(ZoneOffset.MAX);
+
+    private static final ConcurrentMap<ZoneId,ZoneIntervals> ZONE_INTERVALS_MAP=new ConcurrentHashMap<>();
+
+    /**
+     * Interval of instants in which a specific offset is in effect.
+     */
+    @AllArgsConstructor
+    private static final class OffsetInterval {
+        /**
+         * Start of the interval as epoch seconds, inclusive.
+         */
+        private final long fromEpochSecond;
+
+        /**
+         * End of the interval as epoch seconds, exclusive.
+         */
+        private final long untilEpochSecond;
+
+        /**
+         * Start of the local date-times resolved to this interval as local epoch seconds, inclusive.
+         * Local date-times within an overlap at the start are resolved to the interval before.
+         */
+        private final long fromLocalEpochSecond;
+
+        /**
+         * End of the local date-times resolved to this interval as local epoch seconds, exclusive.
+         */
+        private final long untilLocalEpochSecond;
+
+        /**
+         * Offset in effect.
+         */
+        private final int offsetSeconds;
+
+        private boolean contains(long epochSecond) {
+            return epochSecond>=fromEpochSecond && epochSecond<untilEpochSecond;
+        }
+
+        private boolean containsLocal(long localEpochSecond) {
+            return localEpochSecond>=fromLocalEpochSecond && localEpochSecond<untilLocalEpochSecond;
+        }
+    }
+
+    /**
+     * Intervals of a single zone.
+     */
+    private static final class ZoneIntervals {
+        private final OffsetInterval[] intervals;
+
+        /**
+         * Most recently used interval.
+         * This is not volatile; intervals are immutable and any interval read is valid as a first guess.
+         */
+        private OffsetInterval lastInterval;
+
+        private volatile boolean referenced;
+
+        private ZoneIntervals(ZoneId zoneId) {
+            this.intervals=createIntervals(zoneId.getRules());
+            this.lastInterval=intervals[0];
+        }
+
+        private static OffsetInterval[] createIntervals(ZoneRules rules) {
+            if (rules.isFixedOffset()) {
+                int offsetSeconds=rules.getOffset(Instant.EPOCH).getTotalSeconds();
+                return new OffsetInterval[]{new OffsetInterval(Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, offsetSeconds)};
+            }
+            List<OffsetInterval> intervalList=new ArrayList<>();
+            long fromEpochSecond=FIRST_EPOCH_SECOND;
+            int previousOffsetSeconds=rules.getOffset(Instant.ofEpochSecond(fromEpochSecond-1)).getTotalSeconds();
+            int offsetSeconds=rules.getOffset(Instant.ofEpochSecond(fromEpochSecond)).getTotalSeconds();
+            while (fromEpochSecond<LAST_EPOCH_SECOND) {
+                ZoneOffsetTransition transition=rules.nextTransition(Instant.ofEpochSecond(fromEpochSecond));
+                long untilEpochSecond=transition==null?LAST_EPOCH_SECOND:Math.min(transition.toEpochSecond(), LAST_EPOCH_SECOND);
+                long fromLocalEpochSecond=fromEpochSecond+Math.max(offsetSeconds, previousOffsetSeconds);
+                long untilLocalEpochSecond=untilEpochSecond+offsetSeconds;
+                intervalList.add(new OffsetInterval(fromEpochSecond, untilEpochSecond, fromLocalEpochSecond, untilLocalEpochSecond, offsetSeconds));
+                if (transition==null) {
+                    break;
+                }
+                fromEpochSecond=untilEpochSecond;
+                previousOffsetSeconds=offsetSeconds;
+                offsetSeconds=transition.getOffsetAfter().getTotalSeconds();
+            }
+            return intervalList.toArray(OffsetInterval[]::new);
+        }
+
+        private OffsetInterval findInterval(long epochSecond) {
+            OffsetInterval interval=lastInterval;
+            if (interval.contains(epochSecond)) {
+                return interval;
+            }
+            int low=0;
+            int high=intervals.length-1;
+            while (low<=high) {
+                int middle=(low+high)>>>1;
+                interval=intervals[middle];
+                if (epochSecond<interval.fromEpochSecond) {
+                    high=middle-1;
+                } else if (epochSecond>=interval.untilEpochSecond) {
+                    low=middle+1;
+                } else {
+                    setLastInterval(interval);
+                    return interval;
+                }
+            }
+            return null;
+        }
+
+        private OffsetInterval findLocalInterval(long localEpochSecond) {
+            OffsetInterval interval=lastInterval;
+            if (interval.containsLocal(localEpochSecond)) {
+                return interval;
+            }
+            int low=0;
+            int high=intervals.length-1;
+            while (low<=high) {
+                int middle=(low+high)>>>1;
+                interval=intervals[middle];
+                if (localEpochSecond<interval.fromLocalEpochSecond) {
+                    high=middle-1;
+                } else if (localEpochSecond>=interval.untilLocalEpochSecond) {
+                    low=middle+1;
+                } else {
+                    setLastInterval(interval);
+                    return interval;
+                }
+            }
+            return null;
+        }
+
+        private void setLastInterval(OffsetInterval interval) {
+            if (lastInterval!=interval) {
+                lastInterval=interval;
+            }
+        }
+    }
+
+    private static ZoneIntervals getZoneIntervals(ZoneId zoneId) {
+        ZoneIntervals zoneIntervals=ZONE_INTERVALS_MAP.get(zoneId);
+        if (zoneIntervals!=null) {
+            if (!zoneIntervals.referenced) {
+                zoneIntervals.referenced=true;
+            }
+            return zoneIntervals;
+        }
+        ZoneIntervals newZoneIntervals=new ZoneIntervals(zoneId);
+        zoneIntervals=ZONE_INTERVALS_MAP.putIfAbsent(zoneId, newZoneIntervals);
+        if (zoneIntervals==null) {
+            zoneIntervals=newZoneIntervals;
+            if (ZONE_INTERVALS_MAP.size()>MAXIMUM_ZONE_COUNT) {
+                evict();
+            }
+        }
+        return zoneIntervals;
+    }
+
+    /**
+     * Evicts zones until the number of zones is within the maximum.
+     * Zones referenced since the last pass are given a second chance.
+     */
+    private static void evict() {
+        Iterator<Map.Entry<ZoneId,ZoneIntervals>> iterator=ZONE_INTERVALS_MAP.entrySet().iterator();
+        while (ZONE_INTERVALS_MAP.size()>MAXIMUM_ZONE_COUNT) {
+            if (!iterator.hasNext()) {
+                iterator=ZONE_INTERVALS_MAP.entrySet().iterator();
+            }
+            Map.Entry<ZoneId,ZoneIntervals> entry=iterator.next();
+            ZoneIntervals zoneIntervals=entry.getValue();
+            if (zoneIntervals.referenced) {
+                zoneIntervals.referenced=false;
+            } else {
+                ZONE_INTERVALS_MAP.remove(entry.getKey(), zoneIntervals);
+            }
+        }
+    }
+
+    /**
+     * Gets the offset in effect for a zone at a specific instant.
+     * @param zoneId Zone.
+     * @param epochSecond Instant as seconds since the epoch.
+     * @return Offset in seconds.
+     */
+    public static int getOffsetSeconds(ZoneId zoneId,
+                                       long epochSecond) {
+        OffsetInterval interval=getZoneIntervals(zoneId).findInterval(epochSecond);
+        if (interval!=null) {
+            return interval.offsetSeconds;
+        }
+        return zoneId.getRules().getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+    }
+
+    /**
+     * Resolves a local date-time within a zone to an instant.
+     * This resolves gaps and overlaps in the same manner as {@link ZonedDateTime#of(LocalDateTime, ZoneId)}.
+     * @param zoneId Zone.
+     * @param localEpochSecond Local date-time as seconds since the local epoch of 1970-01-01T00:00.
+     * @return Instant as seconds since the epoch.
+     */
+    public static long toEpochSecond(ZoneId zoneId,
+                                     long localEpochSecond) {
+        OffsetInterval interval=getZoneIntervals(zoneId).findLocalInterval(localEpochSecond);
+        if (interval!=null) {
+            return localEpochSecond-interval.offsetSeconds;
+        }
+        LocalDateTime localDateTime=LocalDateTime.ofEpochSecond(localEpochSecond, 0, ZoneOffset.UTC);
+        return ZonedDateTime.of(localDateTime, zoneId).toEpochSecond();
+    }
+
+    /**
+     * Clears the cache.
+     */
+    public static void clear() {
+        ZONE_INTERVALS_MAP.clear();
+    }
+}
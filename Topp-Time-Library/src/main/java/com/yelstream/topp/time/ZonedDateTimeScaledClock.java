@@ -1,7 +1,7 @@
 package com.yelstream.topp.time;
 
 import lombok.EqualsAndHashCode;
-import lombok.RequiredArgsConstructor;
+import lombok.Getter;
 import lombok.ToString;
 
 import java.time.*;
@@ -14,19 +14,69 @@ import java.util.function.UnaryOperator;
  * <p>
  *   This finds scaled differences by indirect computation as durations between instances of {@link ZonedDateTime}.
  * </p>
+ * <p>
+ *   Scale operators given as a {@link Scale} are evaluated directly on nanoseconds without intermediate durations.
+ *   Times outside the range of a count of nanoseconds since the epoch are computed on durations instead.
+ *   Clocks compare equal when their reference clocks, scale operators and initial timestamps compare equal.
+ * </p>
+ * <p>
+ *   Since durations are added to instances of {@link ZonedDateTime} on the instant time-line,
+ *   reading the current time is done directly on nanoseconds since the epoch without resolving the zone.
+ * </p>
  * @author Morten Sabroe Mortenen
  * @version 1.0
  * @since 2021-12-21
  */
-@RequiredArgsConstructor
-@EqualsAndHashCode(callSuper=true)
+@EqualsAndHashCode(callSuper=false)
 @ToString
-public class ZonedDateTimeScaledClock extends Clock {
+public class ZonedDateTimeScaledClock extends Clock implements EpochNanosSource {
 
+    @Getter
     private final Clock clock;
+    @Getter
     private final UnaryOperator<Duration> scaleOperator;
+    @Getter
     private final ZonedDateTime timestamp0;
 
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final long timestamp0Nanos;
+
+    /**
+     * Indicates if the initial timestamp is representable as nanoseconds since the epoch.
+     */
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final boolean epochNanosEnabled;
+
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final Scale scale;
+
+    /**
+     * Constructor.
+     * @param clock Reference clock.
+     * @param scaleOperator Function defining how to scale time.
+     * @param timestamp0 Timestamp at which the scaled timeline coincides with the reference clock.
+     */
+    public ZonedDateTimeScaledClock(Clock clock,
+                                    UnaryOperator<Duration> scaleOperator,
+                                    ZonedDateTime timestamp0) {
+        this.clock=clock;
+        this.scaleOperator=scaleOperator;
+        this.timestamp0=timestamp0;
+        this.scale=scaleOperator instanceof Scale rationalScale?rationalScale:null;
+        long nanos=0L;
+        boolean enabled=true;
+        try {
+            nanos=EpochNanos.of(timestamp0.toInstant());
+        } catch (ArithmeticException ex) {
+            enabled=false;
+        }
+        this.timestamp0Nanos=nanos;
+        this.epochNanosEnabled=enabled;
+    }
+
     /**
      * Constructor.
      * @param clock Reference clock.
@@ -67,9 +117,62 @@ public class ZonedDateTimeScaledClock extends Clock {
         return getScaledTimestamp(this.timestamp0, timestamp1, scaleOperator);
     }
 
+    private static long getScaledEpochNanos(long timestamp0Nanos,
+                                            long timestamp1Nanos,
+                                            Scale scale,
+                                            UnaryOperator<Duration> scaleOperator) {
+        long durationNanos=Math.subtractExact(timestamp1Nanos, timestamp0Nanos);
+        long scaledDurationNanos;
+        if (scale!=null) {
+            scaledDurationNanos=scale.applyAsLong(durationNanos);
+        } else {
+            scaledDurationNanos=scaleOperator.apply(Duration.ofNanos(durationNanos)).toNanos();
+        }
+        return Math.addExact(timestamp0Nanos, scaledDurationNanos);
+    }
+
+    /**
+     * Gets the current time by computation on durations.
+     * This applies to times outside the range of a count of nanoseconds since the epoch.
+     * @return Current time.
+     */
+    private Instant getScaledInstant() {
+        return getScaledTimestamp(ZonedDateTime.now(clock)).toInstant();
+    }
+
+    @Override
+    public long epochNanos() {
+        if (epochNanosEnabled) {
+            try {
+                return getScaledEpochNanos(timestamp0Nanos, EpochNanos.of(clock), scale, scaleOperator);
+            } catch (ArithmeticException ex) {
+                //Outside the range of a count of nanoseconds; computed on durations instead.
+            }
+        }
+        return EpochNanos.of(getScaledInstant());
+    }
+
+    @Override
+    public long millis() {
+        if (epochNanosEnabled) {
+            try {
+                return EpochNanos.toEpochMillis(getScaledEpochNanos(timestamp0Nanos, EpochNanos.of(clock), scale, scaleOperator));
+            } catch (ArithmeticException ex) {
+                //Outside the range of a count of nanoseconds; computed on durations instead.
+            }
+        }
+        return getScaledInstant().toEpochMilli();
+    }
+
     @Override
     public Instant instant() {
-        ZonedDateTime scaledTimestamp=getScaledTimestamp(ZonedDateTime.now(clock));
-        return scaledTimestamp.toInstant();
+        if (epochNanosEnabled) {
+            try {
+                return EpochNanos.toInstant(getScaledEpochNanos(timestamp0Nanos, EpochNanos.of(clock), scale, scaleOperator));
+            } catch (ArithmeticException ex) {
+                //Outside the range of a count of nanoseconds; computed on durations instead.
+            }
+        }
+        return getScaledInstant();
     }
 }
@@ -2,16 +2,24 @@ package com.yelstream.topp.time.build;
 
 import com.yelstream.topp.time.AdjustableClock;
 import com.yelstream.topp.time.Clocks;
-import com.yelstream.topp.time.InstantScaledClock;
+import com.yelstream.topp.time.CoarseClock;
+import com.yelstream.topp.time.CompositeClock;
+import com.yelstream.topp.time.RandomClock;
+import com.yelstream.topp.time.ReplayClock;
+import com.yelstream.topp.time.Scale;
 import com.yelstream.topp.time.declare.ClockDeclaration;
+import com.yelstream.topp.time.event.ClockCreationEvent;
+import com.yelstream.topp.time.metric.MeteredClock;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.nio.file.Path;
 import java.time.*;
 import java.util.Map;
 import java.util.Set;
+import java.util.SplittableRandom;
 import java.util.function.UnaryOperator;
 
 /**
@@ -42,6 +50,21 @@ public final class ClockConfiguration {
     private final UnaryOperator<Duration> scaleOperator;
     private final Boolean adjustable;
 
+    /**
+     * Initial adjustment of adjustable clocks.
+     * This is runtime state carried by snapshots of a timeline and is not part of a clock declaration.
+     */
+    private final AdjustableClock.Adjustment adjustment;
+
+    private final Duration coarseDuration;
+    private final Duration jitterDuration;
+    private final RandomClock.Distribution jitterDistribution;
+    private final Long seed;
+    private final Duration resyncDuration;
+    private final String meterName;
+    private final Path file;
+    private final ReplayClock.Mode replayMode;
+
     private Clock createBaseClock() {
         Clock baseClock;
         switch (origin) {
@@ -79,6 +102,22 @@ public final class ClockConfiguration {
                     baseClock=Clocks.createClockStartingAtTime(localDateTime);
                 }
             }
+            case Monotonic -> {
+                ZoneId monotonicZone=zone!=null?zone:ZoneId.systemDefault();
+                if (resyncDuration!=null) {
+                    baseClock=Clocks.createClockMonotonicInZone(monotonicZone, resyncDuration);
+                } else {
+                    baseClock=Clocks.createClockMonotonicInZone(monotonicZone);
+                }
+            }
+            case Replay -> {
+                if (file==null) {
+                    throw new IllegalStateException(String.format("Failure to create clock builder; base clock origin is %s, value 'file' must be set!",origin));
+                }
+                ZoneId replayZone=zone!=null?zone:ZoneId.systemDefault();
+                ReplayClock.Mode mode=replayMode!=null?replayMode:ReplayClock.Mode.Elapsed;
+                baseClock=Clocks.createClockReplayInZone(file, replayZone, mode, scaleOperator);
+            }
             default -> {
                 throw new IllegalStateException(String.format("Failure to recognize base clock origin; origin is %s!",origin));
             }
@@ -88,45 +127,160 @@ public final class ClockConfiguration {
 
     private Clock decorateBaseClock(Clock baseClock) {
         Clock clock=baseClock;
-        if (offsetDuration!=null) {
-            clock=Clock.offset(clock, offsetDuration);
-            log.debug("Modified base clock by adding the offset {}.", offsetDuration);
-        }
-        if (tickDuration!=null) {
-            clock=Clock.tick(clock, tickDuration);
-            log.debug("Modified base clock to tick in adjustments of {}.", tickDuration);
-        }
-        if (scaleOperator!=null) {
-            if (instant == null) {
-                clock=new InstantScaledClock(clock, scaleOperator);
-            } else {
-                clock=new InstantScaledClock(clock, scaleOperator, instant);
-            }
-            log.debug("Modified base clock to scale using the operator {}.", scaleOperator);
+        UnaryOperator<Duration> clockScaleOperator=origin!=ClockOrigin.Replay?scaleOperator:null;
+        if (offsetDuration!=null || tickDuration!=null || clockScaleOperator!=null) {
+            clock=new CompositeClock(clock, offsetDuration, tickDuration, clockScaleOperator, instant);
+            log.debug("Modified base clock to add the offset {}, tick in adjustments of {} and scale using the operator {}.", offsetDuration, tickDuration, clockScaleOperator);
         }
         if (adjustable!=null) {
-            clock=new AdjustableClock(clock);
+            AdjustableClock adjustableClock=new AdjustableClock(clock);
+            if (adjustment!=null) {
+                adjustableClock.setAdjustment(adjustment);
+            }
+            clock=adjustableClock;
             log.debug("Modified base clock by allowing adjustment using the direction {}.", adjustable);
+        } else if (adjustment!=null) {
+            throw new IllegalStateException(String.format("Failure to create clock builder; value 'adjustment' requires value 'adjustable' to be set, adjustment is %s!",adjustment));
+        }
+        if (coarseDuration!=null) {
+            clock=new CoarseClock(clock, coarseDuration);
+            log.debug("Modified base clock to be read from a cached reading refreshed every {}.", coarseDuration);
+        }
+        if (jitterDuration!=null) {
+            RandomClock.Distribution distribution=jitterDistribution!=null?jitterDistribution:RandomClock.Distribution.Uniform;
+            SplittableRandom random=seed!=null?new SplittableRandom(seed):new SplittableRandom();
+            clock=new RandomClock(clock, jitterDuration.negated(), jitterDuration, distribution, random);
+            log.debug("Modified base clock to add random jitter within {} using the distribution {}.", jitterDuration, distribution);
+        } else if (jitterDistribution!=null || seed!=null) {
+            throw new IllegalStateException(String.format("Failure to create clock builder; values 'distribution' and 'seed' require value 'jitter' to be set, distribution is %s, seed is %s!",jitterDistribution,seed));
+        }
+        if (meterName!=null) {
+            String name=meterName.isEmpty()?getDefaultMeterName():meterName;
+            clock=MeteredClock.of(name, clock);
+            log.debug("Modified base clock to be metered by the name {}.", name);
         }
         return clock;
     }
 
+    /**
+     * Gets the name of metered clocks not given a name.
+     * This is the canonical declaration of this configuration, so clocks of the same declaration share their metrics.
+     * @return Name, or {@code null} in case the configuration has no declaration.
+     */
+    private String getDefaultMeterName() {
+        try {
+            return toClockDeclaration().getDeclaration();
+        } catch (IllegalStateException ex) {
+            return null;
+        }
+    }
+
     /**
      * Converts this configuration to an actual, matching clock.
      * @return Matching clock.
      */
     public Clock toClock() {
+        ClockCreationEvent event=new ClockCreationEvent();
+        event.begin();
         Clock clock=createBaseClock();
         clock=decorateBaseClock(clock);
+        event.commit(String.valueOf(origin), clock);
         return clock;
     }
 
+    /**
+     * Indicates if clocks created from this configuration may be shared instead of being created anew.
+     * This is the case when the clocks hold no mutable state, do not depend upon the time of creation and are not closeable as metered clocks are.
+     * @return Indication.
+     */
+    public boolean isShareable() {
+        boolean stateless=switch (origin) {
+            case SystemInDefaultZone, SystemInZoneUTC, SystemInZone, Fixed -> true;
+            default -> false;
+        };
+        return stateless &&
+               (scaleOperator==null || instant!=null) &&
+               !Boolean.TRUE.equals(adjustable) &&
+               coarseDuration==null &&
+               jitterDuration==null &&
+               meterName==null;
+    }
+
     /**
      * Converts this configuration to an actual, matching clock declaration.
-     * @return Matching clock.
+     * <p>
+     *   The declaration is canonical:
+     *   The origin is named with a leading lower-case letter and arguments are given by their short names in a fixed order.
+     *   Parsing the declaration results in a configuration converting to the same declaration.
+     *   The adjustment of adjustable clocks is runtime state and is not declared.
+     * </p>
+     * @return Matching clock declaration.
+     * @throws IllegalStateException Thrown in case the scale operator is not a {@link Scale}.
      */
     public ClockDeclaration toClockDeclaration() {
-        return null;  //TODO: Fix this!
+        StringBuilder sb=new StringBuilder();
+        String originName=origin.name();
+        sb.append(Character.toLowerCase(originName.charAt(0))).append(originName, 1, originName.length());
+        int length=sb.length();
+        appendArgument(sb, "zone", zone==null?null:zone.getId());
+        appendArgument(sb, "instant", instant);
+        appendArgument(sb, "localDateTime", localDateTime);
+        appendArgument(sb, "file", file);
+        appendArgument(sb, "mode", replayMode==null?null:Character.toLowerCase(replayMode.name().charAt(0))+replayMode.name().substring(1));
+        appendArgument(sb, "offset", offsetDuration);
+        appendArgument(sb, "tick", tickDuration);
+        if (scaleOperator!=null) {
+            if (!(scaleOperator instanceof Scale scale)) {
+                throw new IllegalStateException(String.format("Failure to create clock declaration; scale operator %s is not a scale factor!",scaleOperator));
+            }
+            long numerator=scale.getNumerator();
+            appendArgument(sb, "multiplyBy", numerator<0L?Math.negateExact(numerator):numerator);
+            if (scale.getDenominator()!=1L) {
+                appendArgument(sb, "divideBy", scale.getDenominator());
+            }
+            if (numerator<0L) {
+                appendArgument(sb, "negate", "");
+            }
+        }
+        if (adjustable!=null) {
+            appendArgument(sb, "adjustable", adjustable?"":"false");
+        }
+        appendArgument(sb, "coarse", coarseDuration);
+        appendArgument(sb, "jitter", jitterDuration);
+        appendArgument(sb, "distribution", jitterDistribution==null?null:Character.toLowerCase(jitterDistribution.name().charAt(0))+jitterDistribution.name().substring(1));
+        appendArgument(sb, "seed", seed);
+        appendArgument(sb, "resync", resyncDuration);
+        appendArgument(sb, "metered", meterName);
+        if (sb.length()>length) {
+            sb.append(')');
+        }
+        return new ClockDeclaration(sb.toString());
+    }
+
+    /**
+     * Appends an argument to a clock declaration under construction.
+     * The first argument opens the list of arguments.
+     * @param sb Clock declaration under construction.
+     * @param name Name of argument.
+     * @param value Value of argument.
+     *              If {@code null}, then no argument is appended.
+     *              If empty, then the argument is appended with no value.
+     */
+    private static void appendArgument(StringBuilder sb,
+                                       String name,
+                                       Object value) {
+        if (value!=null) {
+            sb.append(sb.indexOf("(")<0?'(':',').append(name);
+            String text=value.toString();
+            if (!text.isEmpty()) {
+                sb.append('=');
+                if (text.chars().allMatch(c->c>=0x20 && c<=0x7e && c!=',' && c!='"' && c!=')' && c!='\\')) {
+                    sb.append(text);
+                } else {
+                    sb.append('"').append(text.replace("\\", "\\\\").replace("\"", "\\\"")).append('"');
+                }
+            }
+        }
     }
 
     /**
@@ -186,20 +340,49 @@ public final class ClockConfiguration {
                         builder.tickDuration=Duration.parse(value);
                     }
                     case "scale.multiplyBy", "multiplyBy" -> {
-                        UnaryOperator<Duration> scaleOperator=builder.scaleOperator==null?UnaryOperator.identity():builder.scaleOperator;
-                        builder.scaleOperator=duration->scaleOperator.apply(duration).multipliedBy(Long.parseLong(value));
+                        long factor=Long.parseLong(value);
+                        builder.scaleOperator=applyScale(builder.scaleOperator, scale->scale.multipliedBy(factor), duration->duration.multipliedBy(factor));
                     }
                     case "scale.divideBy", "divideBy" -> {
-                        UnaryOperator<Duration> scaleOperator=builder.scaleOperator==null?UnaryOperator.identity():builder.scaleOperator;
-                        builder.scaleOperator=duration->scaleOperator.apply(duration).dividedBy(Long.parseLong(value));
+                        long divisor=Long.parseLong(value);
+                        builder.scaleOperator=applyScale(builder.scaleOperator, scale->scale.dividedBy(divisor), duration->duration.dividedBy(divisor));
                     }
                     case "scale.negate", "negate" -> {
-                        UnaryOperator<Duration> scaleOperator=builder.scaleOperator==null?UnaryOperator.identity():builder.scaleOperator;
-                        builder.scaleOperator=duration->scaleOperator.apply(duration).negated();
+                        builder.scaleOperator=applyScale(builder.scaleOperator, Scale::negated, Duration::negated);
                     }
                     case "adjustable" -> {
                         builder.adjustable=value==null?Boolean.TRUE:Boolean.valueOf(value);
                     }
+                    case "coarseDuration", "coarse" -> {
+                        builder.coarseDuration=Duration.parse(value);
+                    }
+                    case "jitterDuration", "jitter" -> {
+                        builder.jitterDuration=Duration.parse(value);
+                    }
+                    case "jitterDistribution", "distribution" -> {
+                        builder.jitterDistribution=RandomClock.Distribution.valueOfIgnoreCase(value);
+                        if (builder.jitterDistribution==null) {
+                            throw new IllegalArgumentException(String.format("Failure to recognize jitter distribution; argument has key %s and value %s!",key,value));
+                        }
+                    }
+                    case "seed" -> {
+                        builder.seed=Long.parseLong(value);
+                    }
+                    case "resyncDuration", "resync" -> {
+                        builder.resyncDuration=Duration.parse(value);
+                    }
+                    case "meterName", "metered" -> {
+                        builder.meterName=value==null?"":value;
+                    }
+                    case "file" -> {
+                        builder.file=Path.of(value);
+                    }
+                    case "replayMode", "mode" -> {
+                        builder.replayMode=ReplayClock.Mode.valueOfIgnoreCase(value);
+                        if (builder.replayMode==null) {
+                            throw new IllegalArgumentException(String.format("Failure to recognize replay mode; argument has key %s and value %s!",key,value));
+                        }
+                    }
                     default -> {
                         throw new IllegalArgumentException(String.format("Failure to recognize argument; argument has key %s and value %s, arguments are %s!",key,value,argumentMap));
                     }
@@ -207,4 +390,26 @@ public final class ClockConfiguration {
             }
         }
     }
+
+    /**
+     * Combines a scale operator with a further step of scaling.
+     * Scale operators given as a {@link Scale} are combined into a single, reduced scale factor.
+     * Other scale operators are combined by chaining.
+     * @param scaleOperator Current scale operator.
+     *                      This may be {@code null}.
+     * @param scaleFunction Function applying the step to a scale factor.
+     * @param durationOperator Operator applying the step to a duration.
+     * @return Combined scale operator.
+     */
+    private static UnaryOperator<Duration> applyScale(UnaryOperator<Duration> scaleOperator,
+                                                      UnaryOperator<Scale> scaleFunction,
+                                                      UnaryOperator<Duration> durationOperator) {
+        if (scaleOperator==null) {
+            return scaleFunction.apply(Scale.IDENTITY);
+        }
+        if (scaleOperator instanceof Scale scale) {
+            return scaleFunction.apply(scale);
+        }
+        return duration->durationOperator.apply(scaleOperator.apply(duration));
+    }
 }
@@ -0,0 +1,349 @@
+package com.yelstream.topp.time.build;
+
+import com.yelstream.topp.time.AdjustableClock;
+import com.yelstream.topp.time.RandomClock;
+import com.yelstream.topp.time.ReplayClock;
+import com.yelstream.topp.time.Scale;
+import lombok.experimental.UtilityClass;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * <p>
+ *   Compact, binary format of {@link ClockConfiguration} instances.
+ * </p>
+ * <p>
+ *   The format is a version byte, the ordinal of the clock origin, and a bit-mask of the values present,
+ *   followed by the values present in the order of the bits.
+ *   Integers are written as variable-length quantities of 7 bits per byte, with signed integers zig-zag encoded.
+ *   Strings are written as their length in bytes followed by their UTF-8 encoding.
+ *   Instants and durations are written as seconds followed by the nano-of-second adjustment,
+ *   local date-times as epoch-seconds in UTC followed by the nano-of-second,
+ *   and scale factors as numerator followed by denominator.
+ *   Adjustments are written as the source anchor and the target anchor in epoch nanoseconds followed by the rate as a scale factor.
+ * </p>
+ * <p>
+ *   Typical configurations are encoded in less than 32 bytes, which makes the format suited for snapshots and for transfer.
+ *   Clock origins, replay modes and jitter distributions are identified by ordinal and must be appended to and never reordered.
+ * </p>
+ * <p>
+ *   The adjustment of an adjustable clock is encoded when given by {@link #encode(ClockConfiguration, AdjustableClock)},
+ *   so the current timeline of the clock continues in clocks created from the decoded configuration.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@UtilityClass
+public class ClockConfigurationCodec {
+    /**
+     * Version of the format.
+     */
+    public static final byte VERSION=1;
+
+    private static final int ZONE=1;
+    private static final int INSTANT=1<<1;
+    private static final int LOCAL_DATE_TIME=1<<2;
+    private static final int OFFSET_DURATION=1<<3;
+    private static final int TICK_DURATION=1<<4;
+    private static final int SCALE=1<<5;
+    private static final int ADJUSTABLE=1<<6;
+    private static final int COARSE_DURATION=1<<7;
+    private static final int RESYNC_DURATION=1<<8;
+    private static final int METER_NAME=1<<9;
+    private static final int FILE=1<<10;
+    private static final int REPLAY_MODE=1<<11;
+    private static final int JITTER_DURATION=1<<12;
+    private static final int JITTER_DISTRIBUTION=1<<13;
+    private static final int SEED=1<<14;
+    private static final int ADJUSTMENT=1<<15;
+    private static final int ALL=(1<<16)-1;
+
+    /**
+     * Encodes a clock configuration.
+     * @param configuration Clock configuration.
+     * @return Encoded clock configuration.
+     * @throws IllegalStateException Thrown in case the scale operator is not a {@link Scale}.
+     */
+    public static byte[] encode(ClockConfiguration configuration) {
+        if (configuration.getScaleOperator()!=null && !(configuration.getScaleOperator() instanceof Scale)) {
+            throw new IllegalStateException(String.format("Failure to encode clock configuration; scale operator %s is not a scale factor!",configuration.getScaleOperator()));
+        }
+        int mask=(configuration.getZone()!=null?ZONE:0)|
+                 (configuration.getInstant()!=null?INSTANT:0)|
+                 (configuration.getLocalDateTime()!=null?LOCAL_DATE_TIME:0)|
+                 (configuration.getOffsetDuration()!=null?OFFSET_DURATION:0)|
+                 (configuration.getTickDuration()!=null?TICK_DURATION:0)|
+                 (configuration.getScaleOperator()!=null?SCALE:0)|
+                 (configuration.getAdjustable()!=null?ADJUSTABLE:0)|
+                 (configuration.getCoarseDuration()!=null?COARSE_DURATION:0)|
+                 (configuration.getResyncDuration()!=null?RESYNC_DURATION:0)|
+                 (configuration.getMeterName()!=null?METER_NAME:0)|
+                 (configuration.getFile()!=null?FILE:0)|
+                 (configuration.getReplayMode()!=null?REPLAY_MODE:0)|
+                 (configuration.getJitterDuration()!=null?JITTER_DURATION:0)|
+                 (configuration.getJitterDistribution()!=null?JITTER_DISTRIBUTION:0)|
+                 (configuration.getSeed()!=null?SEED:0)|
+                 (configuration.getAdjustment()!=null?ADJUSTMENT:0);
+
+        ByteArrayOutputStream out=new ByteArrayOutputStream(32);
+        out.write(VERSION);
+        writeUnsigned(out, configuration.getOrigin().ordinal());
+        writeUnsigned(out, mask);
+        if ((mask&ZONE)!=0) {
+            writeString(out, configuration.getZone().getId());
+        }
+        if ((mask&INSTANT)!=0) {
+            Instant instant=configuration.getInstant();
+            writeSigned(out, instant.getEpochSecond());
+            writeUnsigned(out, instant.getNano());
+        }
+        if ((mask&LOCAL_DATE_TIME)!=0) {
+            LocalDateTime localDateTime=configuration.getLocalDateTime();
+            writeSigned(out, localDateTime.toEpochSecond(ZoneOffset.UTC));
+            writeUnsigned(out, localDateTime.getNano());
+        }
+        if ((mask&OFFSET_DURATION)!=0) {
+            writeDuration(out, configuration.getOffsetDuration());
+        }
+        if ((mask&TICK_DURATION)!=0) {
+            writeDuration(out, configuration.getTickDuration());
+        }
+        if ((mask&SCALE)!=0) {
+            Scale scale=(Scale)configuration.getScaleOperator();
+            writeSigned(out, scale.getNumerator());
+            writeUnsigned(out, scale.getDenominator());
+        }
+        if ((mask&ADJUSTABLE)!=0) {
+            out.write(configuration.getAdjustable()?1:0);
+        }
+        if ((mask&COARSE_DURATION)!=0) {
+            writeDuration(out, configuration.getCoarseDuration());
+        }
+        if ((mask&RESYNC_DURATION)!=0) {
+            writeDuration(out, configuration.getResyncDuration());
+        }
+        if ((mask&METER_NAME)!=0) {
+            writeString(out, configuration.getMeterName());
+        }
+        if ((mask&FILE)!=0) {
+            writeString(out, configuration.getFile().toString());
+        }
+        if ((mask&REPLAY_MODE)!=0) {
+            writeUnsigned(out, configuration.getReplayMode().ordinal());
+        }
+        if ((mask&JITTER_DURATION)!=0) {
+            writeDuration(out, configuration.getJitterDuration());
+        }
+        if ((mask&JITTER_DISTRIBUTION)!=0) {
+            writeUnsigned(out, configuration.getJitterDistribution().ordinal());
+        }
+        if ((mask&SEED)!=0) {
+            writeSigned(out, configuration.getSeed());
+        }
+        if ((mask&ADJUSTMENT)!=0) {
+            AdjustableClock.Adjustment adjustment=configuration.getAdjustment();
+            writeSigned(out, adjustment.getSourceAnchorNanos());
+            writeSigned(out, adjustment.getTargetAnchorNanos());
+            writeSigned(out, adjustment.getRate().getNumerator());
+            writeUnsigned(out, adjustment.getRate().getDenominator());
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Encodes a clock configuration together with the current adjustment of an adjustable clock.
+     * Clocks created from the decoded configuration continue the adjusted timeline of the clock.
+     * @param configuration Clock configuration.
+     *                      This must be adjustable.
+     * @param clock Adjustable clock created from the configuration.
+     * @return Encoded clock configuration.
+     * @throws IllegalStateException Thrown in case the configuration is not adjustable or the scale operator is not a {@link Scale}.
+     */
+    public static byte[] encode(ClockConfiguration configuration,
+                                AdjustableClock clock) {
+        if (configuration.getAdjustable()==null) {
+            throw new IllegalStateException(String.format("Failure to encode clock configuration; configuration is not adjustable, clock is %s!",clock));
+        }
+        return encode(configuration.toBuilder().adjustment(clock.getAdjustment()).build());
+    }
+
+    /**
+     * Decodes a clock configuration.
+     * @param bytes Encoded clock configuration.
+     * @return Clock configuration.
+     * @throws IllegalArgumentException Thrown in case the encoding is not valid.
+     */
+    public static ClockConfiguration decode(byte[] bytes) {
+        ByteBuffer buffer=ByteBuffer.wrap(bytes);
+        ClockConfiguration configuration=decode(buffer);
+        if (buffer.hasRemaining()) {
+            throw new IllegalArgumentException(String.format("Failure to decode clock configuration; %d trailing bytes follow the encoding!",buffer.remaining()));
+        }
+        return configuration;
+    }
+
+    /**
+     * Decodes a clock configuration.
+     * The position of the buffer is advanced past the encoding.
+     * @param buffer Buffer holding encoded clock configuration.
+     * @return Clock configuration.
+     * @throws IllegalArgumentException Thrown in case the encoding is not valid.
+     */
+    public static ClockConfiguration decode(ByteBuffer buffer) {
+        try {
+            byte version=buffer.get();
+            if (version!=VERSION) {
+                throw new IllegalArgumentException(String.format("Failure to decode clock configuration; version is %d, expected version is %d!",version,VERSION));
+            }
+            ClockOrigin[] origins=ClockOrigin.values();
+            long ordinal=readUnsigned(buffer);
+            if (ordinal<0L || ordinal>=origins.length) {
+                throw new IllegalArgumentException(String.format("Failure to decode clock configuration; origin ordinal is %d!",ordinal));
+            }
+            long mask=readUnsigned(buffer);
+            if ((mask&~ALL)!=0L) {
+                throw new IllegalArgumentException(String.format("Failure to decode clock configuration; mask of values present is 0x%x!",mask));
+            }
+
+            ClockConfiguration.Builder builder=ClockConfiguration.builder().origin(origins[(int)ordinal]);
+            if ((mask&ZONE)!=0) {
+                builder.zone(ZoneId.of(readString(buffer)));
+            }
+            if ((mask&INSTANT)!=0) {
+                long seconds=readSigned(buffer);
+                builder.instant(Instant.ofEpochSecond(seconds, readUnsigned(buffer)));
+            }
+            if ((mask&LOCAL_DATE_TIME)!=0) {
+                long seconds=readSigned(buffer);
+                builder.localDateTime(LocalDateTime.ofEpochSecond(seconds, Math.toIntExact(readUnsigned(buffer)), ZoneOffset.UTC));
+            }
+            if ((mask&OFFSET_DURATION)!=0) {
+                builder.offsetDuration(readDuration(buffer));
+            }
+            if ((mask&TICK_DURATION)!=0) {
+                builder.tickDuration(readDuration(buffer));
+            }
+            if ((mask&SCALE)!=0) {
+                long numerator=readSigned(buffer);
+                builder.scaleOperator(Scale.of(numerator, readUnsigned(buffer)));
+            }
+            if ((mask&ADJUSTABLE)!=0) {
+                builder.adjustable(buffer.get()!=0);
+            }
+            if ((mask&COARSE_DURATION)!=0) {
+                builder.coarseDuration(readDuration(buffer));
+            }
+            if ((mask&RESYNC_DURATION)!=0) {
+                builder.resyncDuration(readDuration(buffer));
+            }
+            if ((mask&METER_NAME)!=0) {
+                builder.meterName(readString(buffer));
+            }
+            if ((mask&FILE)!=0) {
+                builder.file(Path.of(readString(buffer)));
+            }
+            if ((mask&REPLAY_MODE)!=0) {
+                ReplayClock.Mode[] modes=ReplayClock.Mode.values();
+                long modeOrdinal=readUnsigned(buffer);
+                if (modeOrdinal<0L || modeOrdinal>=modes.length) {
+                    throw new IllegalArgumentException(String.format("Failure to decode clock configuration; replay mode ordinal is %d!",modeOrdinal));
+                }
+                builder.replayMode(modes[(int)modeOrdinal]);
+            }
+            if ((mask&JITTER_DURATION)!=0) {
+                builder.jitterDuration(readDuration(buffer));
+            }
+            if ((mask&JITTER_DISTRIBUTION)!=0) {
+                RandomClock.Distribution[] distributions=RandomClock.Distribution.values();
+                long distributionOrdinal=readUnsigned(buffer);
+                if (distributionOrdinal<0L || distributionOrdinal>=distributions.length) {
+                    throw new IllegalArgumentException(String.format("Failure to decode clock configuration; jitter distribution ordinal is %d!",distributionOrdinal));
+                }
+                builder.jitterDistribution(distributions[(int)distributionOrdinal]);
+            }
+            if ((mask&SEED)!=0) {
+                builder.seed(readSigned(buffer));
+            }
+            if ((mask&ADJUSTMENT)!=0) {
+                long sourceAnchorNanos=readSigned(buffer);
+                long targetAnchorNanos=readSigned(buffer);
+                long numerator=readSigned(buffer);
+                builder.adjustment(AdjustableClock.Adjustment.of(sourceAnchorNanos, targetAnchorNanos, Scale.of(numerator, readUnsigned(buffer))));
+            }
+            return builder.build();
+        } catch (BufferUnderflowException | ArithmeticException | DateTimeException | InvalidPathException ex) {
+            throw new IllegalArgumentException(String.format("Failure to decode clock configuration; encoding is truncated or malformed, buffer is %s!",buffer),ex);
+        }
+    }
+
+    private static void writeDuration(ByteArrayOutputStream out,
+                                      Duration duration) {
+        writeSigned(out, duration.getSeconds());
+        writeUnsigned(out, duration.getNano());
+    }
+
+    private static Duration readDuration(ByteBuffer buffer) {
+        long seconds=readSigned(buffer);
+        return Duration.ofSeconds(seconds, readUnsigned(buffer));
+    }
+
+    private static void writeString(ByteArrayOutputStream out,
+                                    String value) {
+        byte[] bytes=value.getBytes(StandardCharsets.UTF_8);
+        writeUnsigned(out, bytes.length);
+        out.writeBytes(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        long length=readUnsigned(buffer);
+        if (length>buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes=new byte[(int)length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeSigned(ByteArrayOutputStream out,
+                                    long value) {
+        writeUnsigned(out, (value<<1)^(value>>63));
+    }
+
+    private static long readSigned(ByteBuffer buffer) {
+        long value=readUnsigned(buffer);
+        return (value>>>1)^-(value&1L);
+    }
+
+    private static void writeUnsigned(ByteArrayOutputStream out,
+                                      long value) {
+        while ((value&~0x7FL)!=0L) {
+            out.write((int)((value&0x7FL)|0x80L));
+            value>>>=7;
+        }
+        out.write((int)value);
+    }
+
+    private static long readUnsigned(ByteBuffer buffer) {
+        long value=0L;
+        for (int shift=0; shift<64; shift+=7) {
+            byte b=buffer.get();
+            value|=(long)(b&0x7F)<<shift;
+            if (b>=0) {
+                return value;
+            }
+        }
+        throw new ArithmeticException("Variable-length quantity exceeds 64 bits!");
+    }
+}
@@ -38,7 +38,19 @@ public enum ClockOrigin {
      * Clocks starting at a specific time, optionally with reference to a specific zone.
      * Parameters: One of the sets ( {@code localDateTime}, {@code zone} ), ( {@code localDateTime} ).
      */
-    StartingAtTime;
+    StartingAtTime,
+
+    /**
+     * Clocks anchored once to wall time and advanced by monotonic nano-time, optionally with reference to a specific zone.
+     * Parameters: Optionally {@code zone} and {@code resync}.
+     */
+    Monotonic,
+
+    /**
+     * Clocks replaying a recorded trace of timestamps, optionally with reference to a specific zone.
+     * Parameters: {@code file}, optionally {@code mode}, {@code zone} and the scale parameters.
+     */
+    Replay;
 
     /**
      * Gets enumeration from the textual name while matching with the case ignored.
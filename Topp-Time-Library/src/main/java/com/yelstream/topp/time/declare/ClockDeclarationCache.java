@@ -0,0 +1,195 @@
+package com.yelstream.topp.time.declare;
+
+import com.yelstream.topp.time.build.ClockConfiguration;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ *   Cache of parsed clock declarations.
+ * </p>
+ * <p>
+ *   For each distinct declaration the matching {@link ClockConfiguration} is kept,
+ *   so that creating a clock from a declaration seen before only instantiates the clock.
+ *   If the configuration is shareable, then a single clock instance is kept and returned instead.
+ * </p>
+ * <p>
+ *   The number of declarations kept is bounded.
+ *   When exceeded, declarations not used since the last eviction pass are evicted first.
+ *   Declarations failing to parse are not kept.
+ * </p>
+ * <p>
+ *   This is thread-safe.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+public final class ClockDeclarationCache {
+    /**
+     * Default maximum number of declarations kept.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE=256;
+
+    private static final ClockDeclarationCache DEFAULT_INSTANCE=new ClockDeclarationCache(DEFAULT_MAXIMUM_SIZE);
+
+    /**
+     * Maximum number of declarations kept.
+     */
+    @Getter
+    private final int maximumSize;
+
+    private final ConcurrentMap<String,Entry> entryMap=new ConcurrentHashMap<>();
+
+    private final LongAdder hitCounter=new LongAdder();
+    private final LongAdder missCounter=new LongAdder();
+    private final LongAdder evictionCounter=new LongAdder();
+
+    /**
+     * Parsed declaration.
+     */
+    private static final class Entry {
+        private final ClockConfiguration configuration;
+        private final Clock sharedClock;
+        private volatile boolean referenced;
+
+        private Entry(ClockConfiguration configuration) {
+            this.configuration=configuration;
+            this.sharedClock=configuration.isShareable()?configuration.toClock():null;
+        }
+    }
+
+    /**
+     * Constructor.
+     * @param maximumSize Maximum number of declarations kept.
+     */
+    public ClockDeclarationCache(int maximumSize) {
+        if (maximumSize<1) {
+            throw new IllegalArgumentException(String.format("Failure to create cache; maximum size must be positive, maximum size is %d!",maximumSize));
+        }
+        this.maximumSize=maximumSize;
+    }
+
+    /**
+     * Gets the default cache.
+     * This is used by {@link ClockDeclaration}.
+     * @return Default cache.
+     */
+    public static ClockDeclarationCache getDefault() {
+        return DEFAULT_INSTANCE;
+    }
+
+    private Entry getEntry(String declaration) {
+        Entry entry=entryMap.get(declaration);
+        if (entry!=null) {
+            hitCounter.increment();
+            if (!entry.referenced) {
+                entry.referenced=true;
+            }
+            return entry;
+        }
+        missCounter.increment();
+        Entry newEntry=new Entry(ClockDeclaration.parse(declaration));
+        entry=entryMap.putIfAbsent(declaration, newEntry);
+        if (entry==null) {
+            entry=newEntry;
+            if (entryMap.size()>maximumSize) {
+                evict();
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * Evicts entries until the size is within the maximum size.
+     * Entries referenced since the last pass are given a second chance.
+     */
+    private void evict() {
+        Iterator<Map.Entry<String,Entry>> iterator=entryMap.entrySet().iterator();
+        while (entryMap.size()>maximumSize) {
+            if (!iterator.hasNext()) {
+                iterator=entryMap.entrySet().iterator();
+            }
+            Map.Entry<String,Entry> mapEntry=iterator.next();
+            Entry entry=mapEntry.getValue();
+            if (entry.referenced) {
+                entry.referenced=false;
+            } else if (entryMap.remove(mapEntry.getKey(), entry)) {
+                evictionCounter.increment();
+                log.debug("Evicted clock declaration {} from cache.", mapEntry.getKey());
+            }
+        }
+    }
+
+    /**
+     * Gets the clock configuration matching a declaration.
+     * @param declaration Clock declaration.
+     * @return Clock configuration.
+     */
+    public ClockConfiguration getConfiguration(String declaration) {
+        return getEntry(declaration).configuration;
+    }
+
+    /**
+     * Creates a clock matching a declaration.
+     * For shareable configurations the same clock instance is returned each time.
+     * @param declaration Clock declaration.
+     * @return Clock.
+     */
+    public Clock createClock(String declaration) {
+        Entry entry=getEntry(declaration);
+        Clock clock=entry.sharedClock;
+        if (clock==null) {
+            clock=entry.configuration.toClock();
+        }
+        return clock;
+    }
+
+    /**
+     * Gets the number of lookups of declarations found in the cache.
+     * @return Number of hits.
+     */
+    public long getHitCount() {
+        return hitCounter.sum();
+    }
+
+    /**
+     * Gets the number of lookups of declarations not found in the cache.
+     * @return Number of misses.
+     */
+    public long getMissCount() {
+        return missCounter.sum();
+    }
+
+    /**
+     * Gets the number of declarations evicted from the cache.
+     * @return Number of evictions.
+     */
+    public long getEvictionCount() {
+        return evictionCounter.sum();
+    }
+
+    /**
+     * Gets the number of declarations kept.
+     * @return Number of declarations.
+     */
+    public int size() {
+        return entryMap.size();
+    }
+
+    /**
+     * Removes all declarations kept.
+     * The counters are not reset.
+     */
+    public void clear() {
+        entryMap.clear();
+    }
+}
@@ -0,0 +1,186 @@
+package com.yelstream.topp.time.declare;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ *   Parser of clock declarations.
+ * </p>
+ * <p>
+ *   The grammar is:
+ * </p>
+ * <pre>
+ *   declaration = origin [ "(" [ argument { "," argument } ] ")" ]
+ *   origin      = word-character { word-character }
+ *   argument    = name [ "=" value ]
+ *   name        = ( word-character | "." ) { word-character | "." }
+ *   value       = quoted-value | plain-value
+ * </pre>
+ * <p>
+ *   Word characters are {@code a-z}, {@code A-Z}, {@code 0-9} and {@code _}.
+ *   A plain value is a possibly empty sequence of printable ASCII characters, excluding {@code ,} and {@code "}.
+ *   A quoted value is enclosed in {@code "} and may contain any character except control characters,
+ *   with {@code "} and {@code \} escaped by {@code \}.
+ *   Values containing {@code ,} must be quoted.
+ * </p>
+ * <p>
+ *   The declaration is parsed in a single pass.
+ *   Syntax errors are reported as {@link ClockDeclarationSyntaxException} with the position of the character in error.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class ClockDeclarationParser {
+    /**
+     * Name of the argument holding the name of the clock origin.
+     */
+    static final String ORIGIN_ARGUMENT_NAME="origin";
+
+    private final String declaration;
+    private final int length;
+    private int position;
+
+    private ClockDeclarationParser(String declaration) {
+        this.declaration=declaration;
+        this.length=declaration.length();
+    }
+
+    /**
+     * Parses a clock declaration into named arguments.
+     * The name of the clock origin is the first argument and has the name {@value #ORIGIN_ARGUMENT_NAME}.
+     * The remaining arguments are kept in the order of declaration.
+     * Arguments with no value have the value {@code null}.
+     * @param declaration Clock declaration.
+     * @return Named arguments.
+     * @throws ClockDeclarationSyntaxException Thrown in case of a syntax error.
+     */
+    static Map<String,String> parse(String declaration) {
+        return new ClockDeclarationParser(declaration).parseDeclaration();
+    }
+
+    private Map<String,String> parseDeclaration() {
+        Map<String,String> argumentMap=new LinkedHashMap<>();  //Yes, keep the keys in the order they were inserted!
+        String originName=parseName(false, "clock origin name");
+        argumentMap.put(ORIGIN_ARGUMENT_NAME, originName);
+        if (position<length) {
+            expect('(');
+            if (peek()==')') {
+                position++;
+            } else {
+                while (true) {
+                    String name=parseName(true, "argument name");
+                    String value=null;
+                    if (peek()=='=') {
+                        position++;
+                        value=parseValue();
+                    }
+                    argumentMap.put(name, value);
+                    char c=peek();
+                    if (c==',') {
+                        position++;
+                    } else if (c==')') {
+                        position++;
+                        break;
+                    } else {
+                        throw error(position<length?"expected ',' or ')'":"expected ')'");
+                    }
+                }
+            }
+            if (position<length) {
+                throw error("expected end of declaration");
+            }
+        }
+        return argumentMap;
+    }
+
+    private String parseName(boolean allowDot,
+                             String description) {
+        int start=position;
+        while (position<length) {
+            char c=declaration.charAt(position);
+            if (isWordCharacter(c) || (allowDot && c=='.')) {
+                position++;
+            } else {
+                break;
+            }
+        }
+        if (position==start) {
+            throw error("expected "+description);
+        }
+        return declaration.substring(start, position);
+    }
+
+    private String parseValue() {
+        if (peek()=='"') {
+            return parseQuotedValue();
+        }
+        int start=position;
+        while (position<length) {
+            char c=declaration.charAt(position);
+            if (c==',' || (c==')' && position==length-1)) {
+                break;
+            }
+            if (c<0x20 || c>0x7e || c=='"') {
+                throw error("illegal character in value");
+            }
+            position++;
+        }
+        return declaration.substring(start, position);
+    }
+
+    private String parseQuotedValue() {
+        position++;
+        StringBuilder value=null;
+        int start=position;
+        while (position<length) {
+            char c=declaration.charAt(position);
+            if (c=='"') {
+                String result=value==null?declaration.substring(start, position):value.append(declaration, start, position).toString();
+                position++;
+                return result;
+            }
+            if (c=='\\') {
+                if (value==null) {
+                    value=new StringBuilder();
+                }
+                value.append(declaration, start, position);
+                position++;
+                if (position>=length) {
+                    break;
+                }
+                char escaped=peek();
+                if (escaped!='"' && escaped!='\\') {
+                    throw error("illegal escape in quoted value");
+                }
+                start=position;
+                position++;
+            } else if (Character.isISOControl(c)) {
+                throw error("illegal character in quoted value");
+            } else {
+                position++;
+            }
+        }
+        throw error("unterminated quoted value");
+    }
+
+    private char peek() {
+        return position<length?declaration.charAt(position):'\0';
+    }
+
+    private void expect(char c) {
+        if (peek()!=c) {
+            throw error("expected '"+c+"'");
+        }
+        position++;
+    }
+
+    private static boolean isWordCharacter(char c) {
+        return (c>='a' && c<='z') || (c>='A' && c<='Z') || (c>='0' && c<='9') || c=='_';
+    }
+
+    private ClockDeclarationSyntaxException error(String reason) {
+        return new ClockDeclarationSyntaxException(reason, declaration, position);
+    }
+}
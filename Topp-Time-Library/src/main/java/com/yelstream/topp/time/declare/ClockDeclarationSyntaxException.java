@@ -0,0 +1,41 @@
+package com.yelstream.topp.time.declare;
+
+import lombok.Getter;
+
+/**
+ * <p>
+ *   Thrown to indicate a syntax error within a clock declaration.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ClockDeclarationSyntaxException extends IllegalArgumentException {
+    private static final long serialVersionUID=1L;
+
+    /**
+     * Clock declaration.
+     */
+    @Getter
+    private final String declaration;
+
+    /**
+     * Position of the character in error, counting from zero.
+     */
+    @Getter
+    private final int position;
+
+    /**
+     * Constructor.
+     * @param reason Reason of the error.
+     * @param declaration Clock declaration.
+     * @param position Position of the character in error, counting from zero.
+     */
+    public ClockDeclarationSyntaxException(String reason,
+                                           String declaration,
+                                           int position) {
+        super(String.format("Failure to parse; %s at position %d, clock declaration is %s!",reason,position,declaration));
+        this.declaration=declaration;
+        this.position=position;
+    }
+}
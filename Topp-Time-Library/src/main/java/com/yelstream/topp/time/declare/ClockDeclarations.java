@@ -39,11 +39,11 @@ public class ClockDeclarations {
         ClockDeclaration clockDeclaration=null;
         String clockSystemPropertyName=clockDeclarationName == null ? CLOCK_SYSTEM_PROPERTY_NAME_PREFIX : CLOCK_SYSTEM_PROPERTY_NAME_PREFIX + "." + clockDeclarationName;
         String declaration=System.getProperty(clockSystemPropertyName);
-        log.info(String.format("Getting clock declaration; declaration read from system property %s is %s!", clockSystemPropertyName, declaration));
+        log.debug("Getting clock declaration; declaration read from system property {} is {}.", clockSystemPropertyName, declaration);
         if (declaration == null) {
             String clockEnvironmentVariableName=clockDeclarationName == null ? CLOCK_ENVIRONMENT_VARIABLE_NAME_PREFIX : CLOCK_ENVIRONMENT_VARIABLE_NAME_PREFIX + "." + clockDeclarationName;
             declaration=System.getenv(clockEnvironmentVariableName);
-            log.info(String.format("Getting clock declaration; declaration read from environment variable %s is %s!", clockEnvironmentVariableName, declaration));
+            log.debug("Getting clock declaration; declaration read from environment variable {} is {}.", clockEnvironmentVariableName, declaration);
         }
         if (declaration!=null) {
             declaration=declaration.trim();
@@ -0,0 +1,68 @@
+package com.yelstream.topp.time.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * <p>
+ *   Flight recorder event of the adjustment of an adjustable clock.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Name(ClockAdjustmentEvent.NAME)
+@Label("Clock Adjustment")
+@Category({"Topp Time", "Clock"})
+@Description("Adjustment of the timeline of an adjustable clock")
+@Enabled(false)
+public final class ClockAdjustmentEvent extends Event {
+    /**
+     * Name of the event.
+     */
+    public static final String NAME="com.yelstream.topp.time.ClockAdjustment";
+
+    @Label("Clock")
+    String clock;
+
+    @Label("Previous Adjustment")
+    String previousAdjustment;
+
+    @Label("Adjustment")
+    String adjustment;
+
+    @Label("Operator")
+    @Description("Adjustment operator applied after the adjustment, if any")
+    String operator;
+
+    @Label("Jump")
+    @Description("Change of the time read caused by the adjustment")
+    @Timespan(Timespan.NANOSECONDS)
+    long jump;
+
+    /**
+     * Sets the values of this event and commits it, if enabled.
+     * @param clock Description of the clock adjusted.
+     * @param previousAdjustment Description of the previous adjustment.
+     * @param adjustment Description of the new adjustment.
+     * @param operator Description of the adjustment operator.
+     * @param jump Change of the time read in nanoseconds.
+     */
+    public void commit(String clock,
+                       String previousAdjustment,
+                       String adjustment,
+                       String operator,
+                       long jump) {
+        this.clock=clock;
+        this.previousAdjustment=previousAdjustment;
+        this.adjustment=adjustment;
+        this.operator=operator;
+        this.jump=jump;
+        commit();
+    }
+}
@@ -0,0 +1,52 @@
+package com.yelstream.topp.time.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.time.Clock;
+
+/**
+ * <p>
+ *   Flight recorder event of the creation of a clock from a clock configuration.
+ *   The duration of the event is the duration of the creation.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Name(ClockCreationEvent.NAME)
+@Label("Clock Creation")
+@Category({"Topp Time", "Clock"})
+@Description("Creation of a clock from a clock configuration")
+@Enabled(false)
+public final class ClockCreationEvent extends Event {
+    /**
+     * Name of the event.
+     */
+    public static final String NAME="com.yelstream.topp.time.ClockCreation";
+
+    @Label("Origin")
+    String origin;
+
+    @Label("Clock")
+    String clock;
+
+    /**
+     * Ends this event, sets its values and commits it, if enabled and within the threshold of the recording.
+     * @param origin Origin of the clock.
+     * @param clock Clock created.
+     */
+    public void commit(String origin,
+                       Clock clock) {
+        end();
+        if (shouldCommit()) {
+            this.origin=origin;
+            this.clock=clock.toString();
+            commit();
+        }
+    }
+}
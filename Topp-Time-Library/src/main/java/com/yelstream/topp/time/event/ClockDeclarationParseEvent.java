@@ -0,0 +1,50 @@
+package com.yelstream.topp.time.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * <p>
+ *   Flight recorder event of the parsing of a clock declaration.
+ *   The duration of the event is the duration of the parsing.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Name(ClockDeclarationParseEvent.NAME)
+@Label("Clock Declaration Parse")
+@Category({"Topp Time", "Clock"})
+@Description("Parsing of a textual clock declaration into a clock configuration")
+@Enabled(false)
+public final class ClockDeclarationParseEvent extends Event {
+    /**
+     * Name of the event.
+     */
+    public static final String NAME="com.yelstream.topp.time.ClockDeclarationParse";
+
+    @Label("Declaration")
+    String declaration;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    /**
+     * Ends this event, sets its values and commits it, if enabled and within the threshold of the recording.
+     * @param declaration Clock declaration.
+     * @param succeeded Indicates if the declaration was parsed.
+     */
+    public void commit(String declaration,
+                       boolean succeeded) {
+        end();
+        if (shouldCommit()) {
+            this.declaration=declaration;
+            this.succeeded=succeeded;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.yelstream.topp.time.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * <p>
+ *   Flight recorder event of a read of a metered clock taking longer than a threshold.
+ *   The threshold is set by the recording, e.g. {@code com.yelstream.topp.time.SlowClockRead#threshold=100 us}.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Name(SlowClockReadEvent.NAME)
+@Label("Slow Clock Read")
+@Category({"Topp Time", "Clock"})
+@Description("Read of a metered clock taking longer than the threshold")
+@Enabled(false)
+@Threshold("1 ms")
+public final class SlowClockReadEvent extends Event {
+    /**
+     * Name of the event.
+     */
+    public static final String NAME="com.yelstream.topp.time.SlowClockRead";
+
+    @Label("Clock")
+    String clock;
+
+    @Label("Method")
+    String method;
+
+    /**
+     * Ends this event, sets its values and commits it, if enabled and beyond the threshold of the recording.
+     * @param clock Name of the clock read.
+     * @param method Name of the method reading.
+     */
+    public void commit(String clock,
+                       String method) {
+        end();
+        if (shouldCommit()) {
+            this.clock=clock;
+            this.method=method;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+/**
+ * <p>
+ *     Flight recording of timelines.
+ * </p>
+ * <p>
+ *     This addresses JDK Flight Recorder events for the adjustment, creation and reading of {@link java.time.Clock} instances.
+ *     All events are disabled by default and cost next to nothing until enabled within a recording.
+ * </p>
+ */
+package com.yelstream.topp.time.event;
@@ -0,0 +1,241 @@
+package com.yelstream.topp.time.metric;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ *   Metrics of a metered clock.
+ * </p>
+ * <p>
+ *   Counts are kept in striped {@link LongAdder} instances, so counting scales with the number of threads reading.
+ *   Latencies are kept in a {@link LatencyHistogram}.
+ * </p>
+ * <p>
+ *   Metrics acquired by {@link #acquire(String)} are shared by all holders of the same name.
+ *   They are published through JMX when first acquired and withdrawn when released by the last holder,
+ *   so clocks created anew under the same name keep adding to the same counts.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+public final class ClockMetrics implements ClockMetricsMXBean {
+    /**
+     * Domain of the names of published metrics.
+     */
+    public static final String OBJECT_NAME_DOMAIN="com.yelstream.topp.time";
+
+    /**
+     * Metrics acquired and not yet released by all holders, by name.
+     */
+    private static final Map<String,ClockMetrics> ACQUIRED_METRICS=new HashMap<>();
+
+    @Getter
+    private final String name;
+
+    @Getter
+    private final ObjectName objectName;
+
+    private final LongAdder instantCount=new LongAdder();
+    private final LongAdder millisCount=new LongAdder();
+    private final LongAdder epochNanosCount=new LongAdder();
+    private final LongAdder withZoneCount=new LongAdder();
+    private final LongAdder adjustmentCount=new LongAdder();
+
+    /**
+     * Latencies of reads sampled.
+     */
+    @Getter
+    private final LatencyHistogram readLatencyHistogram=new LatencyHistogram();
+
+    /**
+     * Number of holders having acquired these metrics and not yet released them.
+     * This is guarded by {@link #ACQUIRED_METRICS}.
+     */
+    private int holderCount;
+
+    /**
+     * Constructor.
+     * @param name Name of the clock.
+     */
+    public ClockMetrics(String name) {
+        this.name=name;
+        this.objectName=createObjectName(name);
+    }
+
+    private static ObjectName createObjectName(String name) {
+        try {
+            return new ObjectName(OBJECT_NAME_DOMAIN+":type=Clock,name="+ObjectName.quote(name));
+        } catch (MalformedObjectNameException ex) {
+            throw new IllegalArgumentException(String.format("Failure to create metrics; name is not valid, name is %s!",name), ex);
+        }
+    }
+
+    /**
+     * Acquires the metrics of a name, publishing them through the platform MBean server if not already acquired.
+     * Each call must be matched by a call of {@link #release()}.
+     * @param name Name of the clock.
+     * @return Metrics shared by all holders of the name.
+     */
+    public static ClockMetrics acquire(String name) {
+        synchronized (ACQUIRED_METRICS) {
+            ClockMetrics metrics=ACQUIRED_METRICS.get(name);
+            if (metrics==null) {
+                metrics=new ClockMetrics(name);
+                metrics.register();
+                ACQUIRED_METRICS.put(name, metrics);
+            }
+            metrics.holderCount++;
+            return metrics;
+        }
+    }
+
+    /**
+     * Releases metrics acquired by {@link #acquire(String)}.
+     * The metrics are withdrawn from the platform MBean server when released by the last holder.
+     */
+    public void release() {
+        synchronized (ACQUIRED_METRICS) {
+            if (holderCount==0) {
+                throw new IllegalStateException(String.format("Failure to release clock metrics; metrics are not acquired, name is %s!",name));
+            }
+            holderCount--;
+            if (holderCount==0) {
+                ACQUIRED_METRICS.remove(name, this);
+                unregister();
+            }
+        }
+    }
+
+    void countInstant() {
+        instantCount.increment();
+    }
+
+    void countMillis() {
+        millisCount.increment();
+    }
+
+    void countEpochNanos() {
+        epochNanosCount.increment();
+    }
+
+    void countWithZone() {
+        withZoneCount.increment();
+    }
+
+    void countAdjustment() {
+        adjustmentCount.increment();
+    }
+
+    /**
+     * Publishes these metrics through the platform MBean server.
+     * Metrics already published under the same name are kept.
+     */
+    public void register() {
+        MBeanServer server=ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.registerMBean(this, objectName);
+        } catch (InstanceAlreadyExistsException ex) {
+            log.warn("Failure to publish clock metrics; name is already published, name is {}!", objectName);
+        } catch (JMException ex) {
+            log.warn("Failure to publish clock metrics; name is {}!", objectName, ex);
+        }
+    }
+
+    /**
+     * Withdraws these metrics from the platform MBean server.
+     */
+    public void unregister() {
+        MBeanServer server=ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(objectName);
+        } catch (InstanceNotFoundException ex) {
+            log.debug("Clock metrics not published; name is {}.", objectName);
+        } catch (JMException ex) {
+            log.warn("Failure to withdraw clock metrics; name is {}!", objectName, ex);
+        }
+    }
+
+    @Override
+    public long getInstantCount() {
+        return instantCount.sum();
+    }
+
+    @Override
+    public long getMillisCount() {
+        return millisCount.sum();
+    }
+
+    @Override
+    public long getEpochNanosCount() {
+        return epochNanosCount.sum();
+    }
+
+    @Override
+    public long getReadCount() {
+        return getInstantCount()+getMillisCount()+getEpochNanosCount();
+    }
+
+    @Override
+    public long getWithZoneCount() {
+        return withZoneCount.sum();
+    }
+
+    @Override
+    public long getAdjustmentCount() {
+        return adjustmentCount.sum();
+    }
+
+    @Override
+    public long getReadLatencySampleCount() {
+        return readLatencyHistogram.getCount();
+    }
+
+    @Override
+    public double getReadLatencyMeanNanos() {
+        return readLatencyHistogram.getMean();
+    }
+
+    @Override
+    public long getReadLatency50thPercentileNanos() {
+        return readLatencyHistogram.getValueAtPercentile(50.0);
+    }
+
+    @Override
+    public long getReadLatency99thPercentileNanos() {
+        return readLatencyHistogram.getValueAtPercentile(99.0);
+    }
+
+    @Override
+    public long getReadLatency999thPercentileNanos() {
+        return readLatencyHistogram.getValueAtPercentile(99.9);
+    }
+
+    @Override
+    public long getReadLatencyMaxNanos() {
+        return readLatencyHistogram.getMax();
+    }
+
+    @Override
+    public void reset() {
+        instantCount.reset();
+        millisCount.reset();
+        epochNanosCount.reset();
+        withZoneCount.reset();
+        adjustmentCount.reset();
+        readLatencyHistogram.reset();
+    }
+}
@@ -0,0 +1,94 @@
+package com.yelstream.topp.time.metric;
+
+/**
+ * <p>
+ *   Management interface of the metrics of a metered clock.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface ClockMetricsMXBean {
+    /**
+     * Gets the name of the clock.
+     * @return Name of the clock.
+     */
+    String getName();
+
+    /**
+     * Gets the number of reads of instants.
+     * @return Number of reads.
+     */
+    long getInstantCount();
+
+    /**
+     * Gets the number of reads of milliseconds since the epoch.
+     * @return Number of reads.
+     */
+    long getMillisCount();
+
+    /**
+     * Gets the number of reads of nanoseconds since the epoch.
+     * @return Number of reads.
+     */
+    long getEpochNanosCount();
+
+    /**
+     * Gets the number of reads of any kind.
+     * @return Number of reads.
+     */
+    long getReadCount();
+
+    /**
+     * Gets the number of clocks derived in other zones.
+     * @return Number of clocks derived.
+     */
+    long getWithZoneCount();
+
+    /**
+     * Gets the number of adjustments of adjustable clocks read through the clock.
+     * @return Number of adjustments.
+     */
+    long getAdjustmentCount();
+
+    /**
+     * Gets the number of reads sampled for latency.
+     * @return Number of reads sampled.
+     */
+    long getReadLatencySampleCount();
+
+    /**
+     * Gets the mean latency of reads sampled.
+     * @return Mean latency in nanoseconds.
+     */
+    double getReadLatencyMeanNanos();
+
+    /**
+     * Gets the median latency of reads sampled.
+     * @return Latency in nanoseconds.
+     */
+    long getReadLatency50thPercentileNanos();
+
+    /**
+     * Gets the 99th percentile of latencies of reads sampled.
+     * @return Latency in nanoseconds.
+     */
+    long getReadLatency99thPercentileNanos();
+
+    /**
+     * Gets the 99.9th percentile of latencies of reads sampled.
+     * @return Latency in nanoseconds.
+     */
+    long getReadLatency999thPercentileNanos();
+
+    /**
+     * Gets the largest latency of reads sampled.
+     * @return Latency in nanoseconds.
+     */
+    long getReadLatencyMaxNanos();
+
+    /**
+     * Clears all metrics.
+     */
+    void reset();
+}
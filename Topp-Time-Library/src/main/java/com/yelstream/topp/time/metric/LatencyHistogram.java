@@ -0,0 +1,138 @@
+package com.yelstream.topp.time.metric;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ *   Lock-free histogram of latencies in nanoseconds.
+ * </p>
+ * <p>
+ *   Values are counted in log-linear buckets in the style of HDR histograms.
+ *   Each power of two is split into {@value #SUB_BUCKET_COUNT} linear sub-buckets, so values are resolved with a relative error of at most {@code 1/}{@value #SUB_BUCKET_COUNT}.
+ *   Values below {@value #SUB_BUCKET_COUNT} are counted exactly.
+ * </p>
+ * <p>
+ *   Recording is wait-free and may be done by any number of threads.
+ *   Reading while recording gives an approximate view.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS=4;
+
+    /**
+     * Number of linear sub-buckets per power of two.
+     */
+    public static final int SUB_BUCKET_COUNT=1<<SUB_BUCKET_BITS;
+
+    private static final int BUCKET_COUNT=(Long.SIZE-SUB_BUCKET_BITS+1)*SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts=new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count=new LongAdder();
+    private final LongAdder sum=new LongAdder();
+    private final LongAccumulator max=new LongAccumulator(Math::max, 0L);
+
+    static int getBucketIndex(long value) {
+        if (value<SUB_BUCKET_COUNT) {
+            return (int)value;
+        }
+        int exponent=Long.SIZE-1-Long.numberOfLeadingZeros(value);
+        int subBucket=(int)(value>>>(exponent-SUB_BUCKET_BITS))&(SUB_BUCKET_COUNT-1);
+        return (exponent-SUB_BUCKET_BITS+1)*SUB_BUCKET_COUNT+subBucket;
+    }
+
+    static long getBucketUpperBound(int index) {
+        if (index<SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int exponent=index/SUB_BUCKET_COUNT+SUB_BUCKET_BITS-1;
+        long subBucket=index%SUB_BUCKET_COUNT;
+        long lowerBound=(SUB_BUCKET_COUNT+subBucket)<<(exponent-SUB_BUCKET_BITS);
+        long width=1L<<(exponent-SUB_BUCKET_BITS);
+        long upperBound=lowerBound+width-1L;
+        return upperBound<lowerBound?Long.MAX_VALUE:upperBound;
+    }
+
+    /**
+     * Records a value.
+     * @param nanos Value in nanoseconds.
+     *              Negative values are recorded as zero.
+     */
+    public void record(long nanos) {
+        long value=Math.max(0L, nanos);
+        counts.incrementAndGet(getBucketIndex(value));
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Gets the number of values recorded.
+     * @return Number of values.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Gets the largest value recorded.
+     * @return Largest value.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Gets the mean of the values recorded.
+     * @return Mean.
+     */
+    public double getMean() {
+        long n=count.sum();
+        return n==0L?0.0:(double)sum.sum()/n;
+    }
+
+    /**
+     * Gets a percentile of the values recorded.
+     * The value returned is the upper bound of the bucket holding the percentile, but no larger than the largest value recorded.
+     * @param percentile Percentile in the range from 0 to 100.
+     * @return Value at the percentile.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile<0.0 || percentile>100.0) {
+            throw new IllegalArgumentException(String.format("Failure to get percentile; percentile must be within 0 and 100, percentile is %s!",percentile));
+        }
+        long total=0L;
+        for (int i=0; i<BUCKET_COUNT; i++) {
+            total+=counts.get(i);
+        }
+        if (total==0L) {
+            return 0L;
+        }
+        long rank=Math.max(1L, (long)Math.ceil(percentile/100.0*total));
+        long cumulative=0L;
+        for (int i=0; i<BUCKET_COUNT; i++) {
+            cumulative+=counts.get(i);
+            if (cumulative>=rank) {
+                return Math.min(getBucketUpperBound(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Clears all values recorded.
+     * Values recorded concurrently may be partially lost.
+     */
+    public void reset() {
+        for (int i=0; i<BUCKET_COUNT; i++) {
+            counts.set(i, 0L);
+        }
+        count.reset();
+        sum.reset();
+        max.reset();
+    }
+}
@@ -0,0 +1,206 @@
+package com.yelstream.topp.time.metric;
+
+import com.yelstream.topp.time.AbstractProxyClock;
+import com.yelstream.topp.time.AdjustableClock;
+import com.yelstream.topp.time.ClockChains;
+import com.yelstream.topp.time.EpochNanos;
+import com.yelstream.topp.time.event.SlowClockReadEvent;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.InstantSource;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ *   Clock counting the reads of a reference clock and sampling the latency of the reads.
+ * </p>
+ * <p>
+ *   Reads are counted on every call.
+ *   The latency of one in {@value #DEFAULT_SAMPLE_INTERVAL} reads is sampled by default.
+ *   Adjustments of adjustable clocks within the chain of the reference clock are counted as well.
+ * </p>
+ * <p>
+ *   Reads taking longer than a threshold are recorded as {@link SlowClockReadEvent} when enabled in a flight recording.
+ * </p>
+ * <p>
+ *   Clocks returned by {@link #withZone(ZoneId)} share the metrics of this clock.
+ *   Clocks created by {@link #of(String, Clock)} share the metrics of their name, published through JMX until the last of them is closed.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ToString(onlyExplicitlyIncluded=true)
+public class MeteredClock extends AbstractProxyClock implements AutoCloseable {
+    /**
+     * Default number of reads per sample of latency.
+     */
+    public static final int DEFAULT_SAMPLE_INTERVAL=64;
+
+    private static final String UNNAMED_PREFIX="unnamed-";
+
+    private static final AtomicLong UNNAMED_SEQUENCE=new AtomicLong();
+
+    @Getter
+    @ToString.Include
+    private final Clock clock;
+
+    /**
+     * Metrics of reads.
+     */
+    @Getter
+    @ToString.Include
+    private final ClockMetrics metrics;
+
+    private final int sampleMask;
+
+    private final List<AdjustableClock> adjustableClocks;
+
+    private final AdjustableClock.AdjustmentListener adjustmentListener;
+
+    /**
+     * Indicates if the metrics are acquired by this clock and must be released when closed.
+     */
+    private final AtomicBoolean acquired;
+
+    /**
+     * Constructor.
+     * Metrics are not published.
+     * @param clock Reference clock.
+     * @param metrics Metrics of reads.
+     * @param sampleInterval Number of reads per sample of latency.
+     *                       This must be a power of two.
+     */
+    public MeteredClock(Clock clock,
+                        ClockMetrics metrics,
+                        int sampleInterval) {
+        if (sampleInterval<=0 || Integer.bitCount(sampleInterval)!=1) {
+            throw new IllegalArgumentException(String.format("Failure to create metered clock; sample interval must be a power of two, sample interval is %d!",sampleInterval));
+        }
+        this.clock=clock;
+        this.metrics=metrics;
+        this.sampleMask=sampleInterval-1;
+        this.acquired=new AtomicBoolean();
+        this.adjustmentListener=(adjustableClock, previousAdjustment, adjustment)->metrics.countAdjustment();
+        this.adjustableClocks=new ArrayList<>();
+        for (InstantSource source: ClockChains.getChain(clock)) {
+            if (source instanceof AdjustableClock adjustableClock) {
+                adjustableClock.addAdjustmentListener(adjustmentListener);
+                adjustableClocks.add(adjustableClock);
+            }
+        }
+    }
+
+    private MeteredClock(MeteredClock meteredClock,
+                         Clock clock) {
+        this.clock=clock;
+        this.metrics=meteredClock.metrics;
+        this.sampleMask=meteredClock.sampleMask;
+        this.adjustmentListener=meteredClock.adjustmentListener;
+        this.adjustableClocks=List.of();
+        this.acquired=new AtomicBoolean();
+    }
+
+    /**
+     * Creates a metered clock.
+     * Clocks share the metrics acquired by {@link ClockMetrics#acquire(String)} for their name.
+     * @param name Name of the clock.
+     *             If this is {@code null} or empty, then a unique name is generated.
+     * @param clock Reference clock.
+     * @return Created clock.
+     */
+    public static MeteredClock of(String name,
+                                  Clock clock) {
+        if (name==null || name.isEmpty()) {
+            name=UNNAMED_PREFIX+UNNAMED_SEQUENCE.incrementAndGet();
+        }
+        MeteredClock meteredClock=new MeteredClock(clock, ClockMetrics.acquire(name), DEFAULT_SAMPLE_INTERVAL);
+        meteredClock.acquired.set(true);
+        return meteredClock;
+    }
+
+    private boolean sample() {
+        return (ThreadLocalRandom.current().nextInt()&sampleMask)==0;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        metrics.countWithZone();
+        if (zone.equals(getZone())) {
+            return this;
+        }
+        return new MeteredClock(this, clock.withZone(zone));
+    }
+
+    @Override
+    public Instant instant() {
+        metrics.countInstant();
+        SlowClockReadEvent event=new SlowClockReadEvent();
+        event.begin();
+        Instant instant;
+        if (sample()) {
+            long startNanoTime=System.nanoTime();
+            instant=clock.instant();
+            metrics.getReadLatencyHistogram().record(System.nanoTime()-startNanoTime);
+        } else {
+            instant=clock.instant();
+        }
+        event.commit(metrics.getName(), "instant");
+        return instant;
+    }
+
+    @Override
+    public long millis() {
+        metrics.countMillis();
+        SlowClockReadEvent event=new SlowClockReadEvent();
+        event.begin();
+        long millis;
+        if (sample()) {
+            long startNanoTime=System.nanoTime();
+            millis=clock.millis();
+            metrics.getReadLatencyHistogram().record(System.nanoTime()-startNanoTime);
+        } else {
+            millis=clock.millis();
+        }
+        event.commit(metrics.getName(), "millis");
+        return millis;
+    }
+
+    @Override
+    public long epochNanos() {
+        metrics.countEpochNanos();
+        SlowClockReadEvent event=new SlowClockReadEvent();
+        event.begin();
+        long epochNanos;
+        if (sample()) {
+            long startNanoTime=System.nanoTime();
+            epochNanos=EpochNanos.of(clock);
+            metrics.getReadLatencyHistogram().record(System.nanoTime()-startNanoTime);
+        } else {
+            epochNanos=EpochNanos.of(clock);
+        }
+        event.commit(metrics.getName(), "epochNanos");
+        return epochNanos;
+    }
+
+    /**
+     * Stops counting adjustments and releases the metrics acquired by {@link #of(String, Clock)}.
+     */
+    @Override
+    public void close() {
+        for (AdjustableClock adjustableClock: adjustableClocks) {
+            adjustableClock.removeAdjustmentListener(adjustmentListener);
+        }
+        if (acquired.compareAndSet(true, false)) {
+            metrics.release();
+        }
+    }
+}
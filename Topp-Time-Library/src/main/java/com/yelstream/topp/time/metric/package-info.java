@@ -0,0 +1,9 @@
+/**
+ * <p>
+ *     Metering of timelines.
+ * </p>
+ * <p>
+ *     This addresses counts and latencies of reading {@link java.time.Clock} instances, published through JMX.
+ * </p>
+ */
+package com.yelstream.topp.time.metric;
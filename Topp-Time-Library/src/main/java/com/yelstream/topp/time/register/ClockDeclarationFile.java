@@ -0,0 +1,204 @@
+package com.yelstream.topp.time.register;
+
+import com.yelstream.topp.time.declare.ClockDeclaration;
+import com.yelstream.topp.time.declare.ClockDeclarations;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Clock;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * <p>
+ *   Properties file of clock declarations keeping the clocks of a {@link ClockRegister} up to date.
+ * </p>
+ * <p>
+ *   Entries of the form {@code clock.<name>=<declaration>} define the clock registered by the name {@code <name>}.
+ *   The file is watched for changes by a {@link WatchService}.
+ *   On change, only entries with a changed declaration are parsed, and the new clocks are swapped in behind the existing handles of the register.
+ *   Clocks of entries removed from the file are refreshed by the clock factory of the register.
+ *   Entries failing to parse are logged and leave the current clock in place.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+public class ClockDeclarationFile implements AutoCloseable {
+    /**
+     * Prefix for the names of properties holding clock declarations.
+     */
+    public static final String CLOCK_PROPERTY_NAME_PREFIX=ClockDeclarations.CLOCK_SYSTEM_PROPERTY_NAME_PREFIX+".";
+
+    /**
+     * Path of the file.
+     */
+    @Getter
+    private final Path path;
+
+    /**
+     * Register of the clocks declared.
+     */
+    @Getter
+    private final ClockRegister register;
+
+    private volatile Map<String,String> declarationMap=Collections.emptyMap();
+
+    private WatchService watchService;
+
+    /**
+     * Constructor.
+     * The file is neither read nor watched until {@link #reload()} or {@link #watch()} is called.
+     * @param path Path of the file.
+     * @param register Register of the clocks declared.
+     */
+    public ClockDeclarationFile(Path path,
+                                ClockRegister register) {
+        this.path=path.toAbsolutePath();
+        this.register=register;
+    }
+
+    /**
+     * Reads a file of clock declarations into a register and keeps watching the file for changes.
+     * @param path Path of the file.
+     * @param register Register of the clocks declared.
+     * @return File of clock declarations.
+     * @throws IOException Thrown in case of I/O error.
+     */
+    public static ClockDeclarationFile watch(Path path,
+                                             ClockRegister register) throws IOException {
+        ClockDeclarationFile file=new ClockDeclarationFile(path, register);
+        file.reload();
+        file.watch();
+        return file;
+    }
+
+    /**
+     * Gets the clock declarations currently applied, by clock name.
+     * @return Clock declarations.
+     */
+    public Map<String,String> getDeclarations() {
+        return declarationMap;
+    }
+
+    private Map<String,String> readDeclarations() throws IOException {
+        Properties properties=new Properties();
+        try (Reader reader=Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        Map<String,String> map=new HashMap<>();
+        for (String propertyName: properties.stringPropertyNames()) {
+            if (propertyName.startsWith(CLOCK_PROPERTY_NAME_PREFIX) && propertyName.length()>CLOCK_PROPERTY_NAME_PREFIX.length()) {
+                String name=propertyName.substring(CLOCK_PROPERTY_NAME_PREFIX.length());
+                map.put(name, properties.getProperty(propertyName).trim());
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Reads the file and applies the changed clock declarations to the register.
+     * @throws IOException Thrown in case of I/O error.
+     */
+    public synchronized void reload() throws IOException {
+        Map<String,String> oldDeclarationMap=declarationMap;
+        Map<String,String> newDeclarationMap=readDeclarations();
+        Map<String,String> appliedDeclarationMap=new HashMap<>(newDeclarationMap);
+        for (Map.Entry<String,String> entry: newDeclarationMap.entrySet()) {
+            String name=entry.getKey();
+            String declaration=entry.getValue();
+            String oldDeclaration=oldDeclarationMap.get(name);
+            if (!declaration.equals(oldDeclaration)) {
+                try {
+                    Clock clock=new ClockDeclaration(declaration).toClock();
+                    register.setClock(name, clock);
+                    log.debug("Clock {} declared by file {} set from declaration {}.", name, path, declaration);
+                } catch (RuntimeException ex) {
+                    log.warn("Failure to apply clock declaration; clock is {}, declaration is {}, file is {}!", name, declaration, path, ex);
+                    if (oldDeclaration==null) {
+                        appliedDeclarationMap.remove(name);
+                    } else {
+                        appliedDeclarationMap.put(name, oldDeclaration);
+                    }
+                }
+            }
+        }
+        for (String name: oldDeclarationMap.keySet()) {
+            if (!newDeclarationMap.containsKey(name)) {
+                register.refreshClock(name);
+                log.debug("Clock {} no longer declared by file {} refreshed.", name, path);
+            }
+        }
+        declarationMap=Collections.unmodifiableMap(appliedDeclarationMap);
+    }
+
+    /**
+     * Starts watching the file for changes.
+     * Changes are applied by a daemon thread until this is closed.
+     * @throws IOException Thrown in case of I/O error.
+     */
+    public synchronized void watch() throws IOException {
+        if (watchService!=null) {
+            return;
+        }
+        Path directory=path.getParent();
+        watchService=directory.getFileSystem().newWatchService();
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        WatchService service=watchService;
+        Thread thread=new Thread(()->processEvents(service), "topp-time-clock-declaration-file-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void processEvents(WatchService service) {
+        Path fileName=path.getFileName();
+        try {
+            while (true) {
+                WatchKey key=service.take();
+                boolean changed=false;
+                for (WatchEvent<?> event: key.pollEvents()) {
+                    if (event.kind()==StandardWatchEventKinds.OVERFLOW || fileName.equals(event.context())) {
+                        changed=true;
+                    }
+                }
+                key.reset();
+                if (changed && Files.exists(path)) {
+                    try {
+                        reload();
+                    } catch (IOException | RuntimeException ex) {
+                        log.warn("Failure to reload clock declarations; file is {}!", path, ex);
+                    }
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException ex) {
+            log.debug("Stopped watching clock declarations; file is {}.", path);
+        }
+    }
+
+    /**
+     * Stops watching the file for changes.
+     * @throws IOException Thrown in case of I/O error.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (watchService!=null) {
+            watchService.close();
+            watchService=null;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.yelstream.topp.time.register;
+
+import com.yelstream.topp.time.AbstractProxyClock;
+import lombok.Getter;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Clock;
+
+/**
+ * <p>
+ *   Stable handle to a named clock within a {@link ClockRegister}.
+ * </p>
+ * <p>
+ *   The clock behind the handle may be replaced atomically.
+ *   Holders of the handle see the replacement on their next read without looking up the clock again.
+ * </p>
+ * <p>
+ *   Note that {@link #withZone(java.time.ZoneId)} returns a clock derived from the current clock and is not affected by later replacements.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class ClockHandle extends AbstractProxyClock {
+    private static final VarHandle CLOCK;
+
+    static {
+        try {
+            CLOCK=MethodHandles.lookup().findVarHandle(ClockHandle.class, "clock", Clock.class);
+        } catch (ReflectiveOperationException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    /**
+     * Name of the clock.
+     */
+    @Getter
+    private final String name;
+
+    @SuppressWarnings("FieldMayBeFinal")
+    private volatile Clock clock;
+
+    /**
+     * Constructor.
+     * @param name Name of the clock.
+     * @param clock Initial clock.
+     */
+    ClockHandle(String name,
+                Clock clock) {
+        this.name=name;
+        this.clock=clock;
+    }
+
+    /**
+     * Gets the current clock behind this handle.
+     * @return Current clock.
+     */
+    @Override
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Replaces the clock behind this handle.
+     * @param clock New clock.
+     * @return Previous clock.
+     */
+    public Clock swap(Clock clock) {
+        if (clock==null) {
+            throw new IllegalArgumentException(String.format("Failure to swap clock; clock is null, name is %s!",name));
+        }
+        return (Clock)CLOCK.getAndSet(this, clock);
+    }
+
+    /**
+     * Replaces the clock behind this handle if the current clock is an expected instance.
+     * @param expectedClock Expected current clock.
+     * @param clock New clock.
+     * @return Indicates if the clock was replaced.
+     */
+    public boolean compareAndSwap(Clock expectedClock,
+                                  Clock clock) {
+        if (clock==null) {
+            throw new IllegalArgumentException(String.format("Failure to swap clock; clock is null, name is %s!",name));
+        }
+        return CLOCK.compareAndSet(this, expectedClock, clock);
+    }
+
+    @Override
+    public String toString() {
+        return "ClockHandle(name="+name+", clock="+clock+")";
+    }
+}
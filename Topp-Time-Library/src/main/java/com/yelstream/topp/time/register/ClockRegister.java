@@ -1,11 +1,164 @@
 package com.yelstream.topp.time.register;
 
+import com.yelstream.topp.time.declare.ClockDeclarations;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 
 /**
- *
+ * <p>
+ *   Register of named clocks.
+ * </p>
+ * <p>
+ *   Clocks are accessed through stable handles of type {@link ClockHandle}.
+ *   Clocks not yet registered are created on first lookup by a clock factory,
+ *   by default from the clock declarations of the environment as given by {@link ClockDeclarations}.
+ *   All lookups of the same name share the same handle and thereby the same clock.
+ * </p>
+ * <p>
+ *   Lookups of registered clocks do not lock and do not contend.
+ *   Clocks may be replaced at any time, which is seen immediately by all holders of the handle.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
  */
+@Slf4j
 public class ClockRegister {
+    private static final ClockRegister DEFAULT_INSTANCE=new ClockRegister();
+
+    private final ConcurrentMap<String,ClockHandle> handleMap=new ConcurrentHashMap<>();
+
+    private final Function<String,Clock> clockFactory;
+
+    /**
+     * Constructor.
+     * Clocks not registered are created from the clock declarations of the environment.
+     */
+    public ClockRegister() {
+        this(ClockDeclarations::getClockFromEnvironment);
+    }
+
+    /**
+     * Constructor.
+     * @param clockFactory Factory creating clocks not registered from their names.
+     *                     The factory may return {@code null} for names with no clock.
+     */
+    public ClockRegister(Function<String,Clock> clockFactory) {
+        this.clockFactory=clockFactory;
+    }
+
+    /**
+     * Gets the default register.
+     * Clocks not registered are created from the clock declarations of the environment.
+     * @return Default register.
+     */
+    public static ClockRegister getDefault() {
+        return DEFAULT_INSTANCE;
+    }
+
+    /**
+     * Gets the handle to a named clock.
+     * If the clock is not registered, then the clock is created and registered.
+     * @param name Name of the clock.
+     * @return Handle to the clock.
+     *         This is {@code null} if the clock is not registered and cannot be created.
+     */
+    public ClockHandle getClock(String name) {
+        ClockHandle handle=handleMap.get(name);
+        if (handle==null) {
+            handle=handleMap.computeIfAbsent(name, this::createHandle);
+        }
+        return handle;
+    }
+
+    private ClockHandle createHandle(String name) {
+        Clock clock=clockFactory.apply(name);
+        if (clock==null) {
+            log.debug("Failure to create clock; no clock exists, name is {}.", name);
+            return null;
+        }
+        log.debug("Registered clock {} created by factory as {}.", name, clock);
+        return new ClockHandle(name, clock);
+    }
+
+    /**
+     * Registers a named clock.
+     * If a clock with the same name is already registered, then that clock is replaced behind the existing handle.
+     * @param name Name of the clock.
+     * @param clock Clock.
+     * @return Handle to the clock.
+     */
+    public ClockHandle setClock(String name,
+                                Clock clock) {
+        if (clock==null) {
+            throw new IllegalArgumentException(String.format("Failure to register clock; clock is null, name is %s!",name));
+        }
+        ClockHandle handle=handleMap.computeIfAbsent(name, key->new ClockHandle(key, clock));
+        if (handle.getClock()!=clock) {
+            handle.swap(clock);
+        }
+        log.debug("Registered clock {} set to {}.", name, clock);
+        return handle;
+    }
+
+    /**
+     * Replaces a registered clock.
+     * @param name Name of the clock.
+     * @param clock New clock.
+     * @return Previous clock.
+     *         This is {@code null} if no clock is registered with the name, in which case nothing is replaced.
+     */
+    public Clock replaceClock(String name,
+                              Clock clock) {
+        ClockHandle handle=handleMap.get(name);
+        if (handle==null) {
+            return null;
+        }
+        return handle.swap(clock);
+    }
+
+    /**
+     * Re-creates a named clock by the clock factory and swaps it into the existing handle.
+     * If the clock is not registered, then this is the same as {@link #getClock(String)}.
+     * @param name Name of the clock.
+     * @return Handle to the clock.
+     *         This is {@code null} if the clock is not registered and cannot be created.
+     */
+    public ClockHandle refreshClock(String name) {
+        ClockHandle handle=handleMap.get(name);
+        if (handle==null) {
+            return getClock(name);
+        }
+        Clock clock=clockFactory.apply(name);
+        if (clock!=null) {
+            handle.swap(clock);
+            log.debug("Registered clock {} refreshed to {}.", name, clock);
+        }
+        return handle;
+    }
+
+    /**
+     * Removes a named clock.
+     * Existing holders of the handle keep the last clock.
+     * @param name Name of the clock.
+     * @return Handle removed.
+     *         This is {@code null} if no clock is registered with the name.
+     */
+    public ClockHandle removeClock(String name) {
+        return handleMap.remove(name);
+    }
 
-//    ConcurrentMap
+    /**
+     * Gets the names of all registered clocks.
+     * @return Names of registered clocks.
+     */
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(handleMap.keySet());
+    }
 }
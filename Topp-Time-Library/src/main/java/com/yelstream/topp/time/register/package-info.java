@@ -0,0 +1,9 @@
+/**
+ * <p>
+ *     Registration of timelines.
+ * </p>
+ * <p>
+ *     This addresses named {@link java.time.Clock} instances shared within an application.
+ * </p>
+ */
+package com.yelstream.topp.time.register;
\ No newline at end of file
@@ -0,0 +1,381 @@
+package com.yelstream.topp.time.schedule;
+
+import com.yelstream.topp.time.AdjustableClock;
+import com.yelstream.topp.time.ClockChains;
+import com.yelstream.topp.time.EpochNanos;
+import com.yelstream.topp.time.Scale;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ *   Scheduled executor service with delays and periods following the timeline of a clock.
+ * </p>
+ * <p>
+ *   Delays on the timeline are mapped to real time by the rate of the clock as found by {@link ClockChains#getRate(InstantSource)}.
+ *   E.g. a delay of one hour on a clock scaled by 3600 is a real delay of about one second.
+ *   When a task wakes up, the time of the clock is checked again and the task is re-planned if it is not yet due.
+ * </p>
+ * <p>
+ *   Pending tasks are re-planned when any {@link AdjustableClock} within the chain of the clock is adjusted.
+ *   Tasks on a timeline not moving forward wait until the timeline is adjusted.
+ * </p>
+ * <p>
+ *   Tasks are executed by a wrapped, real scheduled executor service.
+ *   The wrapped executor service is owned by this and is shut down together with this.
+ *   On shutdown, all pending scheduled tasks are cancelled.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+public class ClockScheduledExecutorService extends AbstractExecutorService implements ScheduledExecutorService {
+    /**
+     * Clock defining the timeline.
+     */
+    @Getter
+    private final Clock clock;
+
+    private final ScheduledExecutorService executor;
+
+    private final Set<TimelineTask<?>> taskSet=ConcurrentHashMap.newKeySet();
+
+    private final List<AdjustableClock> adjustableClocks=new ArrayList<>();
+
+    private final AdjustableClock.AdjustmentListener adjustmentListener=(adjustableClock, previousAdjustment, adjustment)->replan();
+
+    /**
+     * Constructor.
+     * @param clock Clock defining the timeline.
+     * @param executor Real scheduled executor service executing the tasks.
+     */
+    public ClockScheduledExecutorService(Clock clock,
+                                         ScheduledExecutorService executor) {
+        this.clock=clock;
+        this.executor=executor;
+        for (InstantSource source: ClockChains.getChain(clock)) {
+            if (source instanceof AdjustableClock adjustableClock) {
+                adjustableClock.addAdjustmentListener(adjustmentListener);
+                adjustableClocks.add(adjustableClock);
+            }
+        }
+    }
+
+    /**
+     * Constructor.
+     * @param clock Clock defining the timeline.
+     * @param corePoolSize Number of threads executing the tasks.
+     */
+    public ClockScheduledExecutorService(Clock clock,
+                                         int corePoolSize) {
+        this(clock, Executors.newScheduledThreadPool(corePoolSize));
+    }
+
+    /**
+     * Re-plans all pending tasks.
+     * This is done automatically when adjustable clocks within the chain of the clock are adjusted.
+     */
+    public void replan() {
+        for (TimelineTask<?> task: taskSet) {
+            task.plan();
+        }
+    }
+
+    private long now() {
+        return EpochNanos.of(clock);
+    }
+
+    /**
+     * Adds a delay to a time on the timeline, saturating at the bounds of the timeline instead of overflowing.
+     * @param timeNanos Time on the timeline.
+     * @param delayNanos Delay.
+     * @return Time after the delay.
+     */
+    private static long addSaturated(long timeNanos,
+                                     long delayNanos) {
+        long resultNanos=timeNanos+delayNanos;
+        if (((timeNanos^resultNanos)&(delayNanos^resultNanos))<0L) {
+            resultNanos=delayNanos<0L?Long.MIN_VALUE:Long.MAX_VALUE;
+        }
+        return resultNanos;
+    }
+
+    /**
+     * Gets the delay from a time on the timeline until another, saturating instead of overflowing.
+     * @param toNanos Time to.
+     * @param fromNanos Time from.
+     * @return Delay.
+     */
+    private static long subtractSaturated(long toNanos,
+                                          long fromNanos) {
+        long resultNanos=toNanos-fromNanos;
+        if (((toNanos^fromNanos)&(toNanos^resultNanos))<0L) {
+            resultNanos=toNanos<0L?Long.MIN_VALUE:Long.MAX_VALUE;
+        }
+        return resultNanos;
+    }
+
+    /**
+     * Gets the real delay corresponding to a delay on the timeline.
+     * @param timelineDelayNanos Delay on the timeline.
+     * @return Real delay.
+     *         This is negative if the timeline does not move forward.
+     */
+    private long getRealDelayNanos(long timelineDelayNanos) {
+        if (timelineDelayNanos<=0L) {
+            return 0L;
+        }
+        try {
+            Scale rate=ClockChains.getRate(clock);
+            if (rate.signum()<=0) {
+                return -1L;
+            }
+            long realDelayNanos=rate.inverted().applyAsLong(timelineDelayNanos);
+            return realDelayNanos==Long.MAX_VALUE?realDelayNanos:realDelayNanos+1L;
+        } catch (ArithmeticException ex) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private <V> TimelineTask<V> start(TimelineTask<V> task) {
+        if (isShutdown()) {
+            throw new RejectedExecutionException(String.format("Failure to schedule task; executor is shut down, task is %s!",task));
+        }
+        taskSet.add(task);
+        task.plan();
+        return task;
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command,
+                                       long delay,
+                                       TimeUnit unit) {
+        return start(new TimelineTask<Void>(command, null, addSaturated(now(), unit.toNanos(delay)), 0L));
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable,
+                                           long delay,
+                                           TimeUnit unit) {
+        return start(new TimelineTask<>(callable, addSaturated(now(), unit.toNanos(delay)), 0L));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command,
+                                                  long initialDelay,
+                                                  long period,
+                                                  TimeUnit unit) {
+        if (period<=0L) {
+            throw new IllegalArgumentException(String.format("Failure to schedule task; period must be positive, period is %d %s!",period,unit));
+        }
+        return start(new TimelineTask<Void>(command, null, addSaturated(now(), unit.toNanos(initialDelay)), unit.toNanos(period)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command,
+                                                     long initialDelay,
+                                                     long delay,
+                                                     TimeUnit unit) {
+        if (delay<=0L) {
+            throw new IllegalArgumentException(String.format("Failure to schedule task; delay must be positive, delay is %d %s!",delay,unit));
+        }
+        return start(new TimelineTask<Void>(command, null, addSaturated(now(), unit.toNanos(initialDelay)), -unit.toNanos(delay)));
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        executor.execute(command);
+    }
+
+    private List<Runnable> cancelTasks() {
+        for (AdjustableClock adjustableClock: adjustableClocks) {
+            adjustableClock.removeAdjustmentListener(adjustmentListener);
+        }
+        List<Runnable> pendingTasks=new ArrayList<>();
+        for (TimelineTask<?> task: taskSet) {
+            if (task.cancel(false)) {
+                pendingTasks.add(task);
+            }
+        }
+        return pendingTasks;
+    }
+
+    @Override
+    public void shutdown() {
+        executor.shutdown();
+        cancelTasks();
+    }
+
+    /**
+     * Shuts down immediately.
+     * @return Scheduled tasks never run followed by the tasks awaiting execution by the wrapped executor service.
+     *         The latter includes internal wake-ups doing nothing when run.
+     */
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> pendingTasks=new ArrayList<>(executor.shutdownNow());
+        pendingTasks.addAll(0, cancelTasks());
+        return pendingTasks;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return executor.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return executor.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout,
+                                    TimeUnit unit) throws InterruptedException {
+        return executor.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * Task scheduled on the timeline.
+     * @param <V> Type of result.
+     */
+    private final class TimelineTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+        /**
+         * Period on the timeline.
+         * This is positive for fixed-rate execution, negative for fixed-delay execution and zero for a single execution.
+         */
+        private final long periodNanos;
+
+        /**
+         * Time on the timeline at which the task is due, in epoch nanoseconds.
+         */
+        private volatile long targetNanos;
+
+        private ScheduledFuture<?> wakeFuture;
+        private long planSequence;
+        private boolean running;
+
+        private TimelineTask(Runnable runnable,
+                             V result,
+                             long targetNanos,
+                             long periodNanos) {
+            super(runnable, result);
+            this.targetNanos=targetNanos;
+            this.periodNanos=periodNanos;
+        }
+
+        private TimelineTask(Callable<V> callable,
+                             long targetNanos,
+                             long periodNanos) {
+            super(callable);
+            this.targetNanos=targetNanos;
+            this.periodNanos=periodNanos;
+        }
+
+        private synchronized void plan() {
+            if (running || isDone()) {
+                return;
+            }
+            planSequence++;
+            if (wakeFuture!=null) {
+                wakeFuture.cancel(false);
+                wakeFuture=null;
+            }
+            long realDelayNanos=getRealDelayNanos(subtractSaturated(targetNanos, now()));
+            if (realDelayNanos>=0L) {
+                long sequence=planSequence;
+                try {
+                    wakeFuture=executor.schedule(()->wake(sequence), realDelayNanos, TimeUnit.NANOSECONDS);
+                } catch (RejectedExecutionException ex) {
+                    log.debug("Task not planned, executor is shut down; task is {}.", this);
+                }
+            }
+        }
+
+        private void wake(long sequence) {
+            synchronized (this) {
+                if (sequence!=planSequence || running || isDone()) {
+                    return;
+                }
+                if (subtractSaturated(targetNanos, now())>0L) {
+                    plan();
+                    return;
+                }
+                running=true;
+                wakeFuture=null;
+            }
+            boolean rerun;
+            if (periodNanos==0L) {
+                run();
+                rerun=false;
+            } else {
+                rerun=runAndReset();
+            }
+            synchronized (this) {
+                running=false;
+                if (rerun) {
+                    targetNanos=periodNanos>0L?addSaturated(targetNanos, periodNanos):addSaturated(now(), -periodNanos);
+                    plan();
+                }
+            }
+            if (isDone()) {
+                taskSet.remove(this);
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled=super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                synchronized (this) {
+                    if (wakeFuture!=null) {
+                        wakeFuture.cancel(false);
+                        wakeFuture=null;
+                    }
+                }
+                taskSet.remove(this);
+            }
+            return cancelled;
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return periodNanos!=0L;
+        }
+
+        /**
+         * Gets the remaining delay on the timeline.
+         * @param unit Unit of time.
+         * @return Remaining delay.
+         */
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(subtractSaturated(targetNanos, now()), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other==this) {
+                return 0;
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
@@ -0,0 +1,427 @@
+package com.yelstream.topp.time.schedule;
+
+import com.yelstream.topp.time.EpochNanos;
+import com.yelstream.topp.time.build.ClockConfiguration;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * <p>
+ *   Hashed, hierarchical timer wheel following the timeline of a clock.
+ * </p>
+ * <p>
+ *   Timers are kept in intrusive, doubly-linked lists within slots of a hierarchy of wheels of {@value #SLOT_COUNT} slots each.
+ *   Each level covers {@value #SLOT_COUNT} times the span of the level below, and timers are moved down the levels as their deadline comes near.
+ * </p>
+ * <p>
+ *   Timers may be scheduled and cancelled by any thread in constant time without locking.
+ *   Scheduled and cancelled timers are queued and applied to the wheels by the next call of {@link #advance()}.
+ *   Advancing reads the clock once and expires all timers of each tick passed as a batch.
+ *   Ticks without timers are skipped, so a timeline jumping forward is handled without walking every tick.
+ * </p>
+ * <p>
+ *   Advancing should be driven periodically, e.g. by a {@link ClockScheduledExecutorService} on the same clock at a fixed rate of one tick.
+ *   Expired tasks are run by the thread advancing the wheel.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+public class TimerWheel {
+    /**
+     * Default duration of a tick.
+     */
+    public static final Duration DEFAULT_TICK_DURATION=Duration.ofMillis(1L);
+
+    /**
+     * Number of slots of each level.
+     */
+    public static final int SLOT_COUNT=64;
+
+    /**
+     * Number of levels.
+     */
+    public static final int LEVEL_COUNT=8;
+
+    private static final int SLOT_BITS=6;
+    private static final int SLOT_MASK=SLOT_COUNT-1;
+
+    /**
+     * Clock defining the timeline.
+     */
+    @Getter
+    private final Clock clock;
+
+    /**
+     * Duration of a tick.
+     */
+    @Getter
+    private final Duration tickDuration;
+
+    private final long tickNanos;
+
+    private final Queue<Timer> insertQueue=new ConcurrentLinkedQueue<>();
+    private final Queue<Timer> cancelQueue=new ConcurrentLinkedQueue<>();
+
+    /**
+     * Heads of the timer lists of all slots of all levels.
+     */
+    private final Timer[][] slots=new Timer[LEVEL_COUNT][SLOT_COUNT];
+
+    /**
+     * Number of timers within each level.
+     */
+    private final long[] levelCounts=new long[LEVEL_COUNT];
+
+    /**
+     * Last tick processed.
+     * All timers with a deadline at or before this tick have expired.
+     */
+    private long currentTick;
+
+    /**
+     * Constructor.
+     * @param clock Clock defining the timeline.
+     * @param tickDuration Duration of a tick.
+     */
+    public TimerWheel(Clock clock,
+                      Duration tickDuration) {
+        if (tickDuration.isNegative() || tickDuration.isZero()) {
+            throw new IllegalArgumentException(String.format("Failure to create timer wheel; tick duration must be positive, tick duration is %s!",tickDuration));
+        }
+        this.clock=clock;
+        this.tickDuration=tickDuration;
+        this.tickNanos=tickDuration.toNanos();
+        this.currentTick=Math.floorDiv(EpochNanos.of(clock), tickNanos);
+    }
+
+    /**
+     * Constructor.
+     * The tick is {@link #DEFAULT_TICK_DURATION}.
+     * @param clock Clock defining the timeline.
+     */
+    public TimerWheel(Clock clock) {
+        this(clock, DEFAULT_TICK_DURATION);
+    }
+
+    /**
+     * Creates a timer wheel on a clock created from a configuration.
+     * The tick of the wheel is the tick of the timeline of the clock, if any, and otherwise {@link #DEFAULT_TICK_DURATION}.
+     * @param configuration Clock configuration.
+     * @return Created timer wheel.
+     */
+    public static TimerWheel of(ClockConfiguration configuration) {
+        return new TimerWheel(configuration.toClock(), getTickDuration(configuration));
+    }
+
+    /**
+     * Gets the duration between ticks of the timeline of a clock created from a configuration.
+     * This is the tick of the base clock as scaled by the scale of the configuration.
+     * @param configuration Clock configuration.
+     * @return Duration of a tick.
+     */
+    private static Duration getTickDuration(ClockConfiguration configuration) {
+        Duration tickDuration=configuration.getTickDuration();
+        if (tickDuration==null) {
+            return DEFAULT_TICK_DURATION;
+        }
+        if (configuration.getScaleOperator()!=null) {
+            tickDuration=configuration.getScaleOperator().apply(tickDuration).abs();
+        }
+        return tickDuration.isZero()?DEFAULT_TICK_DURATION:tickDuration;
+    }
+
+    /**
+     * Schedules a task to run after a delay on the timeline.
+     * @param task Task.
+     * @param delay Delay.
+     * @return Timer.
+     */
+    public Timer schedule(Runnable task,
+                          Duration delay) {
+        long nowNanos=EpochNanos.of(clock);
+        long delayNanos=saturatedToNanos(delay);
+        long deadlineNanos=nowNanos+delayNanos;
+        if (((nowNanos^deadlineNanos)&(delayNanos^deadlineNanos))<0L) {
+            deadlineNanos=delayNanos<0L?Long.MIN_VALUE:Long.MAX_VALUE;
+        }
+        return schedule(task, deadlineNanos);
+    }
+
+    /**
+     * Schedules a task to run at a deadline on the timeline.
+     * @param task Task.
+     * @param deadline Deadline.
+     * @return Timer.
+     */
+    public Timer schedule(Runnable task,
+                          Instant deadline) {
+        return schedule(task, EpochNanos.of(deadline));
+    }
+
+    private Timer schedule(Runnable task,
+                           long deadlineNanos) {
+        if (task==null) {
+            throw new IllegalArgumentException("Failure to schedule timer; task is null!");
+        }
+        Timer timer=new Timer(this, task, deadlineNanos, ceilDiv(deadlineNanos, tickNanos));
+        insertQueue.add(timer);
+        return timer;
+    }
+
+    private static long saturatedToNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException ex) {
+            return duration.isNegative()?Long.MIN_VALUE:Long.MAX_VALUE;
+        }
+    }
+
+    private static long ceilDiv(long value,
+                                long divisor) {
+        return Math.floorDiv(value, divisor)+(Math.floorMod(value, divisor)==0L?0L:1L);
+    }
+
+    /**
+     * Advances the wheel to the current time of the clock and runs all tasks expired.
+     * @return Number of timers expired.
+     */
+    public synchronized int advance() {
+        long targetTick=Math.floorDiv(EpochNanos.of(clock), tickNanos);
+        applyCancels();
+        applyInserts();
+        List<Timer> expiredTimers=new ArrayList<>();
+        while (currentTick<targetTick) {
+            currentTick=getNextTick(targetTick);
+            processTick(currentTick, expiredTimers);
+        }
+        for (Timer timer: expiredTimers) {
+            try {
+                timer.task.run();
+            } catch (RuntimeException ex) {
+                log.warn("Failure to run timer task; task is {}!", timer.task, ex);
+            }
+        }
+        return expiredTimers.size();
+    }
+
+    /**
+     * Gets the next tick requiring processing, skipping ticks for which no level holds any timers.
+     * @param targetTick Tick advanced to.
+     * @return Next tick.
+     */
+    private long getNextTick(long targetTick) {
+        int level=0;
+        while (level<LEVEL_COUNT && levelCounts[level]==0L) {
+            level++;
+        }
+        if (level==0) {
+            return currentTick+1L;
+        }
+        if (level==LEVEL_COUNT) {
+            return targetTick;
+        }
+        int shift=SLOT_BITS*level;
+        long nextTick=((currentTick>>shift)+1L)<<shift;
+        return nextTick>currentTick && nextTick<targetTick?nextTick:targetTick;
+    }
+
+    private void processTick(long tick,
+                             List<Timer> expiredTimers) {
+        for (int level=LEVEL_COUNT-1; level>0; level--) {
+            int shift=SLOT_BITS*level;
+            if ((tick&((1L<<shift)-1L))==0L) {
+                int slot=(int)((tick>>shift)&SLOT_MASK);
+                expireOrPlace(detach(level, slot), tick, expiredTimers);
+            }
+        }
+        expireOrPlace(detach(0, (int)(tick&SLOT_MASK)), tick, expiredTimers);
+    }
+
+    /**
+     * Expires detached timers due at a tick and places the remaining timers at lower levels.
+     * Timers cascaded from higher levels may be due at the very tick cascading them.
+     * @param timer First timer of the detached list.
+     * @param tick Tick processed.
+     * @param expiredTimers Expired timers.
+     */
+    private void expireOrPlace(Timer timer,
+                               long tick,
+                               List<Timer> expiredTimers) {
+        while (timer!=null) {
+            Timer next=timer.next;
+            timer.next=null;
+            if (timer.deadlineTick<=tick) {
+                if (timer.expire()) {
+                    expiredTimers.add(timer);
+                }
+            } else {
+                place(timer);
+            }
+            timer=next;
+        }
+    }
+
+    private void applyInserts() {
+        Timer timer;
+        while ((timer=insertQueue.poll())!=null) {
+            if (timer.getState()==Timer.STATE_PENDING) {
+                place(timer);
+            }
+        }
+    }
+
+    private void applyCancels() {
+        Timer timer;
+        while ((timer=cancelQueue.poll())!=null) {
+            if (timer.level>=0) {
+                unlink(timer);
+            }
+        }
+    }
+
+    private void place(Timer timer) {
+        long deadlineTick=Math.max(timer.deadlineTick, currentTick+1L);
+        long delta=deadlineTick-currentTick;
+        int level=0;
+        while (level<LEVEL_COUNT-1 && delta>=(1L<<(SLOT_BITS*(level+1)))) {
+            level++;
+        }
+        int slot=(int)((deadlineTick>>(SLOT_BITS*level))&SLOT_MASK);
+        Timer head=slots[level][slot];
+        timer.prev=null;
+        timer.next=head;
+        if (head!=null) {
+            head.prev=timer;
+        }
+        slots[level][slot]=timer;
+        timer.level=level;
+        timer.slot=slot;
+        levelCounts[level]++;
+    }
+
+    private void unlink(Timer timer) {
+        if (timer.prev==null) {
+            slots[timer.level][timer.slot]=timer.next;
+        } else {
+            timer.prev.next=timer.next;
+        }
+        if (timer.next!=null) {
+            timer.next.prev=timer.prev;
+        }
+        levelCounts[timer.level]--;
+        timer.prev=null;
+        timer.next=null;
+        timer.level=-1;
+    }
+
+    private Timer detach(int level,
+                         int slot) {
+        Timer head=slots[level][slot];
+        slots[level][slot]=null;
+        for (Timer timer=head; timer!=null; timer=timer.next) {
+            timer.prev=null;
+            timer.level=-1;
+            levelCounts[level]--;
+        }
+        return head;
+    }
+
+    /**
+     * Timer scheduled within a timer wheel.
+     */
+    public static final class Timer {
+        private static final int STATE_PENDING=0;
+        private static final int STATE_EXPIRED=1;
+        private static final int STATE_CANCELLED=2;
+
+        private static final VarHandle STATE;
+
+        static {
+            try {
+                STATE=MethodHandles.lookup().findVarHandle(Timer.class, "state", int.class);
+            } catch (ReflectiveOperationException ex) {
+                throw new ExceptionInInitializerError(ex);
+            }
+        }
+
+        private final TimerWheel wheel;
+        private final Runnable task;
+        private final long deadlineNanos;
+        private final long deadlineTick;
+
+        @SuppressWarnings("FieldMayBeFinal")
+        private volatile int state=STATE_PENDING;
+
+        private Timer prev;
+        private Timer next;
+        private int level=-1;
+        private int slot;
+
+        private Timer(TimerWheel wheel,
+                      Runnable task,
+                      long deadlineNanos,
+                      long deadlineTick) {
+            this.wheel=wheel;
+            this.task=task;
+            this.deadlineNanos=deadlineNanos;
+            this.deadlineTick=deadlineTick;
+        }
+
+        private int getState() {
+            return state;
+        }
+
+        private boolean expire() {
+            return STATE.compareAndSet(this, STATE_PENDING, STATE_EXPIRED);
+        }
+
+        /**
+         * Gets the deadline on the timeline.
+         * @return Deadline.
+         */
+        public Instant getDeadline() {
+            return EpochNanos.toInstant(deadlineNanos);
+        }
+
+        /**
+         * Cancels this timer.
+         * @return Indicates if the timer was cancelled.
+         *         This is {@code false} if the timer has already expired or been cancelled.
+         */
+        public boolean cancel() {
+            if (STATE.compareAndSet(this, STATE_PENDING, STATE_CANCELLED)) {
+                wheel.cancelQueue.add(this);
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Indicates if this timer has been cancelled.
+         * @return Indication.
+         */
+        public boolean isCancelled() {
+            return state==STATE_CANCELLED;
+        }
+
+        /**
+         * Indicates if this timer has expired.
+         * @return Indication.
+         */
+        public boolean isExpired() {
+            return state==STATE_EXPIRED;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+/**
+ * <p>
+ *     Scheduling on timelines.
+ * </p>
+ * <p>
+ *     This addresses the execution of tasks at delays and periods following the time of a {@link java.time.Clock}.
+ * </p>
+ */
+package com.yelstream.topp.time.schedule;
@@ -0,0 +1,122 @@
+package com.yelstream.topp.time.sync;
+
+import com.yelstream.topp.time.ClockChains;
+import com.yelstream.topp.time.EpochNanos;
+import com.yelstream.topp.time.Scale;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.SocketAddress;
+import java.net.SocketException;
+import java.time.Clock;
+
+/**
+ * <p>
+ *   Coordinator publishing the timeline of a clock to instances of {@link ClockSyncFollower}.
+ * </p>
+ * <p>
+ *   The coordinator answers requests received as UDP datagrams with the times of reception and transmission read from the clock,
+ *   together with the rate of the timeline of the clock relative to real time as determined by {@link ClockChains#getRate(java.time.InstantSource)}.
+ *   Requests are answered by a daemon thread until this is closed.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+public class ClockSyncCoordinator implements AutoCloseable {
+    /**
+     * Clock holding the timeline published.
+     */
+    @Getter
+    private final Clock clock;
+
+    private final DatagramSocket socket;
+
+    private Thread thread;
+
+    /**
+     * Constructor.
+     * Requests are not answered until {@link #start()} is called.
+     * @param clock Clock holding the timeline published.
+     * @param address Local address to receive requests at.
+     * @throws SocketException Thrown in case the socket cannot be opened.
+     */
+    public ClockSyncCoordinator(Clock clock,
+                                SocketAddress address) throws SocketException {
+        this.clock=clock;
+        this.socket=new DatagramSocket(address);
+    }
+
+    /**
+     * Creates a coordinator answering requests.
+     * @param clock Clock holding the timeline published.
+     * @param address Local address to receive requests at.
+     * @return Coordinator.
+     * @throws SocketException Thrown in case the socket cannot be opened.
+     */
+    public static ClockSyncCoordinator start(Clock clock,
+                                             SocketAddress address) throws SocketException {
+        ClockSyncCoordinator coordinator=new ClockSyncCoordinator(clock, address);
+        coordinator.start();
+        return coordinator;
+    }
+
+    /**
+     * Gets the local address at which requests are received.
+     * @return Local address.
+     */
+    public SocketAddress getLocalAddress() {
+        return socket.getLocalSocketAddress();
+    }
+
+    /**
+     * Starts answering requests.
+     * Requests are answered by a daemon thread until this is closed.
+     */
+    public synchronized void start() {
+        if (thread!=null) {
+            return;
+        }
+        thread=new Thread(this::processRequests, "topp-time-clock-sync-coordinator");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void processRequests() {
+        byte[] bytes=new byte[ClockSyncProtocol.RESPONSE_SIZE];
+        DatagramPacket packet=new DatagramPacket(bytes, bytes.length);
+        while (!socket.isClosed()) {
+            try {
+                packet.setLength(bytes.length);
+                socket.receive(packet);
+                long receiveNanos=EpochNanos.of(clock);
+                ClockSyncProtocol.Response request=ClockSyncProtocol.decodeRequest(bytes, packet.getLength());
+                if (request==null) {
+                    log.debug("Ignored datagram not being a clock synchronization request; sender is {}.", packet.getSocketAddress());
+                    continue;
+                }
+                Scale rate=ClockChains.getRate(clock);
+                ClockSyncProtocol.Response response=new ClockSyncProtocol.Response(request.getSequence(), request.getOriginateNanos(), receiveNanos, EpochNanos.of(clock), rate);
+                byte[] responseBytes=ClockSyncProtocol.encodeResponse(response);
+                socket.send(new DatagramPacket(responseBytes, responseBytes.length, packet.getSocketAddress()));
+            } catch (IOException | RuntimeException ex) {
+                if (!socket.isClosed()) {
+                    log.warn("Failure to answer clock synchronization request; local address is {}!", socket.getLocalSocketAddress(), ex);
+                }
+            }
+        }
+        log.debug("Stopped answering clock synchronization requests.");
+    }
+
+    /**
+     * Stops answering requests and closes the socket.
+     */
+    @Override
+    public void close() {
+        socket.close();
+    }
+}
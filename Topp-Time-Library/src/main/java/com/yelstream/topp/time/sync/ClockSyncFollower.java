@@ -0,0 +1,354 @@
+package com.yelstream.topp.time.sync;
+
+import com.yelstream.topp.time.AdjustableClock;
+import com.yelstream.topp.time.ClockChains;
+import com.yelstream.topp.time.EpochNanos;
+import com.yelstream.topp.time.Scale;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.SocketAddress;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+
+/**
+ * <p>
+ *   Follower keeping the timeline of an {@link AdjustableClock} aligned with the timeline published by a {@link ClockSyncCoordinator}.
+ * </p>
+ * <p>
+ *   Each round of synchronization sends a number of requests to the coordinator.
+ *   For each request, the round-trip delay is the nano-time elapsed between transmission and reception by the follower,
+ *   less the time {@code t2-t1} between reception and transmission by the coordinator converted to nano-time by the rate published by the coordinator.
+ *   The offset is the time {@code t2} of the coordinator, advanced by half of the round-trip delay at the rate of the coordinator,
+ *   relative to the time {@code t3} of the clock at reception.
+ *   As the timelines of the coordinator and the clock may run at different rates, times of one timeline are never subtracted from times of the other.
+ *   The sample with the smallest round-trip delay is used, as its offset is the least affected by asymmetric delays.
+ * </p>
+ * <p>
+ *   The first successful round steps the timeline to the timeline of the coordinator and sets the rate published by the coordinator.
+ *   Subsequent rounds never step the timeline.
+ *   Instead, the rate is corrected to slew away the offset over the next poll interval, bounded by a maximum slew.
+ *   This keeps the timeline continuous and, as long as the offset stays within reach of the slew, monotonic.
+ *   If the coordinator publishes a rate of zero, slewing is not possible and the timeline is stepped.
+ * </p>
+ * <p>
+ *   The offset and round-trip delay of the latest round and the largest offset met after the first round are kept as metrics of the skew achieved.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+public class ClockSyncFollower implements AutoCloseable {
+    /**
+     * Default interval between rounds of synchronization.
+     */
+    public static final Duration DEFAULT_POLL_INTERVAL=Duration.ofSeconds(1L);
+
+    /**
+     * Default number of requests sent per round of synchronization.
+     */
+    public static final int DEFAULT_SAMPLE_COUNT=4;
+
+    /**
+     * Default maximum time to wait for a response.
+     */
+    public static final Duration DEFAULT_TIMEOUT=Duration.ofMillis(500L);
+
+    /**
+     * Default maximum slew of the rate, in parts per million.
+     */
+    public static final long DEFAULT_MAXIMUM_SLEW_PPM=500L;
+
+    private static final long PARTS_PER_BILLION=1_000_000_000L;
+
+    /**
+     * Clock kept aligned.
+     */
+    @Getter
+    private final AdjustableClock clock;
+
+    /**
+     * Address of the coordinator.
+     */
+    @Getter
+    private final SocketAddress coordinatorAddress;
+
+    /**
+     * Interval between rounds of synchronization.
+     */
+    @Getter
+    private final Duration pollInterval;
+
+    /**
+     * Number of requests sent per round of synchronization.
+     */
+    @Getter
+    private final int sampleCount;
+
+    /**
+     * Maximum time to wait for a response.
+     */
+    @Getter
+    private final Duration timeout;
+
+    /**
+     * Maximum slew of the rate, in parts per million.
+     */
+    @Getter
+    private final long maximumSlewPpm;
+
+    private long sequence;
+
+    private volatile boolean inSync;
+
+    /**
+     * Offset of the timeline of the coordinator relative to the timeline of the clock, as measured by the latest successful round.
+     */
+    @Getter
+    private volatile long offsetNanos;
+
+    /**
+     * Round-trip delay of the sample used by the latest successful round, in nano-time.
+     */
+    @Getter
+    private volatile long roundTripDelayNanos;
+
+    /**
+     * Slew of the rate set by the latest successful round, in parts per billion.
+     */
+    @Getter
+    private volatile long slewPpb;
+
+    /**
+     * Largest absolute offset measured by rounds after the first successful round.
+     */
+    @Getter
+    private volatile long maximumOffsetNanos;
+
+    /**
+     * Number of successful rounds.
+     */
+    @Getter
+    private volatile long roundCount;
+
+    /**
+     * Number of failed rounds.
+     */
+    @Getter
+    private volatile long failureCount;
+
+    private Thread thread;
+
+    /**
+     * Constructor.
+     * @param clock Clock kept aligned.
+     * @param coordinatorAddress Address of the coordinator.
+     * @param pollInterval Interval between rounds of synchronization.
+     *                     If {@code null}, then {@link #DEFAULT_POLL_INTERVAL} is used.
+     * @param sampleCount Number of requests sent per round of synchronization.
+     *                    If {@code null}, then {@link #DEFAULT_SAMPLE_COUNT} is used.
+     * @param timeout Maximum time to wait for a response.
+     *                If {@code null}, then {@link #DEFAULT_TIMEOUT} is used.
+     * @param maximumSlewPpm Maximum slew of the rate, in parts per million.
+     *                       If {@code null}, then {@link #DEFAULT_MAXIMUM_SLEW_PPM} is used.
+     */
+    @lombok.Builder(builderClassName="Builder")
+    public ClockSyncFollower(AdjustableClock clock,
+                             SocketAddress coordinatorAddress,
+                             Duration pollInterval,
+                             Integer sampleCount,
+                             Duration timeout,
+                             Long maximumSlewPpm) {
+        if (clock==null || coordinatorAddress==null) {
+            throw new IllegalArgumentException(String.format("Failure to create clock synchronization follower; clock is %s, coordinator address is %s!",clock,coordinatorAddress));
+        }
+        this.clock=clock;
+        this.coordinatorAddress=coordinatorAddress;
+        this.pollInterval=pollInterval!=null?pollInterval:DEFAULT_POLL_INTERVAL;
+        this.sampleCount=sampleCount!=null?sampleCount:DEFAULT_SAMPLE_COUNT;
+        this.timeout=timeout!=null?timeout:DEFAULT_TIMEOUT;
+        this.maximumSlewPpm=maximumSlewPpm!=null?maximumSlewPpm:DEFAULT_MAXIMUM_SLEW_PPM;
+        if (this.pollInterval.isNegative() || this.pollInterval.isZero() || this.sampleCount<1 || this.maximumSlewPpm<0L) {
+            throw new IllegalArgumentException(String.format("Failure to create clock synchronization follower; poll interval is %s, sample count is %d, maximum slew is %d ppm!",this.pollInterval,this.sampleCount,this.maximumSlewPpm));
+        }
+    }
+
+    /**
+     * Creates a follower with default settings which synchronizes continuously.
+     * @param clock Clock kept aligned.
+     * @param coordinatorAddress Address of the coordinator.
+     * @return Follower.
+     */
+    public static ClockSyncFollower start(AdjustableClock clock,
+                                          SocketAddress coordinatorAddress) {
+        ClockSyncFollower follower=builder().clock(clock).coordinatorAddress(coordinatorAddress).build();
+        follower.start();
+        return follower;
+    }
+
+    /**
+     * Indicates if a round of synchronization has succeeded.
+     * @return Indication.
+     */
+    public boolean isSynchronized() {
+        return inSync;
+    }
+
+    /**
+     * Starts synchronizing every poll interval.
+     * Rounds of synchronization are run by a daemon thread until this is closed.
+     */
+    public synchronized void start() {
+        if (thread!=null) {
+            return;
+        }
+        thread=new Thread(this::processRounds, "topp-time-clock-sync-follower");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void processRounds() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    synchronize();
+                } catch (RuntimeException ex) {
+                    log.warn("Failure to run round of clock synchronization; coordinator address is {}!", coordinatorAddress, ex);
+                }
+                Thread.sleep(pollInterval.toMillis());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        log.debug("Stopped clock synchronization; coordinator address is {}.", coordinatorAddress);
+    }
+
+    /**
+     * Runs a single round of synchronization.
+     * @return Indicates if the round succeeded and the clock was corrected.
+     */
+    public synchronized boolean synchronize() {
+        ClockSyncProtocol.Response bestResponse=null;
+        long bestOffsetNanos=0L;
+        long bestDelayNanos=Long.MAX_VALUE;
+        try (DatagramSocket socket=new DatagramSocket()) {
+            socket.connect(coordinatorAddress);
+            socket.setSoTimeout(Math.toIntExact(Math.max(1L, timeout.toMillis())));
+            byte[] bytes=new byte[ClockSyncProtocol.RESPONSE_SIZE];
+            DatagramPacket packet=new DatagramPacket(bytes, bytes.length);
+            for (int i=0; i<sampleCount; i++) {
+                long requestSequence=++sequence;
+                byte[] requestBytes=ClockSyncProtocol.encodeRequest(requestSequence, EpochNanos.of(clock));
+                long nanoTime0=System.nanoTime();
+                socket.send(new DatagramPacket(requestBytes, requestBytes.length));
+                ClockSyncProtocol.Response response=receive(socket, packet, requestSequence);
+                long nanoTime3=System.nanoTime();
+                if (response==null) {
+                    continue;
+                }
+                long t3=EpochNanos.of(clock);
+                long t1=response.getReceiveNanos();
+                long t2=response.getTransmitNanos();
+                Scale coordinatorRate=response.getRate();
+                try {
+                    long processingNanos=coordinatorRate.signum()==0?0L:coordinatorRate.inverted().applyAsLong(t2-t1);
+                    long delayNanos=(nanoTime3-nanoTime0)-processingNanos;
+                    if (delayNanos<bestDelayNanos) {
+                        bestResponse=response;
+                        bestOffsetNanos=Math.subtractExact(Math.addExact(t2, coordinatorRate.applyAsLong(delayNanos>>1)), t3);
+                        bestDelayNanos=delayNanos;
+                    }
+                } catch (ArithmeticException ex) {
+                    log.debug("Failure to use clock synchronization sample; cannot represent times at rate {} of coordinator address {}!", coordinatorRate, coordinatorAddress, ex);
+                }
+            }
+        } catch (IOException ex) {
+            log.debug("Failure to exchange clock synchronization datagrams; coordinator address is {}!", coordinatorAddress, ex);
+        }
+        if (bestResponse==null) {
+            failureCount++;
+            log.warn("Failure to synchronize clock; no response from coordinator address {}!", coordinatorAddress);
+            return false;
+        }
+        try {
+            correct(bestOffsetNanos, bestResponse.getRate());
+        } catch (ArithmeticException ex) {
+            failureCount++;
+            log.warn("Failure to synchronize clock; cannot represent rate {} of coordinator address {}!", bestResponse.getRate(), coordinatorAddress, ex);
+            return false;
+        }
+        offsetNanos=bestOffsetNanos;
+        roundTripDelayNanos=bestDelayNanos;
+        roundCount++;
+        log.debug("Synchronized clock; offset is {} ns, round-trip delay is {} ns, slew is {} ppb.", bestOffsetNanos, bestDelayNanos, slewPpb);
+        return true;
+    }
+
+    private static ClockSyncProtocol.Response receive(DatagramSocket socket,
+                                                      DatagramPacket packet,
+                                                      long requestSequence) throws IOException {
+        try {
+            while (true) {
+                packet.setLength(packet.getData().length);
+                socket.receive(packet);
+                ClockSyncProtocol.Response response=ClockSyncProtocol.decodeResponse(packet.getData(), packet.getLength());
+                if (response!=null && response.getSequence()==requestSequence) {
+                    return response;
+                }
+            }
+        } catch (SocketTimeoutException ex) {
+            return null;
+        }
+    }
+
+    private void correct(long offsetNanos,
+                         Scale coordinatorRate) {
+        Scale rate=coordinatorRate.multipliedBy(ClockChains.getRate(clock.getInstantSource()).inverted());
+        if (!inSync || coordinatorRate.signum()==0) {
+            step(offsetNanos, rate);
+            slewPpb=0L;
+            inSync=true;
+        } else {
+            long maximumSlewPpb=maximumSlewPpm*1_000L;
+            double slew=(double)offsetNanos/(double)coordinatorRate.applyAsLong(pollInterval.toNanos());
+            long ppb=Math.max(-maximumSlewPpb, Math.min(maximumSlewPpb, Math.round(slew*PARTS_PER_BILLION)));
+            clock.setRate(rate.multipliedBy(Scale.of(PARTS_PER_BILLION+ppb, PARTS_PER_BILLION)));
+            slewPpb=ppb;
+            maximumOffsetNanos=Math.max(maximumOffsetNanos, Math.abs(offsetNanos));
+        }
+    }
+
+    /**
+     * Steps the timeline by an offset and sets its rate as a single adjustment,
+     * so readers never see the rate set without the step.
+     * @param offsetNanos Offset in nanoseconds.
+     * @param rate Rate relative to the source.
+     */
+    private void step(long offsetNanos,
+                      Scale rate) {
+        while (true) {
+            AdjustableClock.Adjustment adjustment=clock.getAdjustment();
+            long sourceNanos=EpochNanos.of(clock.getInstantSource());
+            long targetNanos=Math.addExact(adjustment.applyAsLong(sourceNanos), offsetNanos);
+            if (clock.compareAndSet(adjustment, AdjustableClock.Adjustment.of(sourceNanos, targetNanos, rate))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Stops synchronizing.
+     * The clock keeps the latest correction.
+     */
+    @Override
+    public synchronized void close() {
+        if (thread!=null) {
+            thread.interrupt();
+            thread=null;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.yelstream.topp.time.sync;
+
+import com.yelstream.topp.time.Scale;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.UtilityClass;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>
+ *   Datagrams exchanged between {@link ClockSyncFollower} and {@link ClockSyncCoordinator}.
+ * </p>
+ * <p>
+ *   A request holds a magic number, a version, a type, a sequence number and the time of transmission by the follower.
+ *   A response echoes the sequence number and the time of transmission by the follower,
+ *   and adds the times of reception and transmission by the coordinator as well as the rate of the timeline of the coordinator.
+ *   All times are in epoch nanoseconds and all values are big-endian.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@UtilityClass
+class ClockSyncProtocol {
+    /**
+     * Magic number starting every datagram.
+     */
+    static final int MAGIC=0x54545359;
+
+    /**
+     * Version of the protocol.
+     */
+    static final byte VERSION=1;
+
+    /**
+     * Type of requests.
+     */
+    static final byte REQUEST=1;
+
+    /**
+     * Type of responses.
+     */
+    static final byte RESPONSE=2;
+
+    /**
+     * Size of requests in bytes.
+     */
+    static final int REQUEST_SIZE=4+1+1+8+8;
+
+    /**
+     * Size of responses in bytes.
+     */
+    static final int RESPONSE_SIZE=REQUEST_SIZE+8+8+8+8;
+
+    /**
+     * Encodes a request.
+     * @param sequence Sequence number.
+     * @param originateNanos Time of transmission by the follower.
+     * @return Encoded request.
+     */
+    static byte[] encodeRequest(long sequence,
+                                long originateNanos) {
+        ByteBuffer buffer=ByteBuffer.allocate(REQUEST_SIZE);
+        putHeader(buffer, REQUEST, sequence, originateNanos);
+        return buffer.array();
+    }
+
+    /**
+     * Decodes a request.
+     * @param bytes Datagram.
+     * @param length Length of datagram.
+     * @return Request in the form of a response lacking the times of the coordinator, or {@code null} if the datagram is not a request.
+     */
+    static Response decodeRequest(byte[] bytes,
+                                  int length) {
+        ByteBuffer buffer=ByteBuffer.wrap(bytes, 0, length);
+        if (length!=REQUEST_SIZE || !isHeader(buffer, REQUEST)) {
+            return null;
+        }
+        return new Response(buffer.getLong(), buffer.getLong(), 0L, 0L, Scale.IDENTITY);
+    }
+
+    /**
+     * Encodes a response.
+     * @param response Response.
+     * @return Encoded response.
+     */
+    static byte[] encodeResponse(Response response) {
+        ByteBuffer buffer=ByteBuffer.allocate(RESPONSE_SIZE);
+        putHeader(buffer, RESPONSE, response.sequence, response.originateNanos);
+        buffer.putLong(response.receiveNanos);
+        buffer.putLong(response.transmitNanos);
+        buffer.putLong(response.rate.getNumerator());
+        buffer.putLong(response.rate.getDenominator());
+        return buffer.array();
+    }
+
+    /**
+     * Decodes a response.
+     * @param bytes Datagram.
+     * @param length Length of datagram.
+     * @return Response, or {@code null} if the datagram is not a valid response.
+     */
+    static Response decodeResponse(byte[] bytes,
+                                   int length) {
+        ByteBuffer buffer=ByteBuffer.wrap(bytes, 0, length);
+        if (length!=RESPONSE_SIZE || !isHeader(buffer, RESPONSE)) {
+            return null;
+        }
+        long sequence=buffer.getLong();
+        long originateNanos=buffer.getLong();
+        long receiveNanos=buffer.getLong();
+        long transmitNanos=buffer.getLong();
+        long numerator=buffer.getLong();
+        long denominator=buffer.getLong();
+        if (denominator<=0L) {
+            return null;
+        }
+        return new Response(sequence, originateNanos, receiveNanos, transmitNanos, Scale.of(numerator, denominator));
+    }
+
+    private static void putHeader(ByteBuffer buffer,
+                                  byte type,
+                                  long sequence,
+                                  long originateNanos) {
+        buffer.putInt(MAGIC);
+        buffer.put(VERSION);
+        buffer.put(type);
+        buffer.putLong(sequence);
+        buffer.putLong(originateNanos);
+    }
+
+    private static boolean isHeader(ByteBuffer buffer,
+                                    byte type) {
+        return buffer.getInt()==MAGIC && buffer.get()==VERSION && buffer.get()==type;
+    }
+
+    /**
+     * Response of the coordinator to a request of a follower.
+     */
+    @Getter
+    @ToString
+    @AllArgsConstructor
+    static final class Response {
+        /**
+         * Sequence number of the request.
+         */
+        private final long sequence;
+
+        /**
+         * Time of transmission of the request by the follower.
+         */
+        private final long originateNanos;
+
+        /**
+         * Time of reception of the request by the coordinator.
+         */
+        private final long receiveNanos;
+
+        /**
+         * Time of transmission of the response by the coordinator.
+         */
+        private final long transmitNanos;
+
+        /**
+         * Rate of the timeline of the coordinator relative to real time.
+         */
+        private final Scale rate;
+    }
+}
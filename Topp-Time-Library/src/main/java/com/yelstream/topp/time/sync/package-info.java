@@ -0,0 +1,9 @@
+/**
+ * <p>
+ *     Synchronization of timelines.
+ * </p>
+ * <p>
+ *     This addresses the alignment of {@link com.yelstream.topp.time.AdjustableClock} instances across nodes with the timeline published by a coordinator.
+ * </p>
+ */
+package com.yelstream.topp.time.sync;
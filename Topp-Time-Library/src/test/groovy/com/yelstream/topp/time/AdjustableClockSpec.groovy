@@ -0,0 +1,162 @@
+package com.yelstream.topp.time
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.time.Clock
+import java.time.Duration
+import java.time.Instant
+import java.time.ZoneId
+import java.time.ZoneOffset
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+/**
+ * <p>
+ * Test suite addressing {@link AdjustableClock}.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class AdjustableClockSpec extends Specification {
+    static final Instant T0 = Instant.parse('2022-01-20T12:00:00Z')
+
+    void "Verify adjustments by offset"() {
+        given:
+        AdjustableClock clock = new AdjustableClock(Clock.fixed(T0, ZoneOffset.UTC))
+
+        when:
+        clock.adjustBy(Duration.ofHours(1))
+        clock.adjustByNanos(5L)
+
+        then:
+        clock.instant() == T0.plusSeconds(3600L).plusNanos(5L)
+        clock.epochNanos() == EpochNanos.of(T0) + 3_600_000_000_005L
+        clock.millis() == T0.toEpochMilli() + 3_600_000L
+        clock.adjustment == AdjustableClock.Adjustment.ofOffsetNanos(3_600_000_000_005L)
+
+        when:
+        clock.reset()
+
+        then:
+        clock.instant() == T0
+    }
+
+    void "Verify timeline set to timestamp and rate"() {
+        given:
+        AdjustableClock source = new AdjustableClock(Clock.fixed(T0, ZoneOffset.UTC))
+        AdjustableClock clock = new AdjustableClock(source)
+        Instant target = Instant.parse('2030-01-01T00:00:00Z')
+
+        when:
+        clock.setTo(target)
+
+        then:
+        clock.instant() == target
+
+        when:
+        clock.setRate(Scale.of(10L))
+        source.adjustBy(Duration.ofSeconds(2L))
+
+        then:
+        clock.instant() == target.plusSeconds(20L)
+
+        when:
+        clock.setRate(Scale.of(1L, 2L))
+        source.adjustBy(Duration.ofSeconds(4L))
+
+        then:
+        clock.instant() == target.plusSeconds(22L)
+    }
+
+    void "Verify compare-and-set of adjustments"() {
+        given:
+        AdjustableClock clock = new AdjustableClock(Clock.fixed(T0, ZoneOffset.UTC))
+        AdjustableClock.Adjustment adjustment = clock.adjustment
+        AdjustableClock.Adjustment offset = AdjustableClock.Adjustment.ofOffsetNanos(1_000L)
+
+        expect:
+        clock.compareAndSet(adjustment, offset)
+        !clock.compareAndSet(adjustment, AdjustableClock.Adjustment.NONE)
+        clock.instant() == T0.plusNanos(1_000L)
+    }
+
+    void "Verify adjustment operator applied after adjustment"() {
+        given:
+        AdjustableClock clock = new AdjustableClock(Clock.fixed(T0, ZoneOffset.UTC), { Instant instant -> instant.plusSeconds(1L) })
+
+        when:
+        clock.adjustBy(Duration.ofSeconds(1L))
+
+        then:
+        clock.instant() == T0.plusSeconds(2L)
+        clock.epochNanos() == EpochNanos.of(T0.plusSeconds(2L))
+        clock.millis() == T0.plusSeconds(2L).toEpochMilli()
+    }
+
+    void "Verify adjustments shared with clocks in other zones"() {
+        given:
+        AdjustableClock clock = new AdjustableClock(Clock.fixed(T0, ZoneOffset.UTC))
+        Clock zonedClock = clock.withZone(ZoneId.of('Europe/Copenhagen'))
+
+        when:
+        clock.adjustBy(Duration.ofMinutes(1L))
+
+        then:
+        zonedClock.zone == ZoneId.of('Europe/Copenhagen')
+        zonedClock.instant() == T0.plusSeconds(60L)
+    }
+
+    void "Verify listeners are notified of adjustments"() {
+        given:
+        AdjustableClock clock = new AdjustableClock(Clock.fixed(T0, ZoneOffset.UTC))
+        List<AdjustableClock.Adjustment> adjustments = []
+        AdjustableClock.AdjustmentListener listener = { AdjustableClock adjustedClock, AdjustableClock.Adjustment previousAdjustment, AdjustableClock.Adjustment adjustment -> adjustments << adjustment }
+        clock.addAdjustmentListener(listener)
+
+        when:
+        clock.adjustByNanos(1L)
+        clock.reset()
+        clock.removeAdjustmentListener(listener)
+        clock.adjustByNanos(2L)
+
+        then:
+        adjustments == [AdjustableClock.Adjustment.ofOffsetNanos(1L), AdjustableClock.Adjustment.NONE]
+    }
+
+    void "Verify concurrent adjustments are not lost"() {
+        given:
+        AdjustableClock clock = new AdjustableClock(Clock.fixed(T0, ZoneOffset.UTC))
+        def executor = Executors.newFixedThreadPool(8)
+
+        when:
+        8.times {
+            executor.submit({
+                10_000.times { clock.adjustByNanos(1L) }
+            } as Runnable)
+        }
+        executor.shutdown()
+        executor.awaitTermination(30L, TimeUnit.SECONDS)
+
+        then:
+        clock.instant() == T0.plusNanos(80_000L)
+    }
+
+    @Unroll
+    void "Verify adjustment of #sourceNanos by #adjustment overflowing the range of nanoseconds is rejected"() {
+        when:
+        adjustment.applyAsLong(sourceNanos)
+
+        then:
+        thrown(ArithmeticException)
+
+        where:
+        adjustment                                                                 | sourceNanos
+        AdjustableClock.Adjustment.ofOffsetNanos(Long.MAX_VALUE)                   | 1L
+        AdjustableClock.Adjustment.ofOffsetNanos(Long.MIN_VALUE)                   | -1L
+        AdjustableClock.Adjustment.of(Long.MIN_VALUE, 0L, Scale.of(2L))            | 1L
+        AdjustableClock.Adjustment.of(0L, Long.MAX_VALUE, Scale.of(2L))            | 1L
+        AdjustableClock.Adjustment.of(0L, 0L, Scale.of(2L, 1L))                    | Long.MAX_VALUE
+    }
+}
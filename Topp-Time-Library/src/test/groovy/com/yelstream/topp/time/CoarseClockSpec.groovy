@@ -0,0 +1,85 @@
+package com.yelstream.topp.time
+
+import com.yelstream.topp.time.declare.ClockDeclaration
+import spock.lang.Specification
+
+import java.time.Clock
+import java.time.Duration
+import java.time.Instant
+import java.time.ZoneId
+import java.time.ZoneOffset
+
+/**
+ * <p>
+ * Test suite addressing {@link CoarseClock}.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class CoarseClockSpec extends Specification {
+    void "Verify cached reading follows reference clock"() {
+        given:
+        Instant instant0 = Instant.parse('2022-01-20T12:00:00Z')
+        Instant instant1 = Instant.parse('2022-01-20T13:00:00Z')
+        SimpleProxyClock referenceClock = new SimpleProxyClock(Clock.fixed(instant0, ZoneOffset.UTC))
+
+        when:
+        CoarseClock coarseClock = new CoarseClock(referenceClock, Duration.ofMillis(1L))
+
+        then:
+        coarseClock.instant() == instant0
+        coarseClock.millis() == instant0.toEpochMilli()
+
+        when:
+        referenceClock.setClock(Clock.fixed(instant1, ZoneOffset.UTC))
+        long deadline = System.nanoTime() + Duration.ofSeconds(5L).toNanos()
+        while (coarseClock.instant() != instant1 && System.nanoTime() < deadline) {
+            Thread.sleep(1L)
+        }
+
+        then:
+        coarseClock.instant() == instant1
+        coarseClock.epochNanos() == EpochNanos.of(instant1)
+
+        cleanup:
+        coarseClock?.close()
+    }
+
+    void "Verify clocks in other zones share the cached reading"() {
+        given:
+        Instant instant0 = Instant.parse('2022-01-20T12:00:00Z')
+        Instant instant1 = Instant.parse('2022-01-20T13:00:00Z')
+        ZoneId zone = ZoneId.of('Europe/Copenhagen')
+        SimpleProxyClock referenceClock = new SimpleProxyClock(Clock.fixed(instant0, ZoneOffset.UTC))
+        CoarseClock coarseClock = new CoarseClock(referenceClock, Duration.ofHours(1L))
+
+        when:
+        Clock zonedClock = coarseClock.withZone(zone)
+        referenceClock.setClock(Clock.fixed(instant1, ZoneOffset.UTC))
+        coarseClock.refresh()
+
+        then:
+        zonedClock instanceof CoarseClock
+        zonedClock.zone == zone
+        zonedClock.instant().is(coarseClock.instant())
+        zonedClock.instant() == instant1
+        zonedClock.withZone(ZoneOffset.UTC).instant().is(coarseClock.instant())
+
+        cleanup:
+        coarseClock?.close()
+    }
+
+    void "Verify creation by declaration"() {
+        when:
+        Clock clock = ClockDeclaration.createClock('systemInZoneUTC(coarse=PT0.001S)')
+
+        then:
+        clock instanceof CoarseClock
+        ((CoarseClock) clock).resolution == Duration.ofMillis(1L)
+        Duration.between(clock.instant(), Instant.now()) < Duration.ofSeconds(5L)
+
+        cleanup:
+        ((CoarseClock) clock)?.close()
+    }
+}
@@ -0,0 +1,249 @@
+package com.yelstream.topp.time
+
+import com.yelstream.topp.time.declare.ClockDeclaration
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.time.Clock
+import java.time.Duration
+import java.time.Instant
+import java.time.ZoneId
+import java.time.ZoneOffset
+import java.util.function.UnaryOperator
+
+/**
+ * <p>
+ * Test suite addressing {@link CompositeClock}.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class CompositeClockSpec extends Specification {
+    private static Clock createLayeredClock(Clock clock,
+                                           Duration offsetDuration,
+                                           Duration tickDuration,
+                                           UnaryOperator<Duration> scaleOperator,
+                                           Instant timestamp0) {
+        Clock layeredClock = clock
+        if (offsetDuration != null) {
+            layeredClock = Clock.offset(layeredClock, offsetDuration)
+        }
+        if (tickDuration != null) {
+            layeredClock = Clock.tick(layeredClock, tickDuration)
+        }
+        if (scaleOperator != null) {
+            layeredClock = timestamp0 == null ? new InstantScaledClock(layeredClock, scaleOperator) : new InstantScaledClock(layeredClock, scaleOperator, timestamp0)
+        }
+        return layeredClock
+    }
+
+    @Unroll
+    void "Verify composite clock reads the same time as the layered clocks"() {
+        given:
+        Random random = new Random(offsetDuration.hashCode() * 31 + String.valueOf(tickDuration).hashCode())
+        Instant timestamp0 = Instant.parse("2022-01-01T00:00:00.000000001Z")
+
+        expect:
+        (0..<500).every {
+            Instant instant = timestamp0.plusNanos(Math.floorMod(random.nextLong(), 1_000L * 86400L * 1_000_000_000L) - 500L * 86400L * 1_000_000_000L)
+            Clock clock = Clock.fixed(instant, ZoneOffset.UTC)
+            Clock layeredClock = createLayeredClock(clock, offsetDuration, tickDuration, scaleOperator, timestamp0)
+            Clock compositeClock = new CompositeClock(clock, offsetDuration, tickDuration, scaleOperator, timestamp0)
+            long expectedMillis = tickDuration != null && tickDuration.toNanos() % 1_000_000L != 0L ? layeredClock.instant().toEpochMilli() : layeredClock.millis()
+            compositeClock.instant() == layeredClock.instant() &&
+                compositeClock.millis() == expectedMillis &&
+                ((EpochNanosSource)compositeClock).epochNanos() == EpochNanos.of(layeredClock.instant())
+        }
+
+        where:
+        offsetDuration              | tickDuration            | scaleOperator
+        Duration.ofHours(1L)        | null                    | null
+        Duration.ofNanos(600_001L)  | null                    | null
+        Duration.ofNanos(-600_001L) | null                    | null
+        Duration.ZERO               | Duration.ofMinutes(15L) | null
+        Duration.ofNanos(600_001L)  | Duration.ofMillis(1L)   | null
+        Duration.ofNanos(-1L)       | Duration.ofSeconds(1L)  | null
+        Duration.ofNanos(123L)      | Duration.ofNanos(250L)  | null
+        Duration.ofHours(1L)        | Duration.ofMinutes(15L) | Scale.of(60L)
+        Duration.ofNanos(600_001L)  | Duration.ofMillis(7L)   | Scale.of(-3L, 7L)
+        Duration.ofDays(-2L)        | Duration.ofNanos(100L)  | Scale.of(1L, 1000L)
+        Duration.ZERO               | null                    | Scale.of(22L, 7L)
+        Duration.ofSeconds(30L)     | Duration.ofSeconds(1L)  | { Duration d -> d.multipliedBy(3L) } as UnaryOperator<Duration>
+    }
+
+    @Unroll
+    void "Verify composite clock reads the same time as the layered clocks outside the range of nanoseconds at #reference"() {
+        given:
+        Clock clock = Clock.fixed(Instant.parse(reference), ZoneOffset.UTC)
+        Instant timestamp0 = initialTimestamp == null ? null : Instant.parse(initialTimestamp)
+
+        when:
+        Clock layeredClock = createLayeredClock(clock, offsetDuration, tickDuration, scaleOperator, timestamp0)
+        Clock compositeClock = new CompositeClock(clock, offsetDuration, tickDuration, scaleOperator, timestamp0)
+
+        then:
+        compositeClock.instant() == layeredClock.instant()
+        compositeClock.millis() == (tickDuration != null && tickDuration.toNanos() % 1_000_000L != 0L ? layeredClock.instant().toEpochMilli() : layeredClock.millis())
+
+        where:
+        reference                     | offsetDuration              | tickDuration            | scaleOperator    | initialTimestamp
+        '1600-01-01T00:00:00Z'        | Duration.ofHours(1L)        | null                    | null             | null
+        '1600-01-01T00:07:13.5Z'      | Duration.ofHours(1L)        | Duration.ofMinutes(15L) | null             | null
+        '1600-01-01T00:07:13.500001Z' | Duration.ofNanos(-600_001L) | Duration.ofMillis(7L)   | null             | null
+        '1600-01-01T00:07:13.500001Z' | Duration.ofNanos(123L)      | Duration.ofNanos(250L)  | null             | null
+        '1600-01-01T00:07:13.5Z'      | Duration.ofHours(1L)        | Duration.ofMinutes(15L) | Scale.of(60L)    | null
+        '1600-01-01T00:07:13.5Z'      | null                        | null                    | Scale.of(3L, 2L) | '1599-01-01T00:00:00Z'
+        '2200-01-01T00:00:00Z'        | null                        | Duration.ofSeconds(1L)  | Scale.of(2L)     | '2000-01-01T00:00:00Z'
+        '2022-01-01T00:00:00Z'        | Duration.ofDays(200_000L)   | null                    | null             | null
+        '2022-01-01T00:00:00Z'        | Duration.ofDays(-200_000L)  | Duration.ofMinutes(15L) | Scale.of(2L)     | null
+    }
+
+    @Unroll
+    void "Verify composite clock reads the same time as the layered clocks while the reference clock moves"() {
+        given:
+        Random random = new Random(42L)
+        Instant timestamp0 = Instant.parse("2022-01-01T00:00:00Z")
+        AdjustableClock clock = new AdjustableClock(Clock.fixed(timestamp0, ZoneOffset.UTC))
+        Clock layeredClock = createLayeredClock(clock, offsetDuration, tickDuration, scaleOperator, timestamp0)
+        Clock compositeClock = new CompositeClock(clock, offsetDuration, tickDuration, scaleOperator, timestamp0)
+
+        expect:
+        (0..<2000).every {
+            clock.adjustByNanos(random.nextInt(10) == 0 ? -random.nextLong(tickDuration.toNanos() * 3L) : random.nextLong(tickDuration.toNanos() >> 2))
+            compositeClock.instant() == layeredClock.instant() &&
+                compositeClock.millis() == layeredClock.instant().toEpochMilli() &&
+                ((EpochNanosSource)compositeClock).epochNanos() == EpochNanos.of(layeredClock.instant())
+        }
+
+        where:
+        offsetDuration              | tickDuration            | scaleOperator
+        Duration.ZERO               | Duration.ofMinutes(15L) | null
+        Duration.ofNanos(600_001L)  | Duration.ofMillis(7L)   | null
+        Duration.ofNanos(-123L)     | Duration.ofNanos(250L)  | null
+        Duration.ofHours(1L)        | Duration.ofSeconds(1L)  | Scale.of(60L)
+        Duration.ofNanos(-600_001L) | Duration.ofMillis(3L)   | Scale.of(-22L, 7L)
+    }
+
+    void "Verify composite clock returns the same instant within a tick"() {
+        given:
+        AdjustableClock clock = new AdjustableClock(Clock.fixed(Instant.parse("2022-01-01T10:07:13.5Z"), ZoneOffset.UTC))
+        AdjustableClock compositeClock = new AdjustableClock(new CompositeClock(clock, null, Duration.ofMinutes(15L), Scale.of(2L), Instant.parse("2022-01-01T10:00:00Z")))
+
+        when:
+        Instant instant0 = compositeClock.instant()
+        clock.adjustByNanos(Duration.ofMinutes(7L).toNanos())
+        Instant instant1 = compositeClock.instant()
+        clock.adjustByNanos(Duration.ofMinutes(1L).toNanos())
+        Instant instant2 = compositeClock.instant()
+        clock.adjustByNanos(-Duration.ofMinutes(1L).toNanos())
+        Instant instant3 = compositeClock.instant()
+
+        then:
+        instant0 == Instant.parse("2022-01-01T10:00:00Z")
+        instant1.is(instant0)
+        instant2 == Instant.parse("2022-01-01T10:30:00Z")
+        instant3 == instant0
+
+        when:
+        compositeClock.setRate(Scale.of(3L))
+        compositeClock.adjustByNanos(Duration.ofMinutes(1L).toNanos())
+
+        then:
+        compositeClock.instant() == Instant.parse("2022-01-01T10:01:00Z")
+    }
+
+    void "Verify composite clock takes the initial timestamp from the time offset and truncated when created"() {
+        given:
+        Clock clock = Clock.fixed(Instant.parse("2022-01-01T10:07:13.5Z"), ZoneOffset.UTC)
+
+        when:
+        CompositeClock compositeClock = new CompositeClock(clock, Duration.ofHours(1L), Duration.ofMinutes(15L), Scale.of(60L), null)
+
+        then:
+        compositeClock.timestamp0 == Instant.parse("2022-01-01T11:00:00Z")
+        compositeClock.instant() == createLayeredClock(clock, Duration.ofHours(1L), Duration.ofMinutes(15L), Scale.of(60L), null).instant()
+    }
+
+    void "Verify adjustments of a composite clock match adjustments of the layered clocks"() {
+        given:
+        Clock clock = Clock.fixed(Instant.parse("2022-06-01T12:34:56.789Z"), ZoneOffset.UTC)
+        Instant timestamp0 = Instant.parse("2022-06-01T00:00:00Z")
+        AdjustableClock layeredClock = new AdjustableClock(createLayeredClock(clock, Duration.ofHours(2L), Duration.ofSeconds(1L), Scale.of(60L), timestamp0))
+        AdjustableClock compositeClock = new AdjustableClock(new CompositeClock(clock, Duration.ofHours(2L), Duration.ofSeconds(1L), Scale.of(60L), timestamp0))
+
+        when:
+        layeredClock.adjustByNanos(1_234_567L)
+        compositeClock.adjustByNanos(1_234_567L)
+        layeredClock.setRate(Scale.of(3L, 2L))
+        compositeClock.setRate(Scale.of(3L, 2L))
+
+        then:
+        compositeClock.instant() == layeredClock.instant()
+        compositeClock.millis() == layeredClock.millis()
+        ClockChains.getRate(compositeClock) == ClockChains.getRate(layeredClock)
+    }
+
+    void "Verify composite clock is part of chains of clocks"() {
+        given:
+        Clock clock = Clock.systemUTC()
+        CompositeClock compositeClock = new CompositeClock(clock, null, null, Scale.of(60L), null)
+
+        expect:
+        ClockChains.getChain(compositeClock) == [compositeClock, clock]
+        ClockChains.getRate(compositeClock) == Scale.of(60L)
+        ClockChains.getRate(new CompositeClock(clock, Duration.ofHours(1L), null, null, null)) == Scale.IDENTITY
+    }
+
+    void "Verify description of pipeline"() {
+        given:
+        Clock clock = Clock.fixed(Instant.parse("2022-01-01T00:00:00Z"), ZoneOffset.UTC)
+
+        expect:
+        new CompositeClock(clock, Duration.ofHours(1L), Duration.ofMinutes(15L), Scale.of(60L), null).toString() ==
+            "CompositeClock(clock=${clock} -> offset PT1H -> tick PT15M -> scale 60 from 2022-01-01T01:00:00Z)"
+        new CompositeClock(clock, Duration.ZERO, Duration.ofNanos(1L), null, null).toString() ==
+            "CompositeClock(clock=${clock})"
+    }
+
+    void "Verify variant in another zone shares the initial timestamp"() {
+        given:
+        CompositeClock compositeClock = new CompositeClock(Clock.systemUTC(), Duration.ofHours(1L), null, Scale.of(60L), null)
+
+        when:
+        Clock zonedClock = compositeClock.withZone(ZoneId.of("Europe/Copenhagen"))
+
+        then:
+        zonedClock.zone == ZoneId.of("Europe/Copenhagen")
+        ((CompositeClock)zonedClock).timestamp0 == compositeClock.timestamp0
+        compositeClock.withZone(ZoneOffset.UTC).is(compositeClock)
+    }
+
+    @Unroll
+    void "Verify invalid tick duration #tickDuration is rejected"() {
+        when:
+        new CompositeClock(Clock.systemUTC(), null, tickDuration, null, null)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        tickDuration << [Duration.ofNanos(-1L), Duration.ofNanos(3L), Duration.ofNanos(1_500_001L)]
+    }
+
+    void "Verify clock declarations with times outside the range of nanoseconds read the same time as the layered clocks"() {
+        expect:
+        ClockDeclaration.createClock("fixed(instant=1600-01-01T00:00:00Z,offset=PT1H)").instant() == Instant.parse("1600-01-01T01:00:00Z")
+        ClockDeclaration.createClock("fixed(instant=1600-01-01T00:07:00Z,offset=PT1H,tick=PT15M,multiplyBy=60)").instant() ==
+            createLayeredClock(Clock.fixed(Instant.parse("1600-01-01T00:07:00Z"), ZoneOffset.UTC), Duration.ofHours(1L), Duration.ofMinutes(15L), Scale.of(60L), Instant.parse("1600-01-01T00:07:00Z")).instant()
+    }
+
+    void "Verify clock declarations create a composite clock reading the same time as the layered clocks"() {
+        when:
+        Clock clock = ClockDeclaration.createClock("fixed(instant=2022-01-01T10:07:13.5Z,offset=PT1H,tick=PT15M,multiplyBy=60)")
+
+        then:
+        clock instanceof CompositeClock
+        clock.instant() == createLayeredClock(Clock.fixed(Instant.parse("2022-01-01T10:07:13.5Z"), ZoneOffset.UTC), Duration.ofHours(1L), Duration.ofMinutes(15L), Scale.of(60L), Instant.parse("2022-01-01T10:07:13.5Z")).instant()
+    }
+}
@@ -0,0 +1,126 @@
+package com.yelstream.topp.time
+
+import spock.lang.Specification
+
+import java.time.Clock
+import java.time.Duration
+import java.time.Instant
+import java.time.ZoneId
+import java.time.ZoneOffset
+import java.util.concurrent.Callable
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CountDownLatch
+
+/**
+ * <p>
+ * Test suite addressing {@link ContextClock}.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class ContextClockSpec extends Specification {
+    private static Clock fixed(String instant) {
+        return Clock.fixed(Instant.parse(instant), ZoneOffset.UTC)
+    }
+
+    void "Verify the default clock is used outside of any binding"() {
+        given:
+        ContextClock clock = new ContextClock(fixed('2022-01-20T12:00:00Z'))
+
+        expect:
+        !clock.isBound()
+        clock.instant() == Instant.parse('2022-01-20T12:00:00Z')
+        clock.millis() == Instant.parse('2022-01-20T12:00:00Z').toEpochMilli()
+        clock.zone == ZoneOffset.UTC
+    }
+
+    void "Verify bindings nest and are restored"() {
+        given:
+        ContextClock clock = new ContextClock(fixed('2022-01-20T12:00:00Z'))
+        List<Instant> instants = []
+
+        when:
+        clock.runWith(fixed('2030-01-01T00:00:00Z')) {
+            instants << clock.instant()
+            clock.runWith(fixed('2040-01-01T00:00:00Z')) {
+                instants << clock.instant()
+            }
+            instants << clock.instant()
+        }
+        instants << clock.instant()
+
+        then:
+        instants == ['2030-01-01T00:00:00Z', '2040-01-01T00:00:00Z', '2030-01-01T00:00:00Z', '2022-01-20T12:00:00Z'].collect { Instant.parse(it) }
+        !clock.isBound()
+    }
+
+    void "Verify calls return results and restore bindings on failure"() {
+        given:
+        ContextClock clock = new ContextClock(fixed('2022-01-20T12:00:00Z'))
+
+        expect:
+        clock.callWith(fixed('2030-01-01T00:00:00Z'), { clock.instant() } as Callable<Instant>) == Instant.parse('2030-01-01T00:00:00Z')
+
+        when:
+        clock.callWith(fixed('2030-01-01T00:00:00Z'), { throw new IOException('failure') } as Callable<Instant>)
+
+        then:
+        thrown(IOException)
+        !clock.isBound()
+        clock.instant() == Instant.parse('2022-01-20T12:00:00Z')
+    }
+
+    void "Verify concurrent threads read their own timelines"() {
+        given:
+        ContextClock clock = new ContextClock(Clock.systemUTC())
+        int threadCount = 64
+        CountDownLatch latch = new CountDownLatch(threadCount)
+        Map<Integer, Boolean> results = new ConcurrentHashMap<>()
+
+        when:
+        List<Thread> threads = (0..<threadCount).collect { int index ->
+            Thread.start {
+                Clock tenantClock = Clock.offset(Clock.systemUTC(), Duration.ofDays(index))
+                clock.runWith(tenantClock) {
+                    latch.countDown()
+                    latch.await()
+                    results[index] = (0..<1_000).every {
+                        Math.abs(Duration.between(Instant.now(), clock.instant()).toDays() - index) <= 1
+                    }
+                }
+            }
+        }
+        threads*.join()
+
+        then:
+        results.size() == threadCount
+        results.values().every { it }
+    }
+
+    void "Verify variants in other zones share the bindings"() {
+        given:
+        ContextClock clock = new ContextClock(fixed('2022-01-20T12:00:00Z'))
+        Clock zonedClock = clock.withZone(ZoneId.of('Europe/Copenhagen'))
+
+        expect:
+        zonedClock.zone == ZoneId.of('Europe/Copenhagen')
+        zonedClock.withZone(ZoneId.of('Europe/Copenhagen')).is(zonedClock)
+        clock.callWith(fixed('2030-01-01T00:00:00Z'), { zonedClock.instant() } as Callable<Instant>) == Instant.parse('2030-01-01T00:00:00Z')
+        zonedClock.instant() == Instant.parse('2022-01-20T12:00:00Z')
+    }
+
+    void "Verify the default clock is declared by the environment"() {
+        given:
+        System.setProperty('clock', 'fixed(instant=2022-01-20T12:00:00Z,zone=UTC)')
+
+        when:
+        ContextClock clock = new ContextClock()
+
+        then:
+        clock.instant() == Instant.parse('2022-01-20T12:00:00Z')
+
+        cleanup:
+        System.clearProperty('clock')
+    }
+}
@@ -5,6 +5,7 @@ import spock.lang.Unroll
 
 import java.time.Clock
 import java.time.Duration
+import java.time.Instant
 import java.time.LocalDate
 import java.time.LocalDateTime
 import java.time.ZoneId
@@ -56,4 +57,53 @@ class DurationsSpec extends Specification {
             '2022-01-20' | '2022-01-25T12:00' | Duration.ofDays(4).plusHours(12)
             '2022-07-20' | '2022-07-25T12:00' | Duration.ofDays(4).plusHours(12)
     }
+
+    @Unroll
+    void "Computing durations of columns in bulk"() {
+        given:
+            ZoneId zoneId = ZoneId.of(zone)
+            Random random = new Random(1234L)
+            int[] startEpochDays = new int[length]
+            long[] endEpochMillis = new long[length]
+            for (int i = 0; i < length; i++) {
+                startEpochDays[i] = (int)LocalDate.of(1970, 1, 1).plusDays(random.nextInt(40_000)).toEpochDay()
+                endEpochMillis[i] = LocalDate.of(2080, 1, 1).toEpochDay() * 86_400_000L + random.nextInt(1_000_000_000)
+            }
+            Instant endInstant = Instant.parse('2080-03-30T12:34:56.789Z')
+
+        when:
+            long[] nanos = new long[length]
+            long[] seconds = new long[length]
+            long[] nanosToInstant = new long[length]
+            long[] secondsToInstant = new long[length]
+            Durations.getDurationNanosFromStartDateExclusive(startEpochDays, zoneId, endEpochMillis, nanos)
+            Durations.getDurationSecondsFromStartDateExclusive(startEpochDays, zoneId, endEpochMillis, seconds)
+            Durations.getDurationNanosFromStartDateExclusive(startEpochDays, zoneId, endInstant, nanosToInstant)
+            Durations.getDurationSecondsFromStartDateExclusive(startEpochDays, zoneId, endInstant, secondsToInstant)
+
+        then:
+            (0..<length).every { int i ->
+                LocalDate startDate = LocalDate.ofEpochDay(startEpochDays[i])
+                Duration duration = Durations.getDurationFromStartDateExclusive(startDate, zoneId, Instant.ofEpochMilli(endEpochMillis[i]))
+                Duration durationToInstant = Durations.getDurationFromStartDateExclusive(startDate, zoneId, endInstant)
+                nanos[i] == duration.toNanos() &&
+                seconds[i] == duration.seconds &&
+                nanosToInstant[i] == durationToInstant.toNanos() &&
+                secondsToInstant[i] == durationToInstant.seconds
+            }
+
+        where:
+            zone                | length
+            'UTC'               | 1_000
+            'Europe/Copenhagen' | 1_000
+            'Europe/Copenhagen' | Durations.PARALLEL_THRESHOLD * 3 + 17
+    }
+
+    void "Computing durations of columns of different lengths is rejected"() {
+        when:
+            Durations.getDurationNanosFromStartDateExclusive(new int[2], ZoneId.of('UTC'), new long[3], new long[2])
+
+        then:
+            thrown(IllegalArgumentException)
+    }
 }
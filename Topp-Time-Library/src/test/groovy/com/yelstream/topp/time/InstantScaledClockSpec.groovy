@@ -6,6 +6,7 @@ import spock.lang.Unroll
 import java.time.Clock
 import java.time.Duration
 import java.time.Instant
+import java.time.ZoneOffset
 
 /**
  * <p>
@@ -129,4 +130,58 @@ class InstantScaledClockSpec extends Specification {
         _ | { Duration d -> d.multipliedBy(10000) }          | Duration.ofMillis(12500L)  | Duration.ofMillis(125000000)
         _ | { Duration d -> d.multipliedBy(10000) }          | Duration.ofMillis(15000L)  | Duration.ofMillis(150000000)
     }
+
+    @Unroll
+    void "Verify primitive read path matching instant read path"() {
+        given:
+        Instant initialTimestamp = Instant.parse('2022-01-20T12:00:00Z')
+        Clock clock = Clock.fixed(initialTimestamp + durationToAdd, ZoneOffset.UTC)
+
+        when:
+        InstantScaledClock scaledClock = new InstantScaledClock(clock, scaleOperator, initialTimestamp)
+
+        then:
+        EpochNanos.toInstant(scaledClock.epochNanos()) == scaledClock.getScaledTimestamp(clock.instant())
+        scaledClock.millis() == scaledClock.getScaledTimestamp(clock.instant()).toEpochMilli()
+
+        where:
+        _ | scaleOperator                                    | durationToAdd
+        _ | { Duration d -> d.dividedBy(1000) }              | Duration.ofMillis(1234567L)
+        _ | { Duration d -> d.multipliedBy(3).dividedBy(2) } | Duration.ofNanos(1000000001L)
+        _ | { Duration d -> d.negated() }                    | Duration.ofMillis(1500L)
+        _ | { Duration d -> d.multipliedBy(3600) }           | Duration.ofDays(-1).plusNanos(7)
+    }
+
+    @Unroll
+    void "Verify reading times outside the range of nanoseconds since the epoch"() {
+        given:
+        Clock clock = Clock.fixed(Instant.parse(reference), ZoneOffset.UTC)
+        Instant expected = Instant.parse(initialTimestamp) + Duration.between(Instant.parse(initialTimestamp), clock.instant()).multipliedBy(2L)
+
+        when:
+        InstantScaledClock scaledClock = new InstantScaledClock(clock, Scale.of(2L), Instant.parse(initialTimestamp))
+
+        then:
+        scaledClock.instant() == expected
+        scaledClock.millis() == expected.toEpochMilli()
+
+        where:
+        reference              | initialTimestamp
+        '1600-01-01T00:00:00Z' | '1600-01-01T00:00:00Z'
+        '1600-01-01T01:00:00Z' | '1600-01-01T00:00:00Z'
+        '2022-01-01T00:00:00Z' | '2000-01-01T00:00:00Z'
+        '2200-01-01T00:00:00Z' | '2000-01-01T00:00:00Z'
+    }
+
+    void "Verify initial timestamp outside the range of nanoseconds since the epoch taken from the reference clock"() {
+        given:
+        Clock clock = Clock.fixed(Instant.parse('1600-01-01T00:00:00Z'), ZoneOffset.UTC)
+
+        when:
+        InstantScaledClock scaledClock = new InstantScaledClock(clock, Scale.of(2L))
+
+        then:
+        scaledClock.instant() == Instant.parse('1600-01-01T00:00:00Z')
+        scaledClock.millis() == Instant.parse('1600-01-01T00:00:00Z').toEpochMilli()
+    }
 }
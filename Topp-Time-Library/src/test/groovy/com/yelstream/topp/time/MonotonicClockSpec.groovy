@@ -0,0 +1,127 @@
+package com.yelstream.topp.time
+
+import com.yelstream.topp.time.declare.ClockDeclaration
+import spock.lang.Specification
+
+import java.time.Clock
+import java.time.Duration
+import java.time.Instant
+import java.time.InstantSource
+import java.time.ZoneId
+import java.time.ZoneOffset
+import java.util.function.LongSupplier
+
+/**
+ * <p>
+ * Test suite addressing {@link MonotonicClock}.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class MonotonicClockSpec extends Specification {
+    static final Instant T0 = Instant.parse('2022-01-20T12:00:00Z')
+
+    Instant wall = T0
+    long nanoTime = 1_000_000L
+
+    MonotonicClock createClock(Duration resyncInterval, Duration maximumCorrection) {
+        new MonotonicClock(ZoneOffset.UTC, resyncInterval, maximumCorrection, { -> wall } as InstantSource, { -> nanoTime } as LongSupplier)
+    }
+
+    void "Verify steps of wall time are not seen"() {
+        given:
+        MonotonicClock clock = createClock(null, null)
+
+        when:
+        nanoTime += 5_000_000_000L
+        wall = T0.minusSeconds(3600L)
+
+        then:
+        clock.instant() == T0.plusSeconds(5L)
+        clock.epochNanos() == EpochNanos.of(T0.plusSeconds(5L))
+        clock.millis() == T0.plusSeconds(5L).toEpochMilli()
+    }
+
+    void "Verify re-synchronization is bounded and slewed"() {
+        given:
+        MonotonicClock clock = createClock(Duration.ofSeconds(10L), Duration.ofMillis(100L))
+
+        when:
+        nanoTime += 10_000_000_000L
+        wall = T0.plusSeconds(11L)
+
+        then:
+        clock.instant() == T0.plusSeconds(10L)
+
+        when:
+        nanoTime += 5_000_000_000L
+
+        then:
+        clock.instant() == T0.plusSeconds(15L).plusMillis(50L)
+
+        when:
+        nanoTime += 5_000_000_000L
+        wall = T0
+
+        then:
+        clock.instant() == T0.plusSeconds(20L).plusMillis(100L)
+
+        when:
+        nanoTime += 10_000_000_000L
+
+        then:
+        clock.instant() == T0.plusSeconds(30L)
+    }
+
+    void "Verify time never moves backwards when slewing back"() {
+        given:
+        MonotonicClock clock = createClock(Duration.ofSeconds(1L), Duration.ofMillis(500L))
+        wall = T0.minusSeconds(3600L)
+        long previous = clock.epochNanos()
+
+        expect:
+        (1..1000).every {
+            nanoTime += 7_000_000L
+            long current = clock.epochNanos()
+            boolean increasing = current >= previous
+            previous = current
+            increasing
+        }
+    }
+
+    void "Verify clocks in other zones share the timeline"() {
+        given:
+        MonotonicClock clock = createClock(null, null)
+        Clock zonedClock = clock.withZone(ZoneId.of('Europe/Copenhagen'))
+
+        when:
+        nanoTime += 1_000L
+
+        then:
+        zonedClock.zone == ZoneId.of('Europe/Copenhagen')
+        zonedClock.instant() == T0.plusNanos(1_000L)
+    }
+
+    void "Verify invalid re-synchronization settings are rejected"() {
+        when:
+        new MonotonicClock(ZoneOffset.UTC, Duration.ofSeconds(1L), Duration.ofSeconds(1L))
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    void "Verify monotonic clocks are declarable"() {
+        when:
+        Clock clock = ClockDeclaration.createClock('monotonic(zone=UTC,resync=PT1M)')
+        Instant instant0 = clock.instant()
+        Instant instant1 = clock.instant()
+
+        then:
+        clock instanceof MonotonicClock
+        clock.zone == ZoneId.of('UTC')
+        ((MonotonicClock)clock).resyncInterval == Duration.ofMinutes(1L)
+        !instant1.isBefore(instant0)
+        Duration.between(Instant.now(), instant0).abs() < Duration.ofMinutes(1L)
+    }
+}
@@ -0,0 +1,137 @@
+package com.yelstream.topp.time
+
+import com.yelstream.topp.time.declare.ClockDeclaration
+import spock.lang.Specification
+
+import java.time.Clock
+import java.time.Duration
+import java.time.Instant
+import java.time.ZoneId
+import java.time.ZoneOffset
+
+/**
+ * <p>
+ * Test suite addressing {@link RandomClock}.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class RandomClockSpec extends Specification {
+    private static final Clock FIXED_CLOCK = Clock.fixed(Instant.parse('2022-01-20T12:00:00Z'), ZoneOffset.UTC)
+    private static final long FIXED_NANOS = EpochNanos.of(FIXED_CLOCK)
+
+    void "Verify jitter is reproducible for a seed"() {
+        given:
+        RandomClock clock0 = new RandomClock(FIXED_CLOCK, Duration.ofMillis(5), 42L)
+        RandomClock clock1 = new RandomClock(FIXED_CLOCK, Duration.ofMillis(5), 42L)
+        RandomClock clock2 = new RandomClock(FIXED_CLOCK, Duration.ofMillis(5), 43L)
+
+        when:
+        List<Long> readings0 = (0..<100).collect { clock0.epochNanos() }
+        List<Long> readings1 = (0..<100).collect { clock1.epochNanos() }
+        List<Long> readings2 = (0..<100).collect { clock2.epochNanos() }
+
+        then:
+        readings0 == readings1
+        readings0 != readings2
+        readings0.toSet().size() > 90
+    }
+
+    void "Verify jitter is within bounds and follows the distribution"() {
+        given:
+        RandomClock clock = new RandomClock(FIXED_CLOCK, Duration.ofNanos(-1_000), Duration.ofNanos(3_000), distribution, 7L)
+
+        when:
+        List<Long> jitters = (0..<20_000).collect { clock.epochNanos() - FIXED_NANOS }
+        double mean = jitters.sum() / jitters.size()
+
+        then:
+        jitters.every { it >= -1_000L && it <= 3_000L }
+        Math.abs(mean - expectedMean) < 50.0
+
+        where:
+        distribution                          | expectedMean
+        RandomClock.Distribution.Uniform      | 1_000.0
+        RandomClock.Distribution.Gaussian     | 1_000.0
+        RandomClock.Distribution.Exponential  | 0.0
+    }
+
+    void "Verify a range of zero adds a fixed jitter"() {
+        given:
+        RandomClock clock = new RandomClock(FIXED_CLOCK, Duration.ofNanos(250), Duration.ofNanos(250), RandomClock.Distribution.Gaussian, 1L)
+
+        expect:
+        clock.epochNanos() == FIXED_NANOS + 250
+        clock.instant() == FIXED_CLOCK.instant().plusNanos(250)
+    }
+
+    void "Verify threads draw from separate, reproducible streams"() {
+        given:
+        Closure<List<List<Long>>> readInThreads = {
+            RandomClock clock = new RandomClock(FIXED_CLOCK, Duration.ofMillis(5), 42L)
+            (0..<3).collect {
+                List<Long> readings = []
+                Thread thread = Thread.start { 50.times { readings << clock.epochNanos() } }
+                thread.join()
+                readings
+            }
+        }
+
+        when:
+        List<List<Long>> readings0 = readInThreads()
+        List<List<Long>> readings1 = readInThreads()
+
+        then:
+        readings0 == readings1
+        readings0.toSet().size() == 3
+    }
+
+    void "Verify variants in other zones share the streams of jitter"() {
+        given:
+        RandomClock clock0 = new RandomClock(FIXED_CLOCK, Duration.ofMillis(5), 42L)
+        RandomClock clock1 = new RandomClock(FIXED_CLOCK, Duration.ofMillis(5), 42L)
+        Clock zonedClock = clock0.withZone(ZoneId.of('Europe/Copenhagen'))
+
+        expect:
+        zonedClock.zone == ZoneId.of('Europe/Copenhagen')
+        [clock0.epochNanos(), (zonedClock as RandomClock).epochNanos(), clock0.epochNanos()] == (0..<3).collect { clock1.epochNanos() }
+        ClockChains.getChain(zonedClock).size() == 2
+    }
+
+    void "Verify random clocks are declared"() {
+        when:
+        Clock clock = new ClockDeclaration('systemInZoneUTC(jitter=PT0.005S,seed=42)').toClock()
+        long jitter = EpochNanos.of(clock) - EpochNanos.of(Clock.systemUTC())
+
+        then:
+        clock instanceof RandomClock
+        (clock as RandomClock).distribution == RandomClock.Distribution.Uniform
+        Math.abs(jitter) < Duration.ofMillis(50).toNanos()
+
+        expect:
+        new ClockDeclaration('fixed(instant=2022-01-20T12:00:00Z,zone=UTC,seed=42,jitter=PT1S)').toClock().instant() == new ClockDeclaration('fixed(instant=2022-01-20T12:00:00Z,zone=UTC,jitter=PT1S,seed=42)').toClock().instant()
+        new ClockDeclaration('fixed(instant=2022-01-20T12:00:00Z,zone=UTC,seed=42,distribution=GAUSSIAN,jitter=PT1S)').toClockConfiguration().toClockDeclaration().declaration == 'fixed(zone=UTC,instant=2022-01-20T12:00:00Z,jitter=PT1S,distribution=gaussian,seed=42)'
+        !new ClockDeclaration('fixed(instant=2022-01-20T12:00:00Z,zone=UTC,jitter=PT1S)').toClockConfiguration().isShareable()
+    }
+
+    void "Verify invalid jitter is rejected"() {
+        when:
+        new RandomClock(FIXED_CLOCK, Duration.ofNanos(1), Duration.ofNanos(0), RandomClock.Distribution.Uniform, 1L)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        when:
+        new ClockDeclaration('systemInZoneUTC(seed=42)').toClock()
+
+        then:
+        thrown(IllegalStateException)
+
+        when:
+        new ClockDeclaration('systemInZoneUTC(jitter=PT1S,distribution=poisson)').toClock()
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+}
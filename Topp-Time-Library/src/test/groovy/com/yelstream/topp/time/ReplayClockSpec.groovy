@@ -0,0 +1,138 @@
+package com.yelstream.topp.time
+
+import com.yelstream.topp.time.declare.ClockDeclaration
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.time.Clock
+import java.time.ZoneId
+import java.time.ZoneOffset
+import java.util.function.LongSupplier
+
+/**
+ * <p>
+ * Test suite addressing {@link ReplayClock}.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class ReplayClockSpec extends Specification {
+    private static final long T0 = 1_700_000_000_000_000_000L
+
+    @TempDir
+    Path directory
+
+    private Path trace(long... epochNanos) {
+        Path file = directory.resolve('trace.bin')
+        ReplayClock.writeTrace(file, epochNanos)
+        return file
+    }
+
+    void "Verify timestamps are replayed per read across segments"() {
+        given:
+        Path file = trace(T0, T0 + 5, T0 + 5, T0 + 7, T0 + 100)
+        ReplayClock clock = new ReplayClock(file, ZoneOffset.UTC, ReplayClock.Mode.PerRead, null, 2, System::nanoTime)
+
+        expect:
+        clock.length == 5
+        (0..<7).collect { clock.epochNanos() } == [T0, T0 + 5, T0 + 5, T0 + 7, T0 + 100, T0 + 100, T0 + 100]
+        clock.position == 4
+    }
+
+    void "Verify timestamps are replayed by scaled elapsed time"() {
+        given:
+        long now = 0L
+        Path file = trace(T0, T0 + 100, T0 + 200, T0 + 1_000, T0 + 1_010, T0 + 5_000)
+        ReplayClock clock = new ReplayClock(file, ZoneOffset.UTC, ReplayClock.Mode.Elapsed, Scale.of(10), 4, { -> now } as LongSupplier)
+
+        expect:
+        [0L, 9L, 10L, 99L, 101L, 499L, 500L, Long.MAX_VALUE].collect { now = it; clock.epochNanos() - T0 } == [0L, 0L, 100L, 200L, 1_010L, 1_010L, 5_000L, 5_000L]
+        clock.position == 5
+    }
+
+    void "Verify lookups match a linear search of a long trace"() {
+        given:
+        Random random = new Random(42L)
+        long[] timestamps = new long[10_000]
+        long value = T0
+        for (int i = 0; i < timestamps.length; i++) {
+            value += random.nextInt(3) == 0 ? 0L : random.nextInt(1_000)
+            timestamps[i] = value
+        }
+        long now = 0L
+        ReplayClock clock = new ReplayClock(trace(timestamps), ZoneOffset.UTC, ReplayClock.Mode.Elapsed, null, 64, { -> now } as LongSupplier)
+
+        expect:
+        (0..<2_000).every {
+            now += random.nextInt(5_000)
+            long expected = timestamps.findAll { it <= timestamps[0] + now }.max()
+            clock.epochNanos() == expected
+        }
+    }
+
+    void "Verify variants in other zones share the position in the trace"() {
+        given:
+        ReplayClock clock = new ReplayClock(trace(T0, T0 + 1, T0 + 2), ZoneOffset.UTC, ReplayClock.Mode.PerRead, null)
+        Clock zonedClock = clock.withZone(ZoneId.of('Europe/Copenhagen'))
+
+        expect:
+        clock.instant() == EpochNanos.toInstant(T0)
+        zonedClock.instant() == EpochNanos.toInstant(T0 + 1)
+        clock.millis() == EpochNanos.toEpochMillis(T0 + 2)
+        zonedClock.zone == ZoneId.of('Europe/Copenhagen')
+    }
+
+    void "Verify replay clocks are declared"() {
+        given:
+        Path file = trace(T0, T0 + 1, T0 + 2)
+
+        when:
+        Clock clock = new ClockDeclaration("replay(file=${file},multiplyBy=10)").toClock()
+
+        then:
+        clock instanceof ReplayClock
+        (clock as ReplayClock).mode == ReplayClock.Mode.Elapsed
+        (clock as ReplayClock).scaleOperator == Scale.of(10)
+        clock.zone == ZoneId.systemDefault()
+
+        when:
+        clock = new ClockDeclaration("replay(file=${file},mode=perRead,zone=UTC)").toClock()
+
+        then:
+        (0..<3).collect { (clock as ReplayClock).epochNanos() } == [T0, T0 + 1, T0 + 2]
+        new ClockDeclaration("replay(mode=PERREAD,zone=UTC,file=${file})").toClockConfiguration().toClockDeclaration().declaration == "replay(zone=UTC,file=${file},mode=perRead)".toString()
+    }
+
+    void "Verify invalid traces are rejected"() {
+        given:
+        Path empty = Files.write(directory.resolve('empty.bin'), new byte[0])
+        Path partial = Files.write(directory.resolve('partial.bin'), new byte[12])
+
+        when:
+        new ReplayClock(empty, ZoneOffset.UTC, ReplayClock.Mode.PerRead, null)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        when:
+        new ReplayClock(partial, ZoneOffset.UTC, ReplayClock.Mode.PerRead, null)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        when:
+        new ReplayClock(directory.resolve('missing.bin'), ZoneOffset.UTC, ReplayClock.Mode.PerRead, null)
+
+        then:
+        thrown(UncheckedIOException)
+
+        when:
+        new ClockDeclaration('replay(mode=perRead)').toClock()
+
+        then:
+        thrown(IllegalStateException)
+    }
+}
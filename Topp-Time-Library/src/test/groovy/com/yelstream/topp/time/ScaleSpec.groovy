@@ -0,0 +1,91 @@
+package com.yelstream.topp.time
+
+import com.yelstream.topp.time.declare.ClockDeclaration
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.time.Clock
+import java.time.Duration
+import java.time.Instant
+import java.time.ZoneOffset
+
+/**
+ * <p>
+ * Test suite addressing {@link Scale}.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class ScaleSpec extends Specification {
+    @Unroll
+    void "Verify reduction of scale factors"() {
+        when:
+        Scale scale = Scale.of(numerator, denominator)
+
+        then:
+        scale.numerator == expectedNumerator
+        scale.denominator == expectedDenominator
+
+        where:
+        numerator | denominator | expectedNumerator | expectedDenominator
+        1         | 1           | 1                 | 1
+        6         | 4           | 3                 | 2
+        -6        | 4           | -3                | 2
+        6         | -4          | -3                | 2
+        -6        | -4          | 3                 | 2
+        0         | 7           | 0                 | 1
+        3600      | 60          | 60                | 1
+    }
+
+    @Unroll
+    void "Verify scaling of durations matches chained duration arithmetic"() {
+        expect:
+        scale.apply(duration) == expectedDuration
+
+        where:
+        scale                                        | duration                    | expectedDuration
+        Scale.of(3).dividedBy(2)                     | Duration.ofMillis(1000L)    | Duration.ofMillis(1000L).multipliedBy(3).dividedBy(2)
+        Scale.IDENTITY.dividedBy(10000)              | Duration.ofMillis(12345L)   | Duration.ofMillis(12345L).dividedBy(10000)
+        Scale.IDENTITY.negated()                     | Duration.ofNanos(1L)        | Duration.ofNanos(-1L)
+        Scale.of(7).dividedBy(3)                     | Duration.ofNanos(-10L)      | Duration.ofNanos(-10L).multipliedBy(7).dividedBy(3)
+        Scale.of(3600)                               | Duration.ofDays(365 * 200)  | Duration.ofDays(365 * 200).multipliedBy(3600)
+        Scale.of(Long.MAX_VALUE).dividedBy(3)        | Duration.ofNanos(100L)      | Duration.ofNanos(100L).multipliedBy(Long.MAX_VALUE).dividedBy(3)
+    }
+
+    void "Verify 128-bit scaling of nanoseconds against arbitrary precision arithmetic"() {
+        given:
+        Random random = new Random(42L)
+
+        expect:
+        (1..10000).every {
+            long value = random.nextLong() >> random.nextInt(64)
+            long numerator = random.nextLong() >> random.nextInt(64)
+            long denominator = Math.max(1L, Math.abs(random.nextLong() >> random.nextInt(64)))
+            BigInteger expected = BigInteger.valueOf(value) * BigInteger.valueOf(numerator) / BigInteger.valueOf(denominator)
+            if (expected.bitLength() < 64) {
+                Scale.multiplyDivide(value, numerator, denominator) == expected.longValue()
+            } else {
+                try {
+                    Scale.multiplyDivide(value, numerator, denominator)
+                    false
+                } catch (ArithmeticException ignored) {
+                    true
+                }
+            }
+        }
+    }
+
+    void "Verify scaled clocks compare equal by value"() {
+        given:
+        Clock clock = Clock.fixed(Instant.parse('2022-01-20T12:00:00Z'), ZoneOffset.UTC)
+        Instant timestamp0 = Instant.parse('2022-01-20T00:00:00Z')
+
+        expect:
+        new InstantScaledClock(clock, Scale.of(6, 4), timestamp0) == new InstantScaledClock(clock, Scale.of(3, 2), timestamp0)
+        new InstantScaledClock(clock, Scale.of(6, 4), timestamp0).hashCode() == new InstantScaledClock(clock, Scale.of(3, 2), timestamp0).hashCode()
+        new InstantScaledClock(clock, Scale.of(3, 2), timestamp0) != new InstantScaledClock(clock, Scale.of(2, 3), timestamp0)
+        ClockDeclaration.createClock('fixed(instant=2022-01-20T12:00:00Z,zone=UTC,multiplyBy=6,divideBy=4)') ==
+            ClockDeclaration.createClock('fixed(instant=2022-01-20T12:00:00Z,zone=UTC,divideBy=2,multiplyBy=3)')
+    }
+}
@@ -0,0 +1,122 @@
+package com.yelstream.topp.time
+
+import spock.lang.Specification
+
+import java.lang.invoke.MethodHandles
+import java.lang.invoke.MutableCallSite
+import java.time.Clock
+import java.time.Instant
+import java.time.ZoneId
+import java.time.ZoneOffset
+import java.util.concurrent.atomic.AtomicBoolean
+
+/**
+ * <p>
+ * Test suite addressing {@link SwitchableProxyClock}.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class SwitchableProxyClockSpec extends Specification {
+    private static Clock fixed(String instant) {
+        return Clock.fixed(Instant.parse(instant), ZoneOffset.UTC)
+    }
+
+    void "Verify proxies are instances of hidden classes of their own"() {
+        given:
+        SwitchableProxyClock clock0 = SwitchableProxyClock.of(fixed('2022-01-20T12:00:00Z'))
+        SwitchableProxyClock clock1 = SwitchableProxyClock.of(fixed('2030-01-01T00:00:00Z'))
+
+        expect:
+        clock0.class.isHidden()
+        clock1.class.isHidden()
+        clock0.class != clock1.class
+        clock0.instant() == Instant.parse('2022-01-20T12:00:00Z')
+        clock1.instant() == Instant.parse('2030-01-01T00:00:00Z')
+        clock0.epochNanos() == EpochNanos.of(Instant.parse('2022-01-20T12:00:00Z'))
+    }
+
+    void "Verify switches are visible and return the previous target"() {
+        given:
+        Clock clock0 = fixed('2022-01-20T12:00:00Z')
+        Clock clock1 = fixed('2030-01-01T00:00:00Z').withZone(ZoneId.of('Europe/Copenhagen'))
+        SwitchableProxyClock clock = SwitchableProxyClock.of(clock0)
+
+        when:
+        Clock previousClock = clock.switchTo(clock1)
+
+        then:
+        previousClock.is(clock0)
+        clock.clock.is(clock1)
+        clock.instant() == Instant.parse('2030-01-01T00:00:00Z')
+        clock.millis() == Instant.parse('2030-01-01T00:00:00Z').toEpochMilli()
+        clock.zone == ZoneId.of('Europe/Copenhagen')
+        clock.withZone(ZoneOffset.UTC).instant() == Instant.parse('2030-01-01T00:00:00Z')
+        ClockChains.getChain(clock).size() == 2
+    }
+
+    void "Verify concurrent readers see the targets switched"() {
+        given:
+        Clock clock0 = fixed('2022-01-20T12:00:00Z')
+        Clock clock1 = fixed('2030-01-01T00:00:00Z')
+        SwitchableProxyClock clock = SwitchableProxyClock.of(clock0)
+        AtomicBoolean running = new AtomicBoolean(true)
+        AtomicBoolean failed = new AtomicBoolean()
+        AtomicBoolean seenSwitch = new AtomicBoolean()
+
+        when:
+        List<Thread> readers = (0..<4).collect {
+            Thread.start {
+                while (running.get()) {
+                    Instant instant = clock.instant()
+                    if (instant == clock1.instant()) {
+                        seenSwitch.set(true)
+                    } else if (instant != clock0.instant()) {
+                        failed.set(true)
+                    }
+                }
+            }
+        }
+        1_000.times { clock.switchTo(it % 2 == 0 ? clock1 : clock0) }
+        clock.switchTo(clock1)
+        long deadline = System.nanoTime() + 5_000_000_000L
+        while (!seenSwitch.get() && System.nanoTime() < deadline) {
+            Thread.sleep(1)
+        }
+        running.set(false)
+        readers*.join()
+
+        then:
+        !failed.get()
+        seenSwitch.get()
+        clock.instant() == clock1.instant()
+    }
+
+    void "Verify proxies holding the call site in an instance field behave the same"() {
+        given:
+        Clock clock0 = fixed('2022-01-20T12:00:00Z')
+        SwitchableProxyClock clock = new SwitchableProxyClock(new MutableCallSite(MethodHandles.constant(Clock, clock0)), clock0)
+
+        when:
+        clock.switchTo(fixed('2030-01-01T00:00:00Z'))
+
+        then:
+        !clock.class.isHidden()
+        clock.instant() == Instant.parse('2030-01-01T00:00:00Z')
+    }
+
+    void "Verify targets must not be null"() {
+        when:
+        SwitchableProxyClock.of(null)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        when:
+        SwitchableProxyClock.of(Clock.systemUTC()).switchTo(null)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+}
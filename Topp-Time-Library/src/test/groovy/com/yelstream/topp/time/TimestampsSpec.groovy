@@ -0,0 +1,112 @@
+package com.yelstream.topp.time
+
+import com.yelstream.topp.time.declare.ClockDeclaration
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+import java.nio.LongBuffer
+import java.time.Clock
+import java.time.Duration
+import java.time.Instant
+import java.time.ZoneOffset
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+/**
+ * <p>
+ * Test suite addressing {@link Timestamps} and {@link TimestampSequence}.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class TimestampsSpec extends Specification {
+    static final Instant T0 = Instant.parse('2022-01-20T12:00:00.123456789Z')
+
+    void "Verify arrays are filled by a single reading"() {
+        given:
+        Clock clock = ClockDeclaration.createClock('fixed(instant=2022-01-20T12:00:00.123456789Z,zone=UTC,offset=PT1H)')
+        long[] nanos = new long[5]
+        long[] millis = new long[5]
+
+        when:
+        Timestamps.fillEpochNanos(clock, nanos, 1, 4)
+        Timestamps.fillEpochMillis(clock, millis)
+
+        then:
+        nanos == [0L, EpochNanos.of(T0.plusSeconds(3600L)), EpochNanos.of(T0.plusSeconds(3600L)), EpochNanos.of(T0.plusSeconds(3600L)), 0L] as long[]
+        millis.every { it == T0.plusSeconds(3600L).toEpochMilli() }
+    }
+
+    void "Verify buffers are filled from position to limit"() {
+        given:
+        Clock clock = Clock.fixed(T0, ZoneOffset.UTC)
+
+        when:
+        buffer.position(2).limit(6)
+        Timestamps.fillEpochNanos(clock, buffer)
+
+        then:
+        buffer.position() == 6
+        (0..<8).collect { buffer.duplicate().clear().get(it) } == [0L, 0L] + [EpochNanos.of(T0)] * 4 + [0L, 0L]
+
+        where:
+        buffer << [LongBuffer.allocate(8), ByteBuffer.allocateDirect(64).asLongBuffer()]
+    }
+
+    void "Verify sequences are strictly increasing within and across batches"() {
+        given:
+        TimestampSequence sequence = TimestampSequence.ofEpochMillis(Clock.fixed(T0, ZoneOffset.UTC))
+        long[] batch0 = new long[3]
+        LongBuffer batch1 = ByteBuffer.allocateDirect(24).asLongBuffer()
+
+        when:
+        sequence.fill(batch0)
+        sequence.fill(batch1)
+        long next = sequence.next()
+
+        then:
+        batch0 == [T0.toEpochMilli(), T0.toEpochMilli() + 1L, T0.toEpochMilli() + 2L] as long[]
+        (0..<3).collect { batch1.get(it) } == [T0.toEpochMilli() + 3L, T0.toEpochMilli() + 4L, T0.toEpochMilli() + 5L]
+        next == T0.toEpochMilli() + 6L
+    }
+
+    void "Verify sequences follow the source when it moves ahead"() {
+        given:
+        AdjustableClock clock = new AdjustableClock(Clock.fixed(T0, ZoneOffset.UTC))
+        TimestampSequence sequence = TimestampSequence.ofEpochNanos(clock)
+
+        when:
+        long timestamp0 = sequence.next()
+        clock.adjustBy(Duration.ofSeconds(1L))
+        long timestamp1 = sequence.next()
+
+        then:
+        timestamp0 == EpochNanos.of(T0)
+        timestamp1 == EpochNanos.of(T0.plusSeconds(1L))
+    }
+
+    void "Verify sequences are unique across threads"() {
+        given:
+        TimestampSequence sequence = TimestampSequence.ofEpochMillis(Clock.fixed(T0, ZoneOffset.UTC))
+        Set<Long> timestamps = ConcurrentHashMap.newKeySet()
+        def executor = Executors.newFixedThreadPool(4)
+
+        when:
+        4.times {
+            executor.submit({
+                1_000.times {
+                    long[] batch = new long[10]
+                    sequence.fill(batch)
+                    batch.each { timestamps.add(it) }
+                }
+            } as Runnable)
+        }
+        executor.shutdown()
+        executor.awaitTermination(30L, TimeUnit.SECONDS)
+
+        then:
+        timestamps.size() == 40_000
+    }
+}
@@ -0,0 +1,83 @@
+package com.yelstream.topp.time
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.time.Instant
+import java.time.LocalDateTime
+import java.time.ZoneId
+import java.time.ZoneOffset
+import java.time.ZonedDateTime
+
+/**
+ * <p>
+ * Test suite addressing {@link ZoneOffsetCache}.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class ZoneOffsetCacheSpec extends Specification {
+    @Unroll
+    void "Verify offsets of instants match zone rules"() {
+        given:
+        ZoneId zoneId = ZoneId.of(zone)
+        Random random = new Random(42L)
+
+        expect:
+        (1..20000).every {
+            long epochSecond = random.nextLong() % (200L * 365 * 86400)
+            ZoneOffsetCache.getOffsetSeconds(zoneId, epochSecond) == zoneId.rules.getOffset(Instant.ofEpochSecond(epochSecond)).totalSeconds
+        }
+
+        where:
+        zone << ['Europe/Copenhagen', 'America/New_York', 'Australia/Lord_Howe', 'Asia/Kolkata', 'UTC', '+05:30']
+    }
+
+    @Unroll
+    void "Verify resolution of local date-times matches zoned date-times"() {
+        given:
+        ZoneId zoneId = ZoneId.of(zone)
+        Random random = new Random(42L)
+
+        expect:
+        (1..20000).every {
+            long localEpochSecond = random.nextLong() % (200L * 365 * 86400)
+            LocalDateTime localDateTime = LocalDateTime.ofEpochSecond(localEpochSecond, 0, ZoneOffset.UTC)
+            ZoneOffsetCache.toEpochSecond(zoneId, localEpochSecond) == ZonedDateTime.of(localDateTime, zoneId).toEpochSecond()
+        }
+
+        where:
+        zone << ['Europe/Copenhagen', 'America/New_York', 'Australia/Lord_Howe', 'Asia/Kolkata', 'UTC', '+05:30']
+    }
+
+    @Unroll
+    void "Verify resolution of local date-times within gaps and overlaps"() {
+        given:
+        ZoneId zoneId = ZoneId.of('Europe/Copenhagen')
+        LocalDateTime localDateTime = LocalDateTime.parse(localDateTimeText)
+
+        expect:
+        ZoneOffsetCache.toEpochSecond(zoneId, localDateTime.toEpochSecond(ZoneOffset.UTC)) == ZonedDateTime.of(localDateTime, zoneId).toEpochSecond()
+
+        where:
+        localDateTimeText << ['2022-03-27T01:59:59', '2022-03-27T02:00', '2022-03-27T02:30', '2022-03-27T03:00',
+                              '2022-10-30T01:59:59', '2022-10-30T02:00', '2022-10-30T02:30', '2022-10-30T03:00',
+                              '1850-06-01T12:00', '2150-06-01T12:00']
+    }
+
+    void "Verify offsets are kept correct while zones beyond the maximum are evicted"() {
+        given:
+        ZoneOffsetCache.clear()
+        ZoneId hotZoneId = ZoneId.of('Europe/Copenhagen')
+        long epochSecond = Instant.parse('2022-06-01T12:00:00Z').epochSecond
+
+        expect:
+        ZoneId.availableZoneIds.size() > ZoneOffsetCache.MAXIMUM_ZONE_COUNT
+        ZoneId.availableZoneIds.sort().every { String zone ->
+            ZoneId zoneId = ZoneId.of(zone)
+            ZoneOffsetCache.getOffsetSeconds(zoneId, epochSecond) == zoneId.rules.getOffset(Instant.ofEpochSecond(epochSecond)).totalSeconds &&
+                ZoneOffsetCache.getOffsetSeconds(hotZoneId, epochSecond) == 7200
+        }
+    }
+}
@@ -5,6 +5,8 @@ import spock.lang.Unroll
 
 import java.time.Clock
 import java.time.Duration
+import java.time.Instant
+import java.time.ZoneOffset
 import java.time.ZonedDateTime
 
 /**
@@ -129,4 +131,16 @@ class ZonedDateTimeScaledClockSpec extends Specification {
             _ | { Duration d -> d.multipliedBy(10000) }          | Duration.ofMillis(12500L)  | Duration.ofMillis(125000000)
             _ | { Duration d -> d.multipliedBy(10000) }          | Duration.ofMillis(15000L)  | Duration.ofMillis(150000000)
     }
+
+    void "Verify reading times outside the range of nanoseconds since the epoch"() {
+        given:
+        Clock clock = Clock.fixed(Instant.parse('1600-01-01T01:00:00Z'), ZoneOffset.UTC)
+
+        when:
+        ZonedDateTimeScaledClock scaledClock = new ZonedDateTimeScaledClock(clock, Scale.of(2L), ZonedDateTime.parse('1600-01-01T00:00:00Z'))
+
+        then:
+        scaledClock.instant() == Instant.parse('1600-01-01T02:00:00Z')
+        scaledClock.millis() == Instant.parse('1600-01-01T02:00:00Z').toEpochMilli()
+    }
 }
@@ -0,0 +1,169 @@
+package com.yelstream.topp.time.build
+
+import com.yelstream.topp.time.AdjustableClock
+import com.yelstream.topp.time.Scale
+import com.yelstream.topp.time.declare.ClockDeclaration
+import spock.lang.Specification
+
+import java.time.Clock
+import java.time.Duration
+import java.time.Instant
+
+/**
+ * <p>
+ * Test suite addressing {@link ClockConfigurationCodec} and {@link ClockConfiguration#toClockDeclaration()}.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class ClockConfigurationCodecSpec extends Specification {
+    void "Verify declarations are converted to canonical declarations"() {
+        expect:
+        new ClockDeclaration(declaration).toClockConfiguration().toClockDeclaration().declaration == canonical
+
+        where:
+        declaration                                                                    | canonical
+        'SystemInZoneUTC'                                                              | 'systemInZoneUTC'
+        'systemInZone(zoneId=Europe/Copenhagen)'                                       | 'systemInZone(zone=Europe/Copenhagen)'
+        'fixed(zone=UTC,instant=2022-01-20T12:00:00Z,scale.multiplyBy=4,divideBy=6)'   | 'fixed(zone=UTC,instant=2022-01-20T12:00:00Z,multiplyBy=2,divideBy=3)'
+        'startingAtTime(localDateTime=2022-01-20T12:00,negate,multiplyBy=60)'          | 'startingAtTime(localDateTime=2022-01-20T12:00,multiplyBy=60,negate)'
+        'systemInZoneUTC(tickDuration=PT1S,offsetDuration=PT-1H)'                      | 'systemInZoneUTC(offset=PT-1H,tick=PT1S)'
+        'systemInZoneUTC(adjustable=false,coarseDuration=PT0.001S)'                    | 'systemInZoneUTC(adjustable=false,coarse=PT0.001S)'
+        'monotonic(resyncDuration=PT1M,adjustable)'                                    | 'monotonic(adjustable,resync=PT1M)'
+        'systemInZoneUTC(metered)'                                                     | 'systemInZoneUTC(metered)'
+        'systemInZoneUTC(metered="a,b\\"c")'                                           | 'systemInZoneUTC(metered="a,b\\"c")'
+        'systemInZoneUTC(multiplyBy=1)'                                                | 'systemInZoneUTC(multiplyBy=1)'
+    }
+
+    void "Verify canonical declarations are stable when parsed again"() {
+        given:
+        ClockConfiguration configuration=ClockConfiguration.builder()
+                .origin(ClockOrigin.Fixed)
+                .instant(Instant.parse('2022-01-20T12:00:00.123456789Z'))
+                .offsetDuration(Duration.ofNanos(-1))
+                .scaleOperator(Scale.of(-7, 3))
+                .adjustable(true)
+                .meterName('clock (main)')
+                .build()
+
+        when:
+        String canonical=configuration.toClockDeclaration().declaration
+
+        then:
+        canonical == 'fixed(instant=2022-01-20T12:00:00.123456789Z,offset=PT-0.000000001S,multiplyBy=7,divideBy=3,negate,adjustable,metered="clock (main)")'
+        new ClockDeclaration(canonical).toClockConfiguration().toClockDeclaration().declaration == canonical
+    }
+
+    void "Verify scale operators not being scale factors cannot be converted"() {
+        given:
+        ClockConfiguration configuration=ClockConfiguration.builder()
+                .origin(ClockOrigin.SystemInZoneUTC)
+                .scaleOperator({ Duration d -> d.multipliedBy(2) })
+                .build()
+
+        when:
+        configuration.toClockDeclaration()
+
+        then:
+        thrown(IllegalStateException)
+
+        when:
+        ClockConfigurationCodec.encode(configuration)
+
+        then:
+        thrown(IllegalStateException)
+    }
+
+    void "Verify configurations survive encoding and decoding"() {
+        given:
+        ClockConfiguration configuration=new ClockDeclaration(declaration).toClockConfiguration()
+
+        when:
+        byte[] bytes=ClockConfigurationCodec.encode(configuration)
+        ClockConfiguration decoded=ClockConfigurationCodec.decode(bytes)
+
+        then:
+        bytes.length <= maximumLength
+        decoded.toClockDeclaration().declaration == configuration.toClockDeclaration().declaration
+
+        where:
+        declaration                                                                              | maximumLength
+        'systemInZoneUTC'                                                                        | 3
+        'systemInZone(zone=Europe/Copenhagen,adjustable)'                                        | 24
+        'fixed(zone=UTC,instant=2022-01-20T12:00:00.5Z,multiplyBy=2,divideBy=3)'                | 24
+        'fixed(instant=1900-01-01T00:00:00Z,offset=PT-1H,tick=PT0.000000001S,multiplyBy=1)'     | 24
+        'startingAtTime(localDateTime=2022-01-20T12:00:00.000000001,zone=UTC,negate)'           | 24
+        'monotonic(zone=UTC,resync=PT1M,coarse=PT0.001S,adjustable=false,metered="a,b\\"c")'    | 32
+        'replay(file=/var/trace.bin,mode=perRead,multiplyBy=10)'                               | 24
+        'systemInZoneUTC(jitter=PT0.005S,distribution=exponential,seed=-42)'                    | 16
+    }
+
+    void "Verify decoded configurations create matching clocks"() {
+        given:
+        ClockConfiguration configuration=new ClockDeclaration('fixed(zone=Europe/Copenhagen,instant=2022-01-20T12:00:00Z,offset=PT1H,multiplyBy=10)').toClockConfiguration()
+
+        when:
+        ClockConfiguration decoded=ClockConfigurationCodec.decode(ClockConfigurationCodec.encode(configuration))
+
+        then:
+        decoded.toClock().instant() == configuration.toClock().instant()
+        decoded.toClock().zone == configuration.toClock().zone
+        decoded.scaleOperator == Scale.of(10, 1)
+    }
+
+    void "Verify adjusted timelines continue in clocks created from decoded configurations"() {
+        given:
+        ClockConfiguration configuration=new ClockDeclaration('fixed(zone=UTC,instant=2022-01-20T12:00:00Z,adjustable)').toClockConfiguration()
+        AdjustableClock clock=(AdjustableClock)configuration.toClock()
+        clock.adjustBy(Duration.ofHours(1))
+        clock.setRate(Scale.of(3, 2))
+
+        when:
+        byte[] bytes=ClockConfigurationCodec.encode(configuration, clock)
+        ClockConfiguration decoded=ClockConfigurationCodec.decode(bytes)
+        AdjustableClock decodedClock=(AdjustableClock)decoded.toClock()
+
+        then:
+        bytes.length <= 48
+        decoded.adjustment == clock.adjustment
+        decodedClock.adjustment == clock.adjustment
+        decodedClock.instant() == clock.instant()
+        decoded.toClockDeclaration().declaration == configuration.toClockDeclaration().declaration
+    }
+
+    void "Verify adjustments require adjustable configurations"() {
+        given:
+        ClockConfiguration configuration=new ClockDeclaration('systemInZoneUTC').toClockConfiguration()
+
+        when:
+        ClockConfigurationCodec.encode(configuration, new AdjustableClock(Clock.systemUTC()))
+
+        then:
+        thrown(IllegalStateException)
+
+        when:
+        configuration.toBuilder().adjustment(AdjustableClock.Adjustment.ofOffsetNanos(1L)).build().toClock()
+
+        then:
+        thrown(IllegalStateException)
+    }
+
+    void "Verify invalid encodings are rejected"() {
+        when:
+        ClockConfigurationCodec.decode(bytes as byte[])
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        bytes << [
+                [],
+                [2, 0, 0],
+                [1, 99, 0],
+                [1, 0, 0x80, 0x10],
+                [1, 3, 1, 5, 0x55],
+                [1, 1, 0, 0]
+        ]
+    }
+}
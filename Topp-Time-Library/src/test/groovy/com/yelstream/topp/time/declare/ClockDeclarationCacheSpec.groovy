@@ -0,0 +1,71 @@
+package com.yelstream.topp.time.declare
+
+import spock.lang.Specification
+
+import java.time.Clock
+
+/**
+ * <p>
+ * Test suite addressing {@link ClockDeclarationCache}.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class ClockDeclarationCacheSpec extends Specification {
+    void "Verify declarations are parsed once and counted"() {
+        given:
+        ClockDeclarationCache cache = new ClockDeclarationCache(16)
+
+        when:
+        Clock clock0 = cache.createClock('systemInZoneUTC(adjustable)')
+        Clock clock1 = cache.createClock('systemInZoneUTC(adjustable)')
+
+        then:
+        cache.missCount == 1
+        cache.hitCount == 1
+        !clock0.is(clock1)
+        cache.getConfiguration('systemInZoneUTC(adjustable)').is(cache.getConfiguration('systemInZoneUTC(adjustable)'))
+    }
+
+    void "Verify clocks of shareable declarations are shared"() {
+        given:
+        ClockDeclarationCache cache = new ClockDeclarationCache(16)
+
+        expect:
+        cache.createClock(declaration).is(cache.createClock(declaration)) == shared
+
+        where:
+        declaration                                                  | shared
+        'systemInZoneUTC'                                            | true
+        'fixed(instant=2022-01-20T12:00:00Z,zone=UTC,multiplyBy=2)'  | true
+        'systemInZoneUTC(multiplyBy=2)'                              | false
+        'startingAtTime(localDateTime=2022-01-20T12:00,zone=UTC)'    | false
+        'fixed(instant=2022-01-20T12:00:00Z,zone=UTC,adjustable)'    | false
+    }
+
+    void "Verify size is bounded by eviction"() {
+        given:
+        ClockDeclarationCache cache = new ClockDeclarationCache(4)
+
+        when:
+        (0..<10).each { cache.createClock("fixed(instant=2022-01-20T12:00:0${it}Z,zone=UTC)") }
+
+        then:
+        cache.size() == 4
+        cache.evictionCount == 6
+        cache.missCount == 10
+    }
+
+    void "Verify declarations failing to parse are not kept"() {
+        given:
+        ClockDeclarationCache cache = new ClockDeclarationCache(4)
+
+        when:
+        cache.createClock('systemInZoneUTC(')
+
+        then:
+        thrown(IllegalArgumentException)
+        cache.size() == 0
+    }
+}
@@ -0,0 +1,63 @@
+package com.yelstream.topp.time.declare
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+/**
+ * <p>
+ * Test suite addressing {@link ClockDeclarationParser}.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class ClockDeclarationParserSpec extends Specification {
+    @Unroll
+    void "Verify parsing of valid declarations"() {
+        when:
+        Map<String, String> argumentMap = ClockDeclarationParser.parse(declaration)
+
+        then:
+        argumentMap == expectedArgumentMap
+        argumentMap.keySet() as List == expectedArgumentMap.keySet() as List
+
+        where:
+        declaration                                              | expectedArgumentMap
+        'systemInZoneUTC'                                        | [origin: 'systemInZoneUTC']
+        'systemInZoneUTC()'                                      | [origin: 'systemInZoneUTC']
+        'systemInZoneUTC(negate)'                                | [origin: 'systemInZoneUTC', negate: null]
+        'systemInZone(zone=Europe/Copenhagen,multiplyBy=60)'     | [origin: 'systemInZone', zone: 'Europe/Copenhagen', multiplyBy: '60']
+        'systemInZone(zone=GMT+01:00,scale.divideBy=2)'          | [origin: 'systemInZone', zone: 'GMT+01:00', 'scale.divideBy': '2']
+        'fixed(instant=,adjustable)'                             | [origin: 'fixed', instant: '', adjustable: null]
+        'fixed(name="a,b",other="x\\"y\\\\z")'                   | [origin: 'fixed', name: 'a,b', other: 'x"y\\z']
+        'fixed(name="(),")'                                      | [origin: 'fixed', name: '(),']
+        'fixed(name=a)b)'                                        | [origin: 'fixed', name: 'a)b']
+        'fixed(name=a b)'                                        | [origin: 'fixed', name: 'a b']
+    }
+
+    @Unroll
+    void "Verify position of syntax errors"() {
+        when:
+        ClockDeclarationParser.parse(declaration)
+
+        then:
+        ClockDeclarationSyntaxException ex = thrown()
+        ex.position == expectedPosition
+        ex.declaration == declaration
+
+        where:
+        declaration                      | expectedPosition
+        ''                               | 0
+        '(zone=UTC)'                     | 0
+        'system InZoneUTC'               | 6
+        'systemInZoneUTC('               | 16
+        'systemInZoneUTC(zone=UTC'       | 24
+        'systemInZoneUTC(zone=UTC,)'     | 25
+        'systemInZoneUTC(,zone=UTC)'     | 16
+        'systemInZoneUTC(zone="UTC")x'   | 27
+        'systemInZoneUTC(zone="UTC)'     | 26
+        'systemInZoneUTC(zone="UTC"x)'   | 26
+        'systemInZoneUTC(zone="U\\TC")'  | 24
+        'systemInZoneUTC(zone=U"TC)'     | 22
+    }
+}
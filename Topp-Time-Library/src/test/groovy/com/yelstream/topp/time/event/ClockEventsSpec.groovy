@@ -0,0 +1,100 @@
+package com.yelstream.topp.time.event
+
+import com.yelstream.topp.time.AdjustableClock
+import com.yelstream.topp.time.declare.ClockDeclaration
+import com.yelstream.topp.time.metric.ClockMetrics
+import com.yelstream.topp.time.metric.MeteredClock
+import jdk.jfr.Recording
+import jdk.jfr.consumer.RecordedEvent
+import jdk.jfr.consumer.RecordingFile
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Path
+import java.time.Clock
+import java.time.Duration
+import java.time.Instant
+import java.time.ZoneOffset
+
+/**
+ * <p>
+ * Test suite addressing the flight recorder events of clocks.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class ClockEventsSpec extends Specification {
+    static final Instant T0 = Instant.parse('2022-01-20T12:00:00Z')
+
+    @TempDir
+    Path directory
+
+    List<RecordedEvent> record(List<String> eventNames, Closure action) {
+        Path path = directory.resolve('recording.jfr')
+        Recording recording = new Recording()
+        try {
+            eventNames.each { recording.enable(it).withThreshold(Duration.ZERO) }
+            recording.start()
+            action.call()
+            recording.stop()
+            recording.dump(path)
+        } finally {
+            recording.close()
+        }
+        RecordingFile.readAllEvents(path).findAll { it.eventType.name in eventNames }
+    }
+
+    void "Verify events are disabled by default"() {
+        expect:
+        !new ClockAdjustmentEvent().isEnabled()
+        !new ClockDeclarationParseEvent().isEnabled()
+        !new ClockCreationEvent().isEnabled()
+        !new SlowClockReadEvent().isEnabled()
+    }
+
+    void "Verify adjustments are recorded"() {
+        given:
+        AdjustableClock clock = new AdjustableClock(Clock.fixed(T0, ZoneOffset.UTC))
+
+        when:
+        List<RecordedEvent> events = record([ClockAdjustmentEvent.NAME]) {
+            clock.adjustBy(Duration.ofHours(1L))
+        }
+
+        then:
+        events.size() == 1
+        events[0].getDuration('jump') == Duration.ofHours(1L)
+        events[0].getString('adjustment').contains('targetAnchorNanos=3600000000000')
+    }
+
+    void "Verify parsing and creation of clocks are recorded"() {
+        when:
+        String declaration = 'fixed(instant=2022-01-20T12:00:00Z,zone=UTC,offset=PT1H,adjustable)'
+        List<RecordedEvent> events = record([ClockDeclarationParseEvent.NAME, ClockCreationEvent.NAME]) {
+            new ClockDeclaration(declaration).toClock()
+        }
+
+        then:
+        events.find { it.eventType.name == ClockDeclarationParseEvent.NAME }?.getString('declaration') == declaration
+        events.find { it.eventType.name == ClockDeclarationParseEvent.NAME }?.getBoolean('succeeded')
+        events.find { it.eventType.name == ClockCreationEvent.NAME }?.getString('origin') == 'Fixed'
+    }
+
+    void "Verify slow reads of metered clocks are recorded"() {
+        given:
+        AdjustableClock slowClock = new AdjustableClock(Clock.fixed(T0, ZoneOffset.UTC), { Instant instant -> Thread.sleep(5L); instant })
+        MeteredClock clock = new MeteredClock(slowClock, new ClockMetrics('slow'), 1)
+
+        when:
+        List<RecordedEvent> events = record([SlowClockReadEvent.NAME]) {
+            clock.instant()
+        }
+
+        then:
+        events.size() == 1
+        events[0].getString('clock') == 'slow'
+        events[0].getString('method') == 'instant'
+        events[0].duration >= Duration.ofMillis(5L)
+    }
+}
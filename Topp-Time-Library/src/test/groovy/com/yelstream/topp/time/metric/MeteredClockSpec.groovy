@@ -0,0 +1,208 @@
+package com.yelstream.topp.time.metric
+
+import com.yelstream.topp.time.AdjustableClock
+import com.yelstream.topp.time.EpochNanos
+import com.yelstream.topp.time.declare.ClockDeclaration
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import javax.management.MBeanServer
+import javax.management.ObjectName
+import java.lang.management.ManagementFactory
+import java.time.Clock
+import java.time.Duration
+import java.time.Instant
+import java.time.ZoneId
+import java.time.ZoneOffset
+
+/**
+ * <p>
+ * Test suite addressing {@link MeteredClock} and {@link LatencyHistogram}.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class MeteredClockSpec extends Specification {
+    static final Instant T0 = Instant.parse('2022-01-20T12:00:00Z')
+
+    void "Verify reads are counted and sampled"() {
+        given:
+        ClockMetrics metrics = new ClockMetrics('test')
+        MeteredClock clock = new MeteredClock(Clock.fixed(T0, ZoneOffset.UTC), metrics, 1)
+
+        when:
+        3.times { clock.instant() }
+        2.times { clock.millis() }
+        long epochNanos = clock.epochNanos()
+
+        then:
+        epochNanos == EpochNanos.of(T0)
+        metrics.instantCount == 3L
+        metrics.millisCount == 2L
+        metrics.epochNanosCount == 1L
+        metrics.readCount == 6L
+        metrics.readLatencySampleCount == 6L
+        metrics.readLatencyMaxNanos >= metrics.readLatency50thPercentileNanos
+
+        when:
+        metrics.reset()
+
+        then:
+        metrics.readCount == 0L
+        metrics.readLatencySampleCount == 0L
+    }
+
+    void "Verify clocks in other zones share metrics"() {
+        given:
+        ClockMetrics metrics = new ClockMetrics('test')
+        MeteredClock clock = new MeteredClock(Clock.fixed(T0, ZoneOffset.UTC), metrics, MeteredClock.DEFAULT_SAMPLE_INTERVAL)
+
+        when:
+        Clock zonedClock = clock.withZone(ZoneId.of('Europe/Copenhagen'))
+        zonedClock.instant()
+        clock.instant()
+
+        then:
+        zonedClock.zone == ZoneId.of('Europe/Copenhagen')
+        metrics.withZoneCount == 1L
+        metrics.instantCount == 2L
+    }
+
+    void "Verify adjustments are counted"() {
+        given:
+        AdjustableClock adjustableClock = new AdjustableClock(Clock.fixed(T0, ZoneOffset.UTC))
+        ClockMetrics metrics = new ClockMetrics('test')
+        MeteredClock clock = new MeteredClock(adjustableClock, metrics, 1)
+        clock.withZone(ZoneId.of('Europe/Copenhagen'))
+
+        when:
+        adjustableClock.adjustBy(Duration.ofSeconds(1L))
+        adjustableClock.adjustBy(Duration.ofSeconds(1L))
+        clock.close()
+        adjustableClock.adjustBy(Duration.ofSeconds(1L))
+
+        then:
+        metrics.adjustmentCount == 2L
+        clock.instant() == T0.plusSeconds(3L)
+    }
+
+    void "Verify metered clocks are declarable and published through JMX"() {
+        given:
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer()
+        ObjectName objectName = new ObjectName('com.yelstream.topp.time:type=Clock,name="metered-spec"')
+
+        when:
+        Clock clock = ClockDeclaration.createClock('fixed(instant=2022-01-20T12:00:00Z,zone=UTC,adjustable,metered=metered-spec)')
+        clock.instant()
+        clock.millis()
+
+        then:
+        clock instanceof MeteredClock
+        server.isRegistered(objectName)
+        server.getAttribute(objectName, 'ReadCount') == 2L
+        server.getAttribute(objectName, 'Name') == 'metered-spec'
+
+        when:
+        ((MeteredClock)clock).close()
+
+        then:
+        !server.isRegistered(objectName)
+    }
+
+    void "Verify metered clocks of the same name share metrics published until the last is closed"() {
+        given:
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer()
+        ObjectName objectName = new ObjectName('com.yelstream.topp.time:type=Clock,name="metered-shared-spec"')
+        String declaration = 'fixed(instant=2022-01-20T12:00:00Z,zone=UTC,metered=metered-shared-spec)'
+
+        when:
+        MeteredClock clock1 = (MeteredClock)ClockDeclaration.createClock(declaration)
+        MeteredClock clock2 = (MeteredClock)ClockDeclaration.createClock(declaration)
+        clock1.instant()
+        clock2.instant()
+
+        then:
+        clock1.metrics.is(clock2.metrics)
+        server.getAttribute(objectName, 'ReadCount') == 2L
+
+        when:
+        clock1.close()
+        clock1.close()
+
+        then:
+        server.isRegistered(objectName)
+
+        when:
+        clock2.close()
+
+        then:
+        !server.isRegistered(objectName)
+    }
+
+    void "Verify metered clocks not given a name are published by their declaration"() {
+        given:
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer()
+        String declaration = 'fixed(zone=UTC,instant=2022-01-20T12:00:00Z,metered)'
+        ObjectName objectName = new ObjectName('com.yelstream.topp.time:type=Clock,name=' + ObjectName.quote(declaration))
+
+        when:
+        MeteredClock clock = (MeteredClock)ClockDeclaration.createClock('fixed(instant=2022-01-20T12:00:00Z,zone=UTC,metered)')
+        clock.instant()
+
+        then:
+        clock.metrics.name == declaration
+        server.isRegistered(objectName)
+        server.getAttribute(objectName, 'ReadCount') == 1L
+
+        when:
+        clock.close()
+
+        then:
+        !server.isRegistered(objectName)
+    }
+
+    void "Verify metered clocks created without a name are given unique names"() {
+        given:
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer()
+
+        when:
+        MeteredClock clock1 = MeteredClock.of(null, Clock.systemUTC())
+        MeteredClock clock2 = MeteredClock.of('', Clock.systemUTC())
+
+        then:
+        clock1.metrics.name != clock2.metrics.name
+        server.isRegistered(clock1.metrics.objectName)
+        server.isRegistered(clock2.metrics.objectName)
+
+        cleanup:
+        clock1?.close()
+        clock2?.close()
+    }
+
+    @Unroll
+    void "Verify histogram buckets resolve values with bounded error"() {
+        expect:
+        LatencyHistogram.getBucketUpperBound(LatencyHistogram.getBucketIndex(value)) >= value
+        LatencyHistogram.getBucketUpperBound(LatencyHistogram.getBucketIndex(value)) - value <= value.intdiv(LatencyHistogram.SUB_BUCKET_COUNT)
+
+        where:
+        value << [0L, 1L, 15L, 16L, 17L, 100L, 1_000L, 123_456_789L, 1L << 40, Long.MAX_VALUE]
+    }
+
+    void "Verify histogram percentiles"() {
+        given:
+        LatencyHistogram histogram = new LatencyHistogram()
+
+        when:
+        (1..1_000).each { histogram.record((long)it) }
+
+        then:
+        histogram.count == 1_000L
+        histogram.max == 1_000L
+        histogram.mean == 500.5d
+        histogram.getValueAtPercentile(50.0) >= 500L
+        histogram.getValueAtPercentile(50.0) <= 500L + 500L.intdiv(LatencyHistogram.SUB_BUCKET_COUNT)
+        histogram.getValueAtPercentile(100.0) == 1_000L
+    }
+}
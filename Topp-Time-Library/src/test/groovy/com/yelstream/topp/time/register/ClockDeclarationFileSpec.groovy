@@ -0,0 +1,131 @@
+package com.yelstream.topp.time.register
+
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.time.Clock
+import java.time.Instant
+
+/**
+ * <p>
+ * Test suite addressing {@link ClockDeclarationFile}.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class ClockDeclarationFileSpec extends Specification {
+    @TempDir
+    Path directory
+
+    void "Verify only changed declarations are applied on reload"() {
+        given:
+        Path path = directory.resolve('clocks.properties')
+        Files.writeString(path, 'clock.a=fixed(instant=2022-01-20T12:00:00Z,zone=UTC)\nclock.b=fixed(instant=2022-01-21T12:00:00Z,zone=UTC)\nother=value\n')
+        ClockRegister register = new ClockRegister({ String name -> null })
+        ClockDeclarationFile file = new ClockDeclarationFile(path, register)
+
+        when:
+        file.reload()
+        ClockHandle handleA = register.getClock('a')
+        ClockHandle handleB = register.getClock('b')
+        Clock clockB = handleB.clock
+
+        then:
+        file.declarations.keySet() == ['a', 'b'] as Set
+        handleA.instant() == Instant.parse('2022-01-20T12:00:00Z')
+        handleB.instant() == Instant.parse('2022-01-21T12:00:00Z')
+
+        when:
+        Files.writeString(path, 'clock.a=fixed(instant=2023-01-20T12:00:00Z,zone=UTC)\nclock.b=fixed(instant=2022-01-21T12:00:00Z,zone=UTC)\n')
+        file.reload()
+
+        then:
+        register.getClock('a').is(handleA)
+        handleA.instant() == Instant.parse('2023-01-20T12:00:00Z')
+        handleB.clock.is(clockB)
+    }
+
+    void "Verify invalid declarations keep the current clock"() {
+        given:
+        Path path = directory.resolve('clocks.properties')
+        Files.writeString(path, 'clock.a=fixed(instant=2022-01-20T12:00:00Z,zone=UTC)\n')
+        ClockRegister register = new ClockRegister({ String name -> null })
+        ClockDeclarationFile file = new ClockDeclarationFile(path, register)
+        file.reload()
+
+        when:
+        Files.writeString(path, 'clock.a=fixed(instant=2022-01-20T12:00:00Z\n')
+        file.reload()
+
+        then:
+        register.getClock('a').instant() == Instant.parse('2022-01-20T12:00:00Z')
+        file.declarations['a'] == 'fixed(instant=2022-01-20T12:00:00Z,zone=UTC)'
+    }
+
+    void "Verify removed declarations are refreshed by the register"() {
+        given:
+        Path path = directory.resolve('clocks.properties')
+        Files.writeString(path, 'clock.a=fixed(instant=2022-01-20T12:00:00Z,zone=UTC)\n')
+        Clock fallback = Clock.fixed(Instant.parse('2000-01-01T00:00:00Z'), java.time.ZoneOffset.UTC)
+        ClockRegister register = new ClockRegister({ String name -> fallback })
+        ClockDeclarationFile file = new ClockDeclarationFile(path, register)
+        file.reload()
+
+        when:
+        Files.writeString(path, '')
+        file.reload()
+
+        then:
+        file.declarations.isEmpty()
+        register.getClock('a').clock.is(fallback)
+    }
+
+    void "Verify changes to a watched file are applied"() {
+        given:
+        Path path = directory.resolve('clocks.properties')
+        Files.writeString(path, 'clock.a=fixed(instant=2022-01-20T12:00:00Z,zone=UTC)\n')
+        ClockRegister register = new ClockRegister({ String name -> null })
+
+        when:
+        ClockDeclarationFile file = ClockDeclarationFile.watch(path, register)
+        ClockHandle handle = register.getClock('a')
+        Files.writeString(path, 'clock.a=fixed(instant=2023-01-20T12:00:00Z,zone=UTC)\n')
+        long deadline = System.nanoTime() + 10_000_000_000L
+        while (handle.instant() != Instant.parse('2023-01-20T12:00:00Z') && System.nanoTime() < deadline) {
+            Thread.sleep(10)
+        }
+
+        then:
+        handle.instant() == Instant.parse('2023-01-20T12:00:00Z')
+
+        cleanup:
+        file?.close()
+    }
+
+    void "Verify a watched file keeps being watched after failing to reload"() {
+        given:
+        Path path = directory.resolve('clocks.properties')
+        Files.writeString(path, 'clock.a=fixed(instant=2022-01-20T12:00:00Z,zone=UTC)\n')
+        ClockRegister register = new ClockRegister({ String name -> null })
+
+        when:
+        ClockDeclarationFile file = ClockDeclarationFile.watch(path, register)
+        ClockHandle handle = register.getClock('a')
+        Files.writeString(path, 'clock.a=\\uZZZZ\n')
+        Thread.sleep(1_000)
+        Files.writeString(path, 'clock.a=fixed(instant=2023-01-20T12:00:00Z,zone=UTC)\n')
+        long deadline = System.nanoTime() + 10_000_000_000L
+        while (handle.instant() != Instant.parse('2023-01-20T12:00:00Z') && System.nanoTime() < deadline) {
+            Thread.sleep(10)
+        }
+
+        then:
+        handle.instant() == Instant.parse('2023-01-20T12:00:00Z')
+
+        cleanup:
+        file?.close()
+    }
+}
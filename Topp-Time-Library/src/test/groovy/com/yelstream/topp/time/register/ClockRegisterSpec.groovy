@@ -0,0 +1,63 @@
+package com.yelstream.topp.time.register
+
+import com.yelstream.topp.time.declare.ClockDeclaration
+import spock.lang.Specification
+
+import java.time.Clock
+import java.time.Instant
+import java.time.ZoneOffset
+
+/**
+ * <p>
+ * Test suite addressing {@link ClockRegister}.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class ClockRegisterSpec extends Specification {
+    void "Verify clocks are created once and shared by name"() {
+        given:
+        int count = 0
+        ClockRegister register = new ClockRegister({ String name ->
+            count++
+            name == 'unknown' ? null : ClockDeclaration.createClock('fixed(instant=2022-01-20T12:00:00Z,zone=UTC)')
+        })
+
+        when:
+        ClockHandle handle0 = register.getClock('test')
+        ClockHandle handle1 = register.getClock('test')
+
+        then:
+        handle0.is(handle1)
+        count == 1
+        handle0.instant() == Instant.parse('2022-01-20T12:00:00Z')
+        register.getClock('unknown') == null
+        register.names == ['test'] as Set
+    }
+
+    void "Verify replaced clocks are seen through existing handles"() {
+        given:
+        ClockRegister register = new ClockRegister({ String name -> null })
+        Clock clock0 = Clock.fixed(Instant.parse('2022-01-20T12:00:00Z'), ZoneOffset.UTC)
+        Clock clock1 = Clock.fixed(Instant.parse('2022-01-20T13:00:00Z'), ZoneOffset.UTC)
+
+        when:
+        ClockHandle handle = register.setClock('test', clock0)
+
+        then:
+        handle.instant() == clock0.instant()
+
+        when:
+        Clock previousClock = register.replaceClock('test', clock1)
+
+        then:
+        previousClock.is(clock0)
+        handle.instant() == clock1.instant()
+        register.setClock('test', clock0).is(handle)
+        handle.instant() == clock0.instant()
+        !handle.compareAndSwap(clock1, clock1)
+        handle.compareAndSwap(clock0, clock1)
+        handle.instant() == clock1.instant()
+    }
+}
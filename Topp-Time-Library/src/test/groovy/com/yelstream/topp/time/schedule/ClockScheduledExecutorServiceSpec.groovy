@@ -0,0 +1,154 @@
+package com.yelstream.topp.time.schedule
+
+import com.yelstream.topp.time.AdjustableClock
+import com.yelstream.topp.time.Scale
+import com.yelstream.topp.time.declare.ClockDeclaration
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.time.Clock
+import java.time.Duration
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ScheduledFuture
+import java.util.concurrent.TimeUnit
+
+/**
+ * <p>
+ * Test suite addressing {@link ClockScheduledExecutorService}.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class ClockScheduledExecutorServiceSpec extends Specification {
+    void "Verify delays follow a scaled timeline"() {
+        given:
+        Clock clock = ClockDeclaration.createClock('systemInZoneUTC(multiplyBy=3600)')
+        ClockScheduledExecutorService executor = new ClockScheduledExecutorService(clock, 1)
+        CountDownLatch latch = new CountDownLatch(1)
+
+        when:
+        long start = System.nanoTime()
+        ScheduledFuture<?> future = executor.schedule({ latch.countDown() } as Runnable, 1L, TimeUnit.HOURS)
+        long delay = future.getDelay(TimeUnit.MINUTES)
+        boolean fired = latch.await(10L, TimeUnit.SECONDS)
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start)
+
+        then:
+        delay >= 55L && delay <= 60L
+        fired
+        elapsed >= Duration.ofMillis(900L)
+        elapsed < Duration.ofSeconds(5L)
+
+        cleanup:
+        executor.shutdown()
+    }
+
+    void "Verify periodic tasks follow a scaled timeline"() {
+        given:
+        Clock clock = ClockDeclaration.createClock('systemInZoneUTC(multiplyBy=36000)')
+        ClockScheduledExecutorService executor = new ClockScheduledExecutorService(clock, 1)
+        CountDownLatch fixedRateLatch = new CountDownLatch(3)
+        CountDownLatch fixedDelayLatch = new CountDownLatch(3)
+
+        when:
+        ScheduledFuture<?> fixedRateFuture = executor.scheduleAtFixedRate({ fixedRateLatch.countDown() } as Runnable, 1L, 1L, TimeUnit.HOURS)
+        ScheduledFuture<?> fixedDelayFuture = executor.scheduleWithFixedDelay({ fixedDelayLatch.countDown() } as Runnable, 1L, 1L, TimeUnit.HOURS)
+
+        then:
+        fixedRateLatch.await(10L, TimeUnit.SECONDS)
+        fixedDelayLatch.await(10L, TimeUnit.SECONDS)
+        fixedRateFuture.periodic
+        !fixedRateFuture.done
+
+        cleanup:
+        executor.shutdown()
+    }
+
+    void "Verify pending tasks are re-planned when the timeline is adjusted"() {
+        given:
+        AdjustableClock clock = new AdjustableClock(Clock.systemUTC())
+        ClockScheduledExecutorService executor = new ClockScheduledExecutorService(clock, 1)
+        CountDownLatch latch = new CountDownLatch(1)
+
+        when:
+        executor.schedule({ latch.countDown() } as Runnable, 1L, TimeUnit.DAYS)
+
+        then:
+        !latch.await(200L, TimeUnit.MILLISECONDS)
+
+        when:
+        clock.adjustBy(Duration.ofDays(1L))
+
+        then:
+        latch.await(5L, TimeUnit.SECONDS)
+
+        cleanup:
+        executor.shutdown()
+    }
+
+    void "Verify tasks wait while the timeline stands still"() {
+        given:
+        AdjustableClock clock = new AdjustableClock(Clock.systemUTC())
+        clock.setRate(Scale.ZERO)
+        ClockScheduledExecutorService executor = new ClockScheduledExecutorService(clock, 1)
+        CountDownLatch latch = new CountDownLatch(1)
+
+        when:
+        executor.schedule({ latch.countDown() } as Runnable, 10L, TimeUnit.MILLISECONDS)
+
+        then:
+        !latch.await(200L, TimeUnit.MILLISECONDS)
+
+        when:
+        clock.setRate(Scale.IDENTITY)
+
+        then:
+        latch.await(5L, TimeUnit.SECONDS)
+
+        cleanup:
+        executor.shutdown()
+    }
+
+    void "Verify shutdown cancels pending tasks"() {
+        given:
+        ClockScheduledExecutorService executor = new ClockScheduledExecutorService(Clock.systemUTC(), 1)
+        ScheduledFuture<?> future = executor.schedule({ } as Runnable, 1L, TimeUnit.HOURS)
+
+        when:
+        List<Runnable> pendingTasks = executor.shutdownNow()
+
+        then:
+        future.cancelled
+        pendingTasks.contains(future)
+        executor.awaitTermination(5L, TimeUnit.SECONDS)
+    }
+
+    @Unroll
+    void "Verify huge delay of #delay #unit does not wrap into the past"() {
+        given:
+        Clock clock = ClockDeclaration.createClock('systemInZoneUTC(multiplyBy=3600)')
+        ClockScheduledExecutorService executor = new ClockScheduledExecutorService(clock, 1)
+        CountDownLatch latch = new CountDownLatch(1)
+
+        when:
+        ScheduledFuture<?> future = executor.schedule({ latch.countDown() } as Runnable, delay, unit)
+        ScheduledFuture<?> periodicFuture = executor.scheduleAtFixedRate({ latch.countDown() } as Runnable, delay, 1L, unit)
+
+        then:
+        !latch.await(500L, TimeUnit.MILLISECONDS)
+        future.getDelay(TimeUnit.DAYS) > 365L * 100L
+        periodicFuture.getDelay(TimeUnit.DAYS) > 365L * 100L
+        !future.done
+
+        cleanup:
+        executor.shutdownNow()
+
+        where:
+        delay                 | unit
+        Long.MAX_VALUE        | TimeUnit.NANOSECONDS
+        Long.MAX_VALUE - 1L   | TimeUnit.NANOSECONDS
+        Long.MAX_VALUE        | TimeUnit.DAYS
+        1_000_000_000L        | TimeUnit.DAYS
+    }
+}
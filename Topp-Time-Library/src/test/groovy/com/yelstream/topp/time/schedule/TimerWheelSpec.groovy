@@ -0,0 +1,201 @@
+package com.yelstream.topp.time.schedule
+
+import com.yelstream.topp.time.AdjustableClock
+import com.yelstream.topp.time.build.ClockConfiguration
+import com.yelstream.topp.time.declare.ClockDeclaration
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.time.Clock
+import java.time.Duration
+import java.time.Instant
+import java.time.ZoneOffset
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+/**
+ * <p>
+ * Test suite addressing {@link TimerWheel}.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class TimerWheelSpec extends Specification {
+    static final Instant T0 = Instant.parse('2022-01-20T12:00:00Z')
+
+    AdjustableClock clock = new AdjustableClock(Clock.fixed(T0, ZoneOffset.UTC))
+
+    void "Verify timers expire in batches at their deadlines"() {
+        given:
+        TimerWheel wheel = new TimerWheel(clock, Duration.ofMillis(1L))
+        List<String> expired = []
+
+        when:
+        wheel.schedule({ expired << 'a' } as Runnable, Duration.ofMillis(5L))
+        wheel.schedule({ expired << 'b' } as Runnable, Duration.ofMillis(5L))
+        wheel.schedule({ expired << 'c' } as Runnable, Duration.ofMillis(70L))
+        wheel.schedule({ expired << 'd' } as Runnable, Duration.ofSeconds(5L))
+        TimerWheel.Timer timer = wheel.schedule({ expired << 'e' } as Runnable, Duration.ofDays(1L))
+        clock.adjustBy(Duration.ofMillis(4L))
+
+        then:
+        wheel.advance() == 0
+
+        when:
+        clock.adjustBy(Duration.ofMillis(1L))
+
+        then:
+        wheel.advance() == 2
+        expired == ['b', 'a'] || expired == ['a', 'b']
+
+        when:
+        clock.adjustBy(Duration.ofMillis(65L))
+
+        then:
+        wheel.advance() == 1
+        expired.last() == 'c'
+
+        when:
+        clock.adjustBy(Duration.ofSeconds(10L))
+
+        then:
+        wheel.advance() == 1
+        expired.last() == 'd'
+        !timer.expired
+        timer.deadline == T0.plus(Duration.ofDays(1L))
+
+        when:
+        clock.adjustBy(Duration.ofDays(1L))
+
+        then:
+        wheel.advance() == 1
+        expired.last() == 'e'
+        timer.expired
+        !timer.cancel()
+    }
+
+    void "Verify cancelled timers do not expire"() {
+        given:
+        TimerWheel wheel = new TimerWheel(clock)
+        int count = 0
+        TimerWheel.Timer timer0 = wheel.schedule({ count++ } as Runnable, Duration.ofMillis(10L))
+        TimerWheel.Timer timer1 = wheel.schedule({ count++ } as Runnable, Duration.ofMillis(10L))
+
+        when:
+        timer0.cancel()
+        wheel.advance()
+        timer1.cancel()
+        clock.adjustBy(Duration.ofSeconds(1L))
+
+        then:
+        wheel.advance() == 0
+        count == 0
+        timer0.cancelled
+        timer1.cancelled
+    }
+
+    void "Verify timers expire exactly when their deadline tick has passed"() {
+        given:
+        TimerWheel wheel = new TimerWheel(clock, Duration.ofMillis(1L))
+        Random random = new Random(1234L)
+        Map<Integer, Instant> expiredAt = [:]
+        List<Instant> deadlines = []
+        10_000.times { int index ->
+            Duration delay = Duration.ofMillis(random.nextInt(10) == 0 ? (long)random.nextInt(100_000_000) : (long)random.nextInt(100_000))
+            deadlines << T0.plus(delay)
+            wheel.schedule({ expiredAt[index] = clock.instant() } as Runnable, delay)
+        }
+
+        when:
+        List<Instant> advances = []
+        while (expiredAt.size() < deadlines.size()) {
+            clock.adjustBy(Duration.ofMillis(random.nextInt(5) == 0 ? (long)random.nextInt(10_000_000) : (long)random.nextInt(1_000)))
+            wheel.advance()
+            advances << clock.instant()
+        }
+
+        then:
+        deadlines.indices.every { int index ->
+            Instant deadline = deadlines[index]
+            Instant expected = advances.find { !it.isBefore(deadline) }
+            expiredAt[index] == expected
+        }
+    }
+
+    @Unroll
+    void "Verify timers cascaded on their deadline tick of #delayNanos ns expire on time"() {
+        given:
+        TimerWheel wheel = new TimerWheel(clock, Duration.ofNanos(1L))
+        int count = 0
+        wheel.schedule({ count++ } as Runnable, Duration.ofNanos(delayNanos))
+
+        when:
+        clock.adjustByNanos(delayNanos - 1L)
+        int expiredBefore = wheel.advance()
+        clock.adjustByNanos(1L)
+        int expiredAt = wheel.advance()
+
+        then:
+        expiredBefore == 0
+        expiredAt == 1
+        count == 1
+
+        where:
+        delayNanos << [64L, 128L, 4_096L, 8_192L, 64L * 4_096L, 3L * 64L * 4_096L]
+    }
+
+    void "Verify timeline jumps are handled without walking every tick"() {
+        given:
+        TimerWheel wheel = new TimerWheel(clock, Duration.ofNanos(1L))
+        int count = 0
+        wheel.schedule({ count++ } as Runnable, Duration.ofDays(365L))
+        wheel.schedule({ count++ } as Runnable, Duration.ofDays(3650L))
+
+        when:
+        clock.adjustBy(Duration.ofDays(365L * 20L))
+        long start = System.nanoTime()
+        int expired = wheel.advance()
+
+        then:
+        expired == 2
+        count == 2
+        Duration.ofNanos(System.nanoTime() - start) < Duration.ofSeconds(5L)
+    }
+
+    void "Verify timers may be scheduled concurrently"() {
+        given:
+        TimerWheel wheel = new TimerWheel(clock)
+        def executor = Executors.newFixedThreadPool(4)
+        int count = 0
+
+        when:
+        4.times {
+            executor.submit({
+                10_000.times { wheel.schedule({ count++ } as Runnable, Duration.ofMillis(100L)) }
+            } as Runnable)
+        }
+        executor.shutdown()
+        executor.awaitTermination(30L, TimeUnit.SECONDS)
+        clock.adjustBy(Duration.ofSeconds(1L))
+
+        then:
+        wheel.advance() == 40_000
+        count == 40_000
+    }
+
+    void "Verify wheel tick follows the tick of a configured timeline"() {
+        given:
+        ClockConfiguration configuration = new ClockDeclaration(declaration).toClockConfiguration()
+
+        expect:
+        TimerWheel.of(configuration).tickDuration == tickDuration
+
+        where:
+        declaration                                      || tickDuration
+        'systemInZoneUTC()'                              || TimerWheel.DEFAULT_TICK_DURATION
+        'systemInZoneUTC(tick=PT0.01S)'                  || Duration.ofMillis(10L)
+        'systemInZoneUTC(tick=PT1S,multiplyBy=60)'       || Duration.ofMinutes(1L)
+        'systemInZoneUTC(tick=PT1S,multiplyBy=60,negate)'|| Duration.ofMinutes(1L)
+    }
+}
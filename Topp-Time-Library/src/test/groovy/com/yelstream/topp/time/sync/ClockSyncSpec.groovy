@@ -0,0 +1,268 @@
+package com.yelstream.topp.time.sync
+
+import com.yelstream.topp.time.AdjustableClock
+import com.yelstream.topp.time.EpochNanos
+import com.yelstream.topp.time.InstantScaledClock
+import com.yelstream.topp.time.Scale
+import spock.lang.Specification
+
+import java.net.DatagramSocket
+import java.net.InetAddress
+import java.net.InetSocketAddress
+import java.time.Clock
+import java.time.Duration
+import java.time.Instant
+import java.time.ZoneId
+import java.time.ZoneOffset
+import java.util.concurrent.atomic.AtomicBoolean
+
+/**
+ * <p>
+ * Test suite addressing {@link ClockSyncCoordinator} and {@link ClockSyncFollower} over loopback.
+ * </p>
+ * @author Morten Sabroe Mortenen
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class ClockSyncSpec extends Specification {
+    private static InetSocketAddress loopback() {
+        return new InetSocketAddress(InetAddress.getLoopbackAddress(), 0)
+    }
+
+    void "Verify followers are aligned with a shifted and accelerated timeline"() {
+        given:
+        Clock coordinatorClock = new InstantScaledClock(Clock.offset(Clock.systemUTC(), Duration.ofDays(1)), Scale.of(10), Instant.now().minusSeconds(3600))
+        ClockSyncCoordinator coordinator = ClockSyncCoordinator.start(coordinatorClock, loopback())
+        List<AdjustableClock> clocks = (0..<5).collect { new AdjustableClock(Clock.systemUTC()) }
+        List<ClockSyncFollower> followers = clocks.collect { ClockSyncFollower.builder().clock(it).coordinatorAddress(coordinator.localAddress).build() }
+
+        when:
+        boolean synced = followers.every { it.synchronize() }
+
+        then:
+        synced
+        followers.every { it.isSynchronized() && it.roundCount == 1 && it.roundTripDelayNanos >= 0 }
+        clocks.every { it.adjustment.rate == Scale.of(10) }
+        clocks.every { Math.abs(EpochNanos.of(it) - EpochNanos.of(coordinatorClock)) < Duration.ofMillis(200).toNanos() }
+
+        cleanup:
+        coordinator?.close()
+    }
+
+    void "Verify offsets are slewed with a bounded rate and never stepped after the first round"() {
+        given:
+        AdjustableClock coordinatorClock = new AdjustableClock(Clock.systemUTC())
+        ClockSyncCoordinator coordinator = ClockSyncCoordinator.start(coordinatorClock, loopback())
+        AdjustableClock clock = new AdjustableClock(Clock.systemUTC())
+        ClockSyncFollower follower = ClockSyncFollower.builder()
+                .clock(clock)
+                .coordinatorAddress(coordinator.localAddress)
+                .pollInterval(Duration.ofSeconds(1))
+                .maximumSlewPpm(500)
+                .build()
+
+        when:
+        follower.synchronize()
+        coordinatorClock.adjustBy(Duration.ofSeconds(1))
+        follower.synchronize()
+
+        then:
+        follower.roundCount == 2
+        Math.abs(follower.offsetNanos - 1_000_000_000L) < 20_000_000L
+        follower.maximumOffsetNanos == Math.abs(follower.offsetNanos)
+        follower.slewPpb == 500_000L
+        clock.adjustment.rate == Scale.of(1_000_500, 1_000_000)
+        Math.abs(EpochNanos.of(coordinatorClock) - EpochNanos.of(clock) - 1_000_000_000L) < 20_000_000L
+
+        when:
+        coordinatorClock.adjustBy(Duration.ofSeconds(-2))
+        follower.synchronize()
+
+        then:
+        follower.slewPpb == -500_000L
+        clock.adjustment.rate == Scale.of(999_500, 1_000_000)
+
+        cleanup:
+        coordinator?.close()
+    }
+
+    void "Verify small offsets are slewed in proportion to the poll interval"() {
+        given:
+        AdjustableClock coordinatorClock = new AdjustableClock(Clock.systemUTC())
+        ClockSyncCoordinator coordinator = ClockSyncCoordinator.start(coordinatorClock, loopback())
+        AdjustableClock clock = new AdjustableClock(Clock.systemUTC())
+        ClockSyncFollower follower = ClockSyncFollower.builder()
+                .clock(clock)
+                .coordinatorAddress(coordinator.localAddress)
+                .pollInterval(Duration.ofSeconds(10))
+                .build()
+
+        when:
+        follower.synchronize()
+        coordinatorClock.adjustBy(Duration.ofMillis(2))
+        follower.synchronize()
+
+        then:
+        follower.slewPpb > 100_000L
+        follower.slewPpb < 300_000L
+
+        cleanup:
+        coordinator?.close()
+    }
+
+    void "Verify followers synchronize continuously until closed"() {
+        given:
+        AdjustableClock coordinatorClock = new AdjustableClock(Clock.systemUTC())
+        coordinatorClock.setTo(Instant.parse('2030-01-01T00:00:00Z'))
+        ClockSyncCoordinator coordinator = ClockSyncCoordinator.start(coordinatorClock, loopback())
+        AdjustableClock clock = new AdjustableClock(Clock.systemUTC())
+        ClockSyncFollower follower = ClockSyncFollower.builder()
+                .clock(clock)
+                .coordinatorAddress(coordinator.localAddress)
+                .pollInterval(Duration.ofMillis(10))
+                .build()
+
+        when:
+        follower.start()
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos()
+        while (follower.roundCount < 3 && System.nanoTime() < deadline) {
+            Thread.sleep(5)
+        }
+        follower.close()
+
+        then:
+        follower.roundCount >= 3
+        follower.failureCount == 0
+        Math.abs(EpochNanos.of(coordinatorClock) - EpochNanos.of(clock)) < Duration.ofMillis(50).toNanos()
+
+        cleanup:
+        follower?.close()
+        coordinator?.close()
+    }
+
+    void "Verify the first round steps the timeline and sets the rate as a single adjustment"() {
+        given:
+        Clock coordinatorClock = new InstantScaledClock(Clock.offset(Clock.systemUTC(), Duration.ofDays(1)), Scale.of(10), Instant.now().minusSeconds(3600))
+        ClockSyncCoordinator coordinator = ClockSyncCoordinator.start(coordinatorClock, loopback())
+        AdjustableClock clock = new AdjustableClock(Clock.systemUTC())
+        List<AdjustableClock.Adjustment> adjustments = []
+        clock.addAdjustmentListener({ adjustableClock, previousAdjustment, adjustment -> adjustments << adjustment } as AdjustableClock.AdjustmentListener)
+        ClockSyncFollower follower = ClockSyncFollower.builder().clock(clock).coordinatorAddress(coordinator.localAddress).build()
+
+        when:
+        boolean synced = follower.synchronize()
+
+        then:
+        synced
+        adjustments.size() == 1
+        adjustments[0] == clock.adjustment
+        adjustments[0].rate == Scale.of(10)
+        Math.abs(EpochNanos.of(clock) - EpochNanos.of(coordinatorClock)) < Duration.ofMillis(200).toNanos()
+
+        cleanup:
+        coordinator?.close()
+    }
+
+    void "Verify coordinators are started once and keep answering after failing to answer a request"() {
+        given:
+        AtomicBoolean failing = new AtomicBoolean(true)
+        Clock coordinatorClock = new Clock() {
+            @Override
+            ZoneId getZone() {
+                return ZoneOffset.UTC
+            }
+
+            @Override
+            Clock withZone(ZoneId zone) {
+                return this
+            }
+
+            @Override
+            Instant instant() {
+                if (failing.getAndSet(false)) {
+                    throw new ArithmeticException('Failure to represent time!')
+                }
+                return Instant.now()
+            }
+        }
+        ClockSyncCoordinator coordinator = new ClockSyncCoordinator(coordinatorClock, loopback())
+        ClockSyncFollower follower = ClockSyncFollower.builder()
+                .clock(new AdjustableClock(Clock.systemUTC()))
+                .coordinatorAddress(coordinator.localAddress)
+                .sampleCount(1)
+                .timeout(Duration.ofMillis(200))
+                .build()
+
+        when:
+        coordinator.start()
+        Thread thread = coordinator.thread
+        coordinator.start()
+        boolean syncedFirst = follower.synchronize()
+        boolean syncedSecond = follower.synchronize()
+
+        then:
+        coordinator.thread.is(thread)
+        !syncedFirst
+        syncedSecond
+
+        cleanup:
+        coordinator?.close()
+    }
+
+    void "Verify rounds fail when no coordinator responds"() {
+        given:
+        DatagramSocket silent = new DatagramSocket(loopback())
+        AdjustableClock clock = new AdjustableClock(Clock.systemUTC())
+        ClockSyncFollower follower = ClockSyncFollower.builder()
+                .clock(clock)
+                .coordinatorAddress(silent.localSocketAddress)
+                .sampleCount(1)
+                .timeout(Duration.ofMillis(20))
+                .build()
+
+        when:
+        boolean synced = follower.synchronize()
+
+        then:
+        !synced
+        !follower.isSynchronized()
+        follower.failureCount == 1
+        clock.adjustment == AdjustableClock.Adjustment.NONE
+
+        cleanup:
+        silent?.close()
+    }
+
+    void "Verify datagrams are encoded and decoded"() {
+        given:
+        ClockSyncProtocol.Response response = new ClockSyncProtocol.Response(7L, 1L, 2L, 3L, Scale.of(-3, 2))
+
+        when:
+        byte[] requestBytes = ClockSyncProtocol.encodeRequest(7L, 1L)
+        byte[] responseBytes = ClockSyncProtocol.encodeResponse(response)
+
+        then:
+        ClockSyncProtocol.decodeRequest(requestBytes, requestBytes.length).originateNanos == 1L
+        ClockSyncProtocol.decodeResponse(requestBytes, requestBytes.length) == null
+        ClockSyncProtocol.decodeRequest(responseBytes, responseBytes.length) == null
+        ClockSyncProtocol.decodeResponse(responseBytes, responseBytes.length - 1) == null
+
+        when:
+        ClockSyncProtocol.Response decoded = ClockSyncProtocol.decodeResponse(responseBytes, responseBytes.length)
+
+        then:
+        decoded.sequence == 7L
+        decoded.originateNanos == 1L
+        decoded.receiveNanos == 2L
+        decoded.transmitNanos == 3L
+        decoded.rate == Scale.of(-3, 2)
+    }
+
+    void "Verify followers require a clock and a coordinator"() {
+        when:
+        ClockSyncFollower.builder().clock(new AdjustableClock(Clock.systemUTC())).build()
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+}